@@ -0,0 +1,69 @@
+package com.luizalabs.orders.dataprovider.adapter;
+
+import com.luizalabs.orders.common.util.Money;
+import com.luizalabs.orders.dataprovider.repository.DailyOrderStatsRepository;
+import com.luizalabs.orders.dataprovider.table.DailyOrderStatsTable;
+import com.luizalabs.orders.domain.dto.DailyOrderStats;
+import com.luizalabs.orders.usecase.port.data.DailyOrderStatsPort;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyOrderStatsAdapter implements DailyOrderStatsPort {
+
+    private static final String UPSERT_SQL =
+            """
+            INSERT INTO daily_order_stats (stat_date, order_count, product_count, revenue)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (stat_date) DO UPDATE SET
+                order_count = daily_order_stats.order_count + EXCLUDED.order_count,
+                product_count = daily_order_stats.product_count + EXCLUDED.product_count,
+                revenue = daily_order_stats.revenue + EXCLUDED.revenue,
+                updated_at = NOW()
+            """;
+
+    private final DailyOrderStatsRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyDeltas(List<DailyOrderStats> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        log.info("Atualizando estatísticas diárias de {} datas", deltas.size());
+
+        jdbcTemplate.batchUpdate(
+                UPSERT_SQL,
+                deltas,
+                deltas.size(),
+                (ps, stats) -> {
+                    ps.setObject(1, stats.getDate());
+                    ps.setLong(2, stats.getOrderCount());
+                    ps.setLong(3, stats.getProductCount());
+                    ps.setBigDecimal(4, Money.toBigDecimal(stats.getRevenueCents()));
+                });
+    }
+
+    @Override
+    public List<DailyOrderStats> findBetween(LocalDate start, LocalDate end) {
+        log.info("Buscando estatísticas diárias entre {} e {}", start, end);
+        return repository.findByStatDateBetweenOrderByStatDate(start, end).stream()
+                .map(this::toStats)
+                .toList();
+    }
+
+    private DailyOrderStats toStats(DailyOrderStatsTable table) {
+        return DailyOrderStats.builder()
+                .date(table.getStatDate())
+                .orderCount(table.getOrderCount())
+                .productCount(table.getProductCount())
+                .revenueCents(Money.toCents(table.getRevenue()))
+                .build();
+    }
+}
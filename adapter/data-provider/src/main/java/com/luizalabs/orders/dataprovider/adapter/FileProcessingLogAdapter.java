@@ -3,19 +3,21 @@ package com.luizalabs.orders.dataprovider.adapter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.luizalabs.orders.dataprovider.repository.FileProcessingLogRepository;
+import com.luizalabs.orders.dataprovider.repository.FileProcessingLogRepository.LogSummaryView;
 import com.luizalabs.orders.dataprovider.table.FileProcessingLogTable;
-import com.luizalabs.orders.domain.dto.LineError;
+import com.luizalabs.orders.domain.dto.ErrorSummary;
 import com.luizalabs.orders.domain.enums.ProcessingStatus;
 import com.luizalabs.orders.domain.exception.FileProcessingException;
+import com.luizalabs.orders.domain.exception.InvalidProcessingStateException;
 import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -27,7 +29,7 @@ public class FileProcessingLogAdapter implements FileProcessingLogPort {
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
-    public Long createLog(String fileName, LocalDateTime uploadedAt) {
+    public Long createLog(String fileName, LocalDateTime uploadedAt, String ownerNode) {
         log.info("Criando log de processamento para arquivo: {}", fileName);
 
         FileProcessingLogTable logTable =
@@ -38,6 +40,10 @@ public class FileProcessingLogAdapter implements FileProcessingLogPort {
                         .totalLines(0)
                         .processedLines(0)
                         .errorLines(0)
+                        .committedUsers(0)
+                        .checkpointOffset(ResumePoint.START.offset())
+                        .checkpointLine(ResumePoint.START.line())
+                        .ownerNode(ownerNode)
                         .build();
 
         FileProcessingLogTable saved = repository.save(logTable);
@@ -53,7 +59,7 @@ public class FileProcessingLogAdapter implements FileProcessingLogPort {
             Integer totalLines,
             Integer processedLines,
             Integer errorLines,
-            List<LineError> errors) {
+            ErrorSummary errorSummary) {
         log.info(
                 "Atualizando log ID {}: status={}, totalLines={}, processedLines={}, errorLines={}",
                 logId,
@@ -73,14 +79,8 @@ public class FileProcessingLogAdapter implements FileProcessingLogPort {
         logTable.setProcessedLines(processedLines);
         logTable.setErrorLines(errorLines);
 
-        if (errors != null && !errors.isEmpty()) {
-            try {
-                String errorsJson = objectMapper.writeValueAsString(errors);
-                logTable.setErrors(errorsJson);
-            } catch (JsonProcessingException e) {
-                log.error("Erro ao serializar erros para JSON", e);
-                throw new FileProcessingException("Erro ao converter erros para JSON", e);
-            }
+        if (errorSummary != null) {
+            logTable.setErrorSummary(toJson(errorSummary));
         }
 
         long processingTime =
@@ -93,52 +93,158 @@ public class FileProcessingLogAdapter implements FileProcessingLogPort {
     }
 
     @Override
-    public Optional<LogInfo> findById(Long logId) {
-        log.info("Buscando log por ID: {}", logId);
-        return repository.findById(logId).map(this::toLogInfo);
+    public void updateProgress(
+            Long logId,
+            String ownerNode,
+            int committedUsers,
+            Long lastCommittedUserId,
+            ResumePoint resumePoint) {
+        log.debug(
+                "Checkpoint do log ID {}: {} usuários (último user_id={}, byte={}, linha={})",
+                logId,
+                committedUsers,
+                lastCommittedUserId,
+                resumePoint.offset(),
+                resumePoint.line());
+        int updated =
+                repository.updateProgress(
+                        logId,
+                        ownerNode,
+                        committedUsers,
+                        lastCommittedUserId,
+                        resumePoint.offset(),
+                        resumePoint.line());
+        if (updated == 0) {
+            throw new InvalidProcessingStateException(
+                    "Log ID " + logId + " não pertence mais ao nó " + ownerNode);
+        }
     }
 
     @Override
-    public List<LogInfo> findAll(int page, int size) {
-        log.info("Buscando todos os logs - page: {}, size: {}", page, size);
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by("uploadedAt").descending());
-        return repository.findAll(pageRequest).stream().map(this::toLogInfo).toList();
+    public void updateStatus(Long logId, ProcessingStatus status) {
+        log.info("Atualizando status do log ID {}: {}", logId, status);
+        if (repository.updateStatus(logId, status.name()) == 0) {
+            throw new FileProcessingException("Log não encontrado: " + logId);
+        }
     }
 
     @Override
-    public List<LogInfo> findByStatus(ProcessingStatus status, int page, int size) {
-        log.info("Buscando logs por status: {} - page: {}, size: {}", status, page, size);
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by("uploadedAt").descending());
-        return repository.findByStatus(status.name(), pageRequest).stream()
-                .map(this::toLogInfo)
+    public void markFailed(Long logId, String reason) {
+        log.warn("Marcando log ID {} como FAILED: {}", logId, reason);
+        if (repository.updateFailure(logId, ProcessingStatus.FAILED.name(), reason) == 0) {
+            throw new FileProcessingException("Log não encontrado: " + logId);
+        }
+    }
+
+    @Override
+    public void updateSpoolPath(Long logId, String spoolPath) {
+        repository.updateSpoolPath(logId, spoolPath);
+    }
+
+    @Override
+    public Optional<IngestCheckpoint> findCheckpoint(Long logId) {
+        return repository.findById(logId).map(this::toCheckpoint);
+    }
+
+    @Override
+    public List<IngestCheckpoint> findInterrupted(String ownerNode, Duration leaseDuration) {
+        return repository.findInterrupted(ownerNode, leaseDuration.toSeconds()).stream()
+                .map(this::toCheckpoint)
                 .toList();
     }
 
-    private LogInfo toLogInfo(FileProcessingLogTable table) {
-        List<LineError> errors = parseErrors(table.getErrors());
+    @Override
+    public boolean claim(Long logId, String ownerNode, Duration leaseDuration) {
+        boolean claimed = repository.claim(logId, ownerNode, leaseDuration.toSeconds()) == 1;
+        log.info("Lease do log ID {} para o nó {}: {}", logId, ownerNode, claimed);
+        return claimed;
+    }
+
+    @Override
+    public int renewLeases(String ownerNode, Collection<Long> logIds) {
+        return repository.renewLeases(ownerNode, logIds);
+    }
 
-        return new LogInfo(
+    @Override
+    public void releaseLease(Long logId, String ownerNode) {
+        repository.releaseLease(logId, ownerNode);
+    }
+
+    @Override
+    public Optional<LogSummary> findById(Long logId) {
+        log.info("Buscando log por ID: {}", logId);
+        return repository.findSummaryById(logId).map(this::toLogSummary);
+    }
+
+    @Override
+    public List<LogSummary> findPage(ProcessingStatus status, LogCursor after, int limit) {
+        log.info("Buscando logs - status: {}, após: {}, limite: {}", status, after, limit);
+        return findSummaries(status, after, Limit.of(limit)).stream()
+                .map(this::toLogSummary)
+                .toList();
+    }
+
+    private List<LogSummaryView> findSummaries(
+            ProcessingStatus status, LogCursor after, Limit limit) {
+        if (after == null) {
+            return status == null
+                    ? repository.findFirstSummaries(limit)
+                    : repository.findFirstSummariesByStatus(status.name(), limit);
+        }
+        return status == null
+                ? repository.findSummariesBefore(after.uploadedAt(), after.id(), limit)
+                : repository.findSummariesByStatusBefore(
+                        status.name(), after.uploadedAt(), after.id(), limit);
+    }
+
+    private LogSummary toLogSummary(LogSummaryView view) {
+        return new LogSummary(
+                view.getId(),
+                view.getFileName(),
+                view.getUploadedAt(),
+                ProcessingStatus.valueOf(view.getStatus()),
+                view.getTotalLines(),
+                view.getProcessedLines(),
+                view.getErrorLines(),
+                parseErrorSummary(view.getErrorSummary()),
+                view.getProcessingTimeMs(),
+                view.getFailureReason());
+    }
+
+    private IngestCheckpoint toCheckpoint(FileProcessingLogTable table) {
+        return new IngestCheckpoint(
                 table.getId(),
                 table.getFileName(),
-                table.getUploadedAt(),
                 ProcessingStatus.valueOf(table.getStatus()),
                 table.getTotalLines(),
                 table.getProcessedLines(),
                 table.getErrorLines(),
-                errors,
-                table.getProcessingTimeMs());
+                parseErrorSummary(table.getErrorSummary()),
+                table.getCommittedUsers(),
+                table.getLastCommittedUserId(),
+                new ResumePoint(table.getCheckpointOffset(), table.getCheckpointLine()),
+                table.getSpoolPath());
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.error("Erro ao serializar resumo de erros para JSON", e);
+            throw new FileProcessingException("Erro ao converter resumo de erros para JSON", e);
+        }
     }
 
-    private List<LineError> parseErrors(String errorsJson) {
-        if (errorsJson == null || errorsJson.isEmpty()) {
-            return List.of();
+    private ErrorSummary parseErrorSummary(String summaryJson) {
+        if (summaryJson == null || summaryJson.isEmpty()) {
+            return null;
         }
 
         try {
-            return List.of(objectMapper.readValue(errorsJson, LineError[].class));
+            return objectMapper.readValue(summaryJson, ErrorSummary.class);
         } catch (JsonProcessingException e) {
-            log.error("Erro ao desserializar erros do JSON", e);
-            return List.of();
+            log.error("Erro ao desserializar resumo de erros do JSON", e);
+            return null;
         }
     }
 }
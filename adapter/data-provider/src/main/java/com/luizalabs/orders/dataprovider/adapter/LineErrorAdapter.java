@@ -0,0 +1,86 @@
+package com.luizalabs.orders.dataprovider.adapter;
+
+import com.luizalabs.orders.common.util.LineErrorCode;
+import com.luizalabs.orders.domain.dto.LineError;
+import com.luizalabs.orders.usecase.port.data.LineErrorPort;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LineErrorAdapter implements LineErrorPort {
+
+    private static final String INSERT_SQL =
+            """
+            INSERT INTO line_errors (log_id, line_number, error_code, line_length, line_content)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (log_id, line_number) DO NOTHING
+            """;
+
+    private static final String PAGE_SQL =
+            """
+            SELECT line_number, line_content, error_message, error_code, line_length
+            FROM line_errors
+            WHERE log_id = ? AND line_number > ?
+            ORDER BY line_number
+            LIMIT ?
+            """;
+
+    private static final RowMapper<LineError> ROW_MAPPER =
+            (rs, rowNum) ->
+                    LineError.builder()
+                            .lineNumber(rs.getInt("line_number"))
+                            .lineContent(rs.getString("line_content"))
+                            .errorMessage(message(rs))
+                            .errorCode(rs.getString("error_code"))
+                            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAll(Long logId, List<StoredError> errors) {
+        if (errors.isEmpty()) {
+            return;
+        }
+        log.debug("Gravando {} erros de linha do log ID {}", errors.size(), logId);
+
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                errors,
+                errors.size(),
+                (ps, error) -> {
+                    ps.setLong(1, logId);
+                    ps.setInt(2, error.lineNumber());
+                    ps.setString(3, error.code().name());
+                    ps.setInt(4, error.lineLength());
+                    ps.setString(5, error.lineContent());
+                });
+    }
+
+    @Override
+    public void deleteByLogId(Long logId) {
+        int deleted = jdbcTemplate.update("DELETE FROM line_errors WHERE log_id = ?", logId);
+        log.debug("Removidos {} erros de linha do log ID {}", deleted, logId);
+    }
+
+    @Override
+    public List<LineError> findPage(Long logId, int afterLine, int limit) {
+        return jdbcTemplate.query(PAGE_SQL, ROW_MAPPER, logId, afterLine, limit);
+    }
+
+    private static String message(ResultSet rs) throws SQLException {
+        String stored = rs.getString("error_message");
+        String code = rs.getString("error_code");
+        if (stored != null || code == null) {
+            return stored;
+        }
+        return LineErrorCode.valueOf(code).message(rs.getInt("line_length"));
+    }
+}
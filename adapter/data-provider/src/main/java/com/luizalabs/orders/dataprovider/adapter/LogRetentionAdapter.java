@@ -0,0 +1,85 @@
+package com.luizalabs.orders.dataprovider.adapter;
+
+import com.luizalabs.orders.usecase.port.data.LogRetentionPort;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LogRetentionAdapter implements LogRetentionPort {
+
+    private static final String DELETE_LOGS_SQL =
+            """
+            DELETE FROM file_processing_logs
+            WHERE id IN (
+                SELECT l.id FROM file_processing_logs l
+                WHERE l.uploaded_at < ? AND l.status <> 'PROCESSING'
+                  AND NOT EXISTS (SELECT 1 FROM line_errors e WHERE e.log_id = l.id)
+                ORDER BY l.uploaded_at
+                LIMIT ?)
+            """;
+
+    private static final String DELETE_LINE_ERRORS_SQL =
+            """
+            DELETE FROM line_errors
+            WHERE (log_id, line_number) IN (
+                SELECT e.log_id, e.line_number
+                FROM line_errors e
+                JOIN file_processing_logs l ON l.id = e.log_id
+                WHERE l.uploaded_at < ? AND l.status <> 'PROCESSING'
+                LIMIT ?)
+            """;
+
+    private static final String STRIP_ERRORS_SQL =
+            """
+            UPDATE file_processing_logs SET errors = NULL
+            WHERE id IN (
+                SELECT id FROM file_processing_logs
+                WHERE errors IS NOT NULL AND uploaded_at < ? AND status <> 'PROCESSING'
+                ORDER BY uploaded_at
+                LIMIT ?)
+            """;
+
+    private static final String STORAGE_SIZE_SQL =
+            """
+            SELECT pg_total_relation_size('file_processing_logs')
+                 + pg_total_relation_size('line_errors')
+            """;
+
+    private static final String DEAD_TUPLES_SQL =
+            """
+            SELECT COALESCE(SUM(n_dead_tup), 0) FROM pg_stat_user_tables
+            WHERE relname IN ('file_processing_logs', 'line_errors')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int deleteLogsUploadedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_LOGS_SQL, cutoff, limit);
+    }
+
+    @Override
+    public int deleteLineErrorsUploadedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_LINE_ERRORS_SQL, cutoff, limit);
+    }
+
+    @Override
+    public int stripLegacyErrorsUploadedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(STRIP_ERRORS_SQL, cutoff, limit);
+    }
+
+    @Override
+    public long storageSize() {
+        Long size = jdbcTemplate.queryForObject(STORAGE_SIZE_SQL, Long.class);
+        return size != null ? size : 0L;
+    }
+
+    @Override
+    public long deadTuples() {
+        Long tuples = jdbcTemplate.queryForObject(DEAD_TUPLES_SQL, Long.class);
+        return tuples != null ? tuples : 0L;
+    }
+}
@@ -4,8 +4,13 @@ import com.luizalabs.orders.dataprovider.mapper.UserOrderDataMapper;
 import com.luizalabs.orders.dataprovider.repository.UserOrderRepository;
 import com.luizalabs.orders.domain.entity.User;
 import com.luizalabs.orders.usecase.port.data.OrderDataPort;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort.DataVersion;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort.OrderKey;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -29,9 +34,37 @@ public class OrderDataAdapter implements OrderDataPort {
     }
 
     @Override
-    public List<User> findAll() {
-        log.info("Buscando todos os pedidos");
-        return repository.findAll().stream().map(mapper::toDomain).toList();
+    public Stream<User> streamAll() {
+        log.info("Transmitindo todos os pedidos");
+        return repository.streamAll().map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<User> findByUserId(Long userId) {
+        log.info("Buscando user_id: {}", userId);
+        return repository.findById(userId).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<User> findByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        log.info("Buscando {} usuários por user_id", userIds.size());
+        return repository.findByUserIds(userIds.toArray(Long[]::new)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<User> lockByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        log.info("Bloqueando {} usuários por user_id", userIds.size());
+        return repository.lockByUserIds(userIds.toArray(Long[]::new)).stream()
+                .map(mapper::toDomain)
+                .toList();
     }
 
     @Override
@@ -39,20 +72,39 @@ public class OrderDataAdapter implements OrderDataPort {
         log.info("Buscando por order_id: {}", orderId);
 
         String json = String.format("[{\"order_id\": %d}]", orderId);
-        return repository.findByOrderId(json).stream().map(mapper::toDomain).toList();
+        return repository.findByOrderId(orderId, json).stream().map(mapper::toDomain).toList();
     }
 
     @Override
-    public List<User> findByOrderDateBetween(LocalDate start, LocalDate end) {
-        log.info("Buscando entre {} e {}", start, end);
-        return repository.findByOrderDateBetween(start, end).stream()
-                .map(mapper::toDomain)
+    public Optional<User> findUserOrder(Long userId, Long orderId) {
+        log.info("Buscando order_id {} do user_id {}", orderId, userId);
+        return repository.findUserOrder(userId, orderId).map(mapper::toDomain);
+    }
+
+    @Override
+    public Stream<User> streamByOrderDateBetween(LocalDate start, LocalDate end) {
+        log.info("Transmitindo entre {} e {}", start, end);
+        return repository
+                .streamByOrderDateBetween(start.toString(), end.toString())
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public List<OrderKey> findOrderKeys(Long afterUserId, int userLimit) {
+        return repository.findOrderKeys(afterUserId, userLimit).stream()
+                .map(key -> new OrderKey(key.getUserId(), key.getOrderId()))
                 .toList();
     }
 
     @Override
-    public List<User> findByOrderStartDate(LocalDate start) {
-        log.info("Buscando start_date {}", start);
-        return repository.findByOrderStartDate(start).stream().map(mapper::toDomain).toList();
+    public DataVersion currentVersion() {
+        var version = repository.findDataVersion();
+        return new DataVersion(version.getGeneration(), version.getLastUpdated());
+    }
+
+    @Override
+    public void advanceVersion() {
+        repository.advanceGeneration();
+        log.info("Versão dos dados avançada");
     }
 }
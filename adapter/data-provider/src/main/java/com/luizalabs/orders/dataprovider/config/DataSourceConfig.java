@@ -0,0 +1,76 @@
+package com.luizalabs.orders.dataprovider.config;
+
+import com.luizalabs.orders.dataprovider.config.ReadWriteRoutingDataSource.Route;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties primary) {
+        return primary.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "orders.datasource.replica", name = "enabled")
+    @ConfigurationProperties("orders.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties primary, ReplicaProperties replica) {
+        if (!StringUtils.hasText(replica.getUrl())) {
+            throw new IllegalStateException(
+                    "DB_REPLICA_URL é obrigatória quando a réplica está habilitada");
+        }
+
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(replica.getUrl())
+                .username(orPrimary(replica.getUsername(), primary.determineUsername()))
+                .password(orPrimary(replica.getPassword(), primary.determinePassword()))
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replica,
+            ReplicaProperties properties) {
+        return new ReplicaLagMonitor(replica.getIfAvailable(), properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replica,
+            ReplicaLagMonitor monitor) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(monitor);
+        routing.setTargetDataSources(
+                Map.<Object, Object>of(
+                        Route.PRIMARY,
+                        primary,
+                        Route.REPLICA,
+                        replica.getIfAvailable(() -> primary)));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static String orPrimary(String value, String primary) {
+        return StringUtils.hasText(value) ? value : primary;
+    }
+}
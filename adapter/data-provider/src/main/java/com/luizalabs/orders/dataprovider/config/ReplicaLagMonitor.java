@@ -0,0 +1,74 @@
+package com.luizalabs.orders.dataprovider.config;
+
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_QUERY =
+            """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE CAST(COALESCE(
+                        EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000,
+                        0) AS bigint)
+            END
+            """;
+
+    private final JdbcTemplate replica;
+    private final ReplicaProperties properties;
+
+    private volatile boolean usable;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaProperties properties) {
+        this.replica = replica != null ? new JdbcTemplate(replica) : null;
+        this.properties = properties;
+    }
+
+    @Scheduled(
+            initialDelay = 0,
+            fixedDelayString = "${orders.datasource.replica.lag-check-interval:5s}")
+    public void check() {
+        if (replica == null || !properties.isEnabled()) {
+            usable = false;
+            return;
+        }
+
+        try {
+            Long lag = replica.queryForObject(LAG_QUERY, Long.class);
+            lagMillis = lag != null ? lag : 0;
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            markUsable(false, "réplica indisponível: " + e.getMessage());
+            return;
+        }
+
+        boolean fresh = lagMillis <= properties.getMaxLag().toMillis();
+        markUsable(fresh, "atraso de " + lagMillis + " ms");
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    private void markUsable(boolean value, String reason) {
+        if (usable != value) {
+            if (value) {
+                log.info("Consultas somente leitura voltam para a réplica ({})", reason);
+            } else {
+                log.warn("Consultas somente leitura desviadas para o primário ({})", reason);
+            }
+        }
+        usable = value;
+    }
+}
@@ -2,9 +2,12 @@ package com.luizalabs.orders.dataprovider.mapper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.luizalabs.orders.common.util.Money;
 import com.luizalabs.orders.dataprovider.data.OrderData;
 import com.luizalabs.orders.dataprovider.data.ProductData;
+import com.luizalabs.orders.dataprovider.repository.UserOrderRepository.UserOrderView;
 import com.luizalabs.orders.dataprovider.table.UserOrderTable;
 import com.luizalabs.orders.domain.entity.Order;
 import com.luizalabs.orders.domain.entity.Product;
@@ -17,7 +20,9 @@ import lombok.extern.slf4j.Slf4j;
 public class UserOrderDataMapper {
 
     private static final ObjectMapper json =
-            new ObjectMapper().registerModule(new JavaTimeModule());
+            new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
     public UserOrderTable toTable(User user) {
         try {
@@ -36,15 +41,19 @@ public class UserOrderDataMapper {
     }
 
     public User toDomain(UserOrderTable table) {
+        return toDomain(table.getUserId(), table.getName(), table.getOrders());
+    }
+
+    public User toDomain(UserOrderView view) {
+        return toDomain(view.getUserId(), view.getName(), view.getOrders());
+    }
+
+    private User toDomain(Long userId, String name, String ordersJson) {
         try {
-            OrderData[] ordersArray = json.readValue(table.getOrders(), OrderData[].class);
+            OrderData[] ordersArray = json.readValue(ordersJson, OrderData[].class);
             List<Order> orders = List.of(ordersArray).stream().map(this::toOrder).toList();
 
-            return User.builder()
-                    .userId(table.getUserId())
-                    .name(table.getName())
-                    .orders(orders)
-                    .build();
+            return User.builder().userId(userId).name(name).orders(orders).build();
 
         } catch (JsonProcessingException e) {
             throw new FileProcessingException("Erro ao desserializar JSON", e);
@@ -54,7 +63,7 @@ public class UserOrderDataMapper {
     private OrderData toOrderData(Order order) {
         return OrderData.builder()
                 .orderId(order.getOrderId())
-                .total(order.getTotal())
+                .total(Money.toBigDecimal(order.getTotalCents()))
                 .date(order.getDate())
                 .products(order.getProducts().stream().map(this::toProductData).toList())
                 .build();
@@ -63,20 +72,27 @@ public class UserOrderDataMapper {
     private ProductData toProductData(Product product) {
         return ProductData.builder()
                 .productId(product.getProductId())
-                .value(product.getValue())
+                .value(Money.toBigDecimal(product.getValueCents()))
                 .build();
     }
 
     private Order toOrder(OrderData data) {
-        return Order.builder()
-                .orderId(data.getOrderId())
-                .total(data.getTotal())
-                .date(data.getDate())
-                .products(data.getProducts().stream().map(this::toProduct).toList())
-                .build();
+        Order order =
+                Order.builder()
+                        .orderId(data.getOrderId())
+                        .date(data.getDate())
+                        .products(data.getProducts().stream().map(this::toProduct).toList())
+                        .build();
+
+        order.setTotalCents(
+                data.getTotal() != null ? Money.toCents(data.getTotal()) : order.calculateTotal());
+        return order;
     }
 
     private Product toProduct(ProductData data) {
-        return Product.builder().productId(data.getProductId()).value(data.getValue()).build();
+        return Product.builder()
+                .productId(data.getProductId())
+                .valueCents(Money.toCents(data.getValue()))
+                .build();
     }
 }
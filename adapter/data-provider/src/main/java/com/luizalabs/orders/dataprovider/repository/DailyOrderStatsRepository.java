@@ -0,0 +1,14 @@
+package com.luizalabs.orders.dataprovider.repository;
+
+import com.luizalabs.orders.dataprovider.table.DailyOrderStatsTable;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DailyOrderStatsRepository extends JpaRepository<DailyOrderStatsTable, LocalDate> {
+
+    List<DailyOrderStatsTable> findByStatDateBetweenOrderByStatDate(
+            LocalDate startDate, LocalDate endDate);
+}
@@ -1,13 +1,175 @@
 package com.luizalabs.orders.dataprovider.repository;
 
 import com.luizalabs.orders.dataprovider.table.FileProcessingLogTable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface FileProcessingLogRepository extends JpaRepository<FileProcessingLogTable, Long> {
 
-    Page<FileProcessingLogTable> findByStatus(String status, Pageable pageable);
+    String SUMMARY_SELECT =
+            """
+            SELECT l.id AS id, l.fileName AS fileName, l.uploadedAt AS uploadedAt,
+                   l.status AS status, l.totalLines AS totalLines,
+                   l.processedLines AS processedLines, l.errorLines AS errorLines,
+                   l.errorSummary AS errorSummary, l.processingTimeMs AS processingTimeMs,
+                   l.failureReason AS failureReason
+            FROM FileProcessingLogTable l
+            """;
+
+    String KEYSET_ORDER = " ORDER BY l.uploadedAt DESC, l.id DESC";
+
+    String LEASE_AVAILABLE =
+            """
+            (owner_node IS NULL OR owner_node = :ownerNode
+             OR heartbeat_at < now() - :leaseSeconds * INTERVAL '1 second')
+            """;
+
+    Optional<LogSummaryView> findSummaryById(Long id);
+
+    @Query(SUMMARY_SELECT + KEYSET_ORDER)
+    List<LogSummaryView> findFirstSummaries(Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE l.status = :status" + KEYSET_ORDER)
+    List<LogSummaryView> findFirstSummariesByStatus(@Param("status") String status, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE (l.uploadedAt, l.id) < (:uploadedAt, :id)" + KEYSET_ORDER)
+    List<LogSummaryView> findSummariesBefore(
+            @Param("uploadedAt") LocalDateTime uploadedAt, @Param("id") Long id, Limit limit);
+
+    @Query(
+            SUMMARY_SELECT
+                    + "WHERE l.status = :status AND (l.uploadedAt, l.id) < (:uploadedAt, :id)"
+                    + KEYSET_ORDER)
+    List<LogSummaryView> findSummariesByStatusBefore(
+            @Param("status") String status,
+            @Param("uploadedAt") LocalDateTime uploadedAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    @Query(
+            value =
+                    "SELECT * FROM file_processing_logs WHERE status = 'PROCESSING' AND "
+                            + LEASE_AVAILABLE
+                            + " ORDER BY id",
+            nativeQuery = true)
+    List<FileProcessingLogTable> findInterrupted(
+            @Param("ownerNode") String ownerNode, @Param("leaseSeconds") long leaseSeconds);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value =
+                    "UPDATE file_processing_logs SET owner_node = :ownerNode, heartbeat_at = now()"
+                            + " WHERE id = :id AND "
+                            + LEASE_AVAILABLE,
+            nativeQuery = true)
+    int claim(
+            @Param("id") Long id,
+            @Param("ownerNode") String ownerNode,
+            @Param("leaseSeconds") long leaseSeconds);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE file_processing_logs SET heartbeat_at = now()
+        WHERE owner_node = :ownerNode AND id IN (:ids)
+        """,
+            nativeQuery = true)
+    int renewLeases(@Param("ownerNode") String ownerNode, @Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE file_processing_logs SET owner_node = NULL
+        WHERE id = :id AND owner_node = :ownerNode
+        """,
+            nativeQuery = true)
+    int releaseLease(@Param("id") Long id, @Param("ownerNode") String ownerNode);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value =
+                    """
+        UPDATE file_processing_logs
+        SET committed_users = :committedUsers,
+            last_committed_user_id = :lastCommittedUserId,
+            checkpoint_offset = :checkpointOffset,
+            checkpoint_line = :checkpointLine,
+            heartbeat_at = now()
+        WHERE id = :id AND owner_node = :ownerNode
+        """,
+            nativeQuery = true)
+    int updateProgress(
+            @Param("id") Long id,
+            @Param("ownerNode") String ownerNode,
+            @Param("committedUsers") Integer committedUsers,
+            @Param("lastCommittedUserId") Long lastCommittedUserId,
+            @Param("checkpointOffset") Long checkpointOffset,
+            @Param("checkpointLine") Integer checkpointLine);
+
+    @Transactional
+    @Modifying
+    @Query(
+            """
+        UPDATE FileProcessingLogTable l
+        SET l.status = :status, l.failureReason = NULL
+        WHERE l.id = :id
+        """)
+    int updateStatus(@Param("id") Long id, @Param("status") String status);
+
+    @Transactional
+    @Modifying
+    @Query(
+            """
+        UPDATE FileProcessingLogTable l
+        SET l.status = :status, l.failureReason = :failureReason
+        WHERE l.id = :id
+        """)
+    int updateFailure(
+            @Param("id") Long id,
+            @Param("status") String status,
+            @Param("failureReason") String failureReason);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileProcessingLogTable l SET l.spoolPath = :spoolPath WHERE l.id = :id")
+    int updateSpoolPath(@Param("id") Long id, @Param("spoolPath") String spoolPath);
+
+    interface LogSummaryView {
+
+        Long getId();
+
+        String getFileName();
+
+        LocalDateTime getUploadedAt();
+
+        String getStatus();
+
+        Integer getTotalLines();
+
+        Integer getProcessedLines();
+
+        Integer getErrorLines();
+
+        String getErrorSummary();
+
+        Long getProcessingTimeMs();
+
+        String getFailureReason();
+    }
 }
@@ -1,45 +1,164 @@
 package com.luizalabs.orders.dataprovider.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 import com.luizalabs.orders.dataprovider.table.UserOrderTable;
-import java.time.LocalDate;
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserOrderRepository extends JpaRepository<UserOrderTable, Long> {
 
+    String STREAM_FETCH_SIZE = "500";
+
+    String DATE_RANGE_QUERY =
+            """
+            SELECT user_id AS "userId", name,
+                   CAST(jsonb_path_query_array(
+                           orders,
+                           '$[*] ? (@.date >= $start && @.date <= $end)',
+                           jsonb_build_object('start', :startDate, 'end', :endDate)) AS text)
+                       AS orders
+            FROM user_orders
+            WHERE jsonb_path_exists(
+                    orders,
+                    '$[*] ? (@.date >= $start && @.date <= $end)',
+                    jsonb_build_object('start', :startDate, 'end', :endDate))
+            ORDER BY user_id
+            """;
+
     @Query(
             value =
                     """
         SELECT * FROM user_orders
+        WHERE user_id = ANY(:userIds)
+        """,
+            nativeQuery = true)
+    List<UserOrderTable> findByUserIds(@Param("userIds") Long[] userIds);
+
+    @Query(
+            value =
+                    """
+        SELECT * FROM user_orders
+        WHERE user_id = ANY(:userIds)
+        ORDER BY user_id
+        FOR UPDATE
+        """,
+            nativeQuery = true)
+    List<UserOrderTable> lockByUserIds(@Param("userIds") Long[] userIds);
+
+    @Query(
+            value =
+                    """
+        SELECT user_id AS "userId", name,
+               CAST(jsonb_path_query_array(
+                       orders,
+                       '$[*] ? (@.order_id == $orderId)',
+                       jsonb_build_object('orderId', :orderId)) AS text) AS orders
+        FROM user_orders
         WHERE orders @> CAST(:orderIdJson AS jsonb)
+        ORDER BY user_id
+        """,
+            nativeQuery = true)
+    List<UserOrderView> findByOrderId(
+            @Param("orderId") Long orderId, @Param("orderIdJson") String orderIdJson);
+
+    @Query(
+            value =
+                    """
+        SELECT user_id AS "userId", name,
+               CAST(jsonb_path_query_array(
+                       orders,
+                       '$[*] ? (@.order_id == $orderId)',
+                       jsonb_build_object('orderId', :orderId)) AS text) AS orders
+        FROM user_orders
+        WHERE user_id = :userId
+          AND jsonb_path_exists(
+                orders, '$[*] ? (@.order_id == $orderId)', jsonb_build_object('orderId', :orderId))
         """,
             nativeQuery = true)
-    List<UserOrderTable> findByOrderId(@Param("orderIdJson") String orderIdJson);
+    Optional<UserOrderView> findUserOrder(
+            @Param("userId") Long userId, @Param("orderId") Long orderId);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(value = DATE_RANGE_QUERY, nativeQuery = true)
+    Stream<UserOrderView> streamByOrderDateBetween(
+            @Param("startDate") String startDate, @Param("endDate") String endDate);
 
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
     @Query(
             value =
                     """
-        SELECT DISTINCT u.*
-        FROM user_orders u,
-        jsonb_array_elements(u.orders) AS o
-        WHERE (o->>'date')::date BETWEEN :startDate AND :endDate
+        SELECT user_id AS "userId", name, CAST(orders AS text) AS orders
+        FROM user_orders
+        ORDER BY user_id
         """,
             nativeQuery = true)
-    List<UserOrderTable> findByOrderDateBetween(
-            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    Stream<UserOrderView> streamAll();
 
     @Query(
             value =
                     """
-        SELECT DISTINCT u.*
-        FROM user_orders u,
-        jsonb_array_elements(u.orders) AS o
-        WHERE (o->>'date')::date >= :startDate
+        SELECT u.user_id AS "userId", CAST(o ->> 'order_id' AS bigint) AS "orderId"
+        FROM (
+            SELECT user_id, orders FROM user_orders
+            WHERE user_id > :afterUserId
+            ORDER BY user_id
+            LIMIT :userLimit) u
+        LEFT JOIN LATERAL jsonb_array_elements(u.orders) AS o ON true
         """,
             nativeQuery = true)
-    List<UserOrderTable> findByOrderStartDate(@Param("startDate") LocalDate startDate);
+    List<OrderKeyView> findOrderKeys(
+            @Param("afterUserId") Long afterUserId, @Param("userLimit") int userLimit);
+
+    @Query(
+            value =
+                    """
+        SELECT g.generation AS generation,
+               (SELECT CAST(COALESCE(EXTRACT(EPOCH FROM MAX(updated_at)) * 1000000, 0) AS bigint)
+                FROM user_orders) AS "lastUpdated"
+        FROM order_data_generation g
+        WHERE g.id = 1
+        """,
+            nativeQuery = true)
+    DataVersionView findDataVersion();
+
+    @Transactional
+    @Modifying
+    @Query(
+            value = "UPDATE order_data_generation SET generation = generation + 1 WHERE id = 1",
+            nativeQuery = true)
+    int advanceGeneration();
+
+    interface DataVersionView {
+
+        Long getGeneration();
+
+        Long getLastUpdated();
+    }
+
+    interface OrderKeyView {
+
+        Long getUserId();
+
+        Long getOrderId();
+    }
+
+    interface UserOrderView {
+
+        Long getUserId();
+
+        String getName();
+
+        String getOrders();
+    }
 }
@@ -48,12 +48,36 @@ public class FileProcessingLogTable {
     private Integer errorLines;
 
     @JdbcTypeCode(JSON)
-    @Column(name = "errors", columnDefinition = "jsonb")
-    private String errors;
+    @Column(name = "error_summary", columnDefinition = "jsonb")
+    private String errorSummary;
 
     @Column(name = "processing_time_ms")
     private Long processingTimeMs;
 
+    @Column(name = "committed_users", nullable = false)
+    private Integer committedUsers;
+
+    @Column(name = "last_committed_user_id")
+    private Long lastCommittedUserId;
+
+    @Column(name = "checkpoint_offset", nullable = false)
+    private Long checkpointOffset;
+
+    @Column(name = "checkpoint_line", nullable = false)
+    private Integer checkpointLine;
+
+    @Column(name = "spool_path", length = 1024)
+    private String spoolPath;
+
+    @Column(name = "failure_reason")
+    private String failureReason;
+
+    @Column(name = "owner_node", updatable = false)
+    private String ownerNode;
+
+    @Column(name = "heartbeat_at", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime heartbeatAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
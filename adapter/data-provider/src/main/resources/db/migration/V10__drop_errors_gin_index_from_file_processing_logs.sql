@@ -0,0 +1,4 @@
+DROP INDEX IF EXISTS idx_logs_errors;
+
+ALTER TABLE line_errors SET (autovacuum_vacuum_scale_factor = 0.05);
+ALTER TABLE file_processing_logs SET (autovacuum_vacuum_scale_factor = 0.05);
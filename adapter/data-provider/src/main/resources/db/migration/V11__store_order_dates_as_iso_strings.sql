@@ -0,0 +1,20 @@
+UPDATE user_orders u
+SET orders = (
+    SELECT jsonb_agg(
+               CASE
+                   WHEN jsonb_typeof(o -> 'date') = 'array' THEN
+                       jsonb_set(o, '{date}', to_jsonb(to_char(
+                           make_date((o -> 'date' ->> 0)::INTEGER,
+                                     (o -> 'date' ->> 1)::INTEGER,
+                                     (o -> 'date' ->> 2)::INTEGER),
+                           'YYYY-MM-DD')))
+                   ELSE o
+               END
+               ORDER BY e.idx)
+    FROM jsonb_array_elements(u.orders) WITH ORDINALITY AS e(o, idx)
+)
+WHERE EXISTS (
+    SELECT 1
+    FROM jsonb_array_elements(u.orders) AS o
+    WHERE jsonb_typeof(o -> 'date') = 'array'
+);
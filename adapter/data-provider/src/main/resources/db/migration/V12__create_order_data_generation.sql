@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS order_data_generation (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    generation BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO order_data_generation (id, generation) VALUES (1, 0) ON CONFLICT DO NOTHING;
+
+CREATE INDEX IF NOT EXISTS idx_user_orders_updated_at ON user_orders(updated_at);
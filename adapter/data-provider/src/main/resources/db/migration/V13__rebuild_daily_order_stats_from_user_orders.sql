@@ -0,0 +1,11 @@
+DELETE FROM daily_order_stats;
+
+INSERT INTO daily_order_stats (stat_date, order_count, product_count, revenue)
+SELECT CAST(o ->> 'date' AS DATE),
+       COUNT(*),
+       SUM(jsonb_array_length(COALESCE(o -> 'products', '[]'::jsonb))),
+       SUM(COALESCE(CAST(o ->> 'total' AS NUMERIC), 0))
+FROM user_orders u
+CROSS JOIN LATERAL jsonb_array_elements(u.orders) AS o
+WHERE o ->> 'date' IS NOT NULL
+GROUP BY CAST(o ->> 'date' AS DATE);
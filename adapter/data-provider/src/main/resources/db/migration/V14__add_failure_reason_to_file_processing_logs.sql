@@ -0,0 +1,2 @@
+ALTER TABLE file_processing_logs
+ADD COLUMN IF NOT EXISTS failure_reason VARCHAR(255);
@@ -0,0 +1,8 @@
+ALTER TABLE file_processing_logs
+ADD COLUMN IF NOT EXISTS owner_node VARCHAR(255),
+ADD COLUMN IF NOT EXISTS heartbeat_at TIMESTAMP NOT NULL DEFAULT now();
+
+DROP INDEX IF EXISTS idx_logs_spooled;
+
+CREATE INDEX IF NOT EXISTS idx_logs_processing ON file_processing_logs(id)
+WHERE status = 'PROCESSING';
@@ -0,0 +1,2 @@
+ALTER TABLE line_errors
+ADD COLUMN IF NOT EXISTS line_length INTEGER;
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_logs_legacy_errors
+    ON file_processing_logs(uploaded_at)
+    WHERE errors IS NOT NULL;
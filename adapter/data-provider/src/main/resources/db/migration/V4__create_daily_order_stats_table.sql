@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS daily_order_stats (
+    stat_date DATE PRIMARY KEY,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    product_count BIGINT NOT NULL DEFAULT 0,
+    revenue NUMERIC(19, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,3 @@
+ALTER TABLE file_processing_logs
+ADD COLUMN IF NOT EXISTS committed_users INTEGER NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS last_committed_user_id BIGINT;
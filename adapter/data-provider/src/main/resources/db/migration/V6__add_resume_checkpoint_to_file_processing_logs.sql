@@ -0,0 +1,6 @@
+ALTER TABLE file_processing_logs
+ADD COLUMN IF NOT EXISTS checkpoint_offset BIGINT NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS checkpoint_line INTEGER NOT NULL DEFAULT 1,
+ADD COLUMN IF NOT EXISTS spool_path VARCHAR(1024);
+
+CREATE INDEX IF NOT EXISTS idx_logs_spooled ON file_processing_logs(id) WHERE spool_path IS NOT NULL;
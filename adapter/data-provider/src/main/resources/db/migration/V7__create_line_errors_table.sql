@@ -0,0 +1,11 @@
+ALTER TABLE file_processing_logs
+ADD COLUMN IF NOT EXISTS error_summary JSONB;
+
+CREATE TABLE IF NOT EXISTS line_errors (
+    log_id BIGINT NOT NULL REFERENCES file_processing_logs(id) ON DELETE CASCADE,
+    line_number INTEGER NOT NULL,
+    error_code VARCHAR(40),
+    line_content VARCHAR(64),
+    error_message VARCHAR(255),
+    PRIMARY KEY (log_id, line_number)
+);
@@ -0,0 +1,10 @@
+INSERT INTO line_errors (log_id, line_number, line_content, error_message)
+SELECT l.id,
+       (e ->> 'lineNumber')::INTEGER,
+       LEFT(e ->> 'lineContent', 64),
+       LEFT(e ->> 'errorMessage', 255)
+FROM file_processing_logs l
+CROSS JOIN LATERAL jsonb_array_elements(l.errors) AS e
+WHERE jsonb_typeof(l.errors) = 'array'
+  AND e ->> 'lineNumber' IS NOT NULL
+ON CONFLICT (log_id, line_number) DO NOTHING;
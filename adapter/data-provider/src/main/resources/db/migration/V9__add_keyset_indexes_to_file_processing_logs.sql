@@ -0,0 +1,8 @@
+CREATE INDEX IF NOT EXISTS idx_logs_uploaded_at_id
+    ON file_processing_logs(uploaded_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_logs_status_uploaded_at_id
+    ON file_processing_logs(status, uploaded_at DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_logs_uploaded_at;
+DROP INDEX IF EXISTS idx_logs_status;
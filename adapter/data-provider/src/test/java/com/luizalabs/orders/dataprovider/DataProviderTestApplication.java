@@ -0,0 +1,8 @@
+package com.luizalabs.orders.dataprovider;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class DataProviderTestApplication {}
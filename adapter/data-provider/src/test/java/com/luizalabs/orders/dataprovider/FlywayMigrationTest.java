@@ -0,0 +1,131 @@
+package com.luizalabs.orders.dataprovider;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@DisplayName("Migrations Flyway - Testes de Integração")
+class FlywayMigrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        dataSource =
+                new DriverManagerDataSource(
+                        POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbc = new JdbcTemplate(dataSource);
+        flyway(null).clean();
+    }
+
+    @Test
+    @DisplayName("V11 deve converter datas gravadas como array em texto ISO")
+    void shouldRewriteArrayDatesAsIsoStrings() {
+        flyway("10").migrate();
+        insertUser(
+                70L,
+                """
+                [{"order_id": 1, "date": [2021, 3, 8], "total": 10.00, "products": []},
+                 {"order_id": 2, "date": "2021-03-09", "total": 5.00, "products": []},
+                 {"order_id": 3, "date": [2021, 12, 31], "total": 1.00, "products": []}]
+                """);
+
+        flyway("11").migrate();
+
+        List<String> dates =
+                jdbc.queryForList(
+                        """
+                        SELECT o ->> 'date'
+                        FROM user_orders u,
+                             jsonb_array_elements(u.orders) WITH ORDINALITY AS e(o, idx)
+                        WHERE u.user_id = 70
+                        ORDER BY e.idx
+                        """,
+                        String.class);
+        assertThat(dates).containsExactly("2021-03-08", "2021-03-09", "2021-12-31");
+        assertThat(
+                        jdbc.queryForObject(
+                                "SELECT COUNT(*) FROM user_orders u,"
+                                        + " jsonb_array_elements(u.orders) o"
+                                        + " WHERE jsonb_typeof(o -> 'date') = 'array'",
+                                Long.class))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("V13 deve reconstruir daily_order_stats a partir dos pedidos gravados")
+    void shouldRebuildDailyStatsFromStoredOrders() {
+        flyway("12").migrate();
+        insertUser(
+                70L,
+                """
+                [{"order_id": 1, "date": "2021-03-08", "total": 10.50,
+                  "products": [{"product_id": 1, "value": 10.50}]},
+                 {"order_id": 2, "date": "2021-03-09", "total": 5.00,
+                  "products": [{"product_id": 2, "value": 2.00},
+                               {"product_id": 3, "value": 3.00}]}]
+                """);
+        insertUser(
+                71L,
+                """
+                [{"order_id": 3, "date": "2021-03-08", "total": 1.25,
+                  "products": [{"product_id": 4, "value": 1.25}]}]
+                """);
+        jdbc.update(
+                "INSERT INTO daily_order_stats (stat_date, order_count, product_count, revenue)"
+                        + " VALUES ('2021-03-08', 99, 99, 999.99), ('2020-01-01', 1, 1, 1.00)");
+
+        flyway(null).migrate();
+
+        List<Map<String, Object>> stats =
+                jdbc.queryForList(
+                        "SELECT stat_date, order_count, product_count, revenue"
+                                + " FROM daily_order_stats ORDER BY stat_date");
+        assertThat(stats)
+                .extracting(
+                        row -> row.get("stat_date").toString(),
+                        row -> ((Number) row.get("order_count")).longValue(),
+                        row -> ((Number) row.get("product_count")).longValue(),
+                        row -> (BigDecimal) row.get("revenue"))
+                .containsExactly(
+                        tuple("2021-03-08", 2L, 2L, new BigDecimal("11.75")),
+                        tuple("2021-03-09", 1L, 2L, new BigDecimal("5.00")));
+    }
+
+    private Flyway flyway(String target) {
+        var configuration =
+                Flyway.configure()
+                        .dataSource(dataSource)
+                        .locations("classpath:db/migration")
+                        .cleanDisabled(false);
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private void insertUser(Long userId, String orders) {
+        jdbc.update(
+                "INSERT INTO user_orders (user_id, name, orders) VALUES (?, ?, CAST(? AS jsonb))",
+                userId,
+                "Usuário " + userId,
+                orders);
+    }
+}
@@ -0,0 +1,134 @@
+package com.luizalabs.orders.dataprovider.adapter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.luizalabs.orders.domain.dto.ErrorSummary;
+import com.luizalabs.orders.domain.enums.ProcessingStatus;
+import com.luizalabs.orders.domain.exception.InvalidProcessingStateException;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.IngestCheckpoint;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.ResumePoint;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FileProcessingLogAdapter.class)
+@DisplayName("FileProcessingLogAdapter - Testes de Integração")
+class FileProcessingLogAdapterTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @Container @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired private FileProcessingLogAdapter adapter;
+
+    @Autowired private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Deve listar como interrompidos apenas logs do próprio nó ou com lease expirado")
+    void shouldFindOnlyOwnOrExpiredInterruptedLogs() {
+        Long own = adapter.createLog("a.txt", LocalDateTime.now(), "node-a");
+        adapter.createLog("b.txt", LocalDateTime.now(), "node-b");
+        Long expired = adapter.createLog("c.txt", LocalDateTime.now(), "node-c");
+        expireLease(expired);
+
+        List<IngestCheckpoint> interrupted = adapter.findInterrupted("node-a", LEASE);
+
+        assertThat(interrupted).extracting(IngestCheckpoint::logId).containsExactly(own, expired);
+        assertThat(interrupted).extracting(IngestCheckpoint::spoolPath).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("Deve assumir o lease apenas quando livre, próprio ou expirado")
+    void shouldClaimOnlyFreeOwnOrExpiredLease() {
+        Long logId = adapter.createLog("a.txt", LocalDateTime.now(), "node-a");
+
+        assertThat(adapter.claim(logId, "node-b", LEASE)).isFalse();
+        assertThat(adapter.claim(logId, "node-a", LEASE)).isTrue();
+
+        expireLease(logId);
+        assertThat(adapter.claim(logId, "node-b", LEASE)).isTrue();
+        assertThat(adapter.renewLeases("node-a", List.of(logId))).isZero();
+        assertThat(adapter.renewLeases("node-b", List.of(logId))).isEqualTo(1);
+
+        adapter.releaseLease(logId, "node-b");
+        assertThat(adapter.claim(logId, "node-c", LEASE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve recusar checkpoint de um nó que perdeu o lease")
+    void shouldRejectProgressFromNodeThatLostLease() {
+        Long logId = adapter.createLog("a.txt", LocalDateTime.now(), "node-a");
+        expireLease(logId);
+        adapter.claim(logId, "node-b", LEASE);
+
+        assertThatThrownBy(
+                        () ->
+                                adapter.updateProgress(
+                                        logId, "node-a", 10, 10L, new ResumePoint(100L, 11)))
+                .isInstanceOf(InvalidProcessingStateException.class)
+                .hasMessageContaining("node-a");
+
+        adapter.updateProgress(logId, "node-b", 10, 10L, new ResumePoint(100L, 11));
+        entityManager.clear();
+        assertThat(adapter.findCheckpoint(logId))
+                .hasValueSatisfying(
+                        checkpoint ->
+                                assertThat(checkpoint.resumePoint())
+                                        .isEqualTo(new ResumePoint(100L, 11)));
+    }
+
+    @Test
+    @DisplayName("Deve voltar o checkpoint ao início mantendo contagens e resumo de erros")
+    void shouldRewindCheckpointKeepingCountsAndErrorSummary() {
+        Long logId = adapter.createLog("a.txt", LocalDateTime.now(), "node-a");
+        ErrorSummary summary =
+                ErrorSummary.builder()
+                        .totalErrors(1)
+                        .detailedErrors(1)
+                        .truncated(false)
+                        .byCode(Map.of("INVALID_LENGTH", 1))
+                        .build();
+        adapter.updateLog(logId, ProcessingStatus.PROCESSING, 10, 9, 1, summary);
+        adapter.updateProgress(logId, "node-a", 10, 10L, new ResumePoint(100L, 11));
+
+        adapter.updateProgress(logId, "node-a", 0, null, ResumePoint.START);
+        entityManager.clear();
+
+        assertThat(adapter.findCheckpoint(logId))
+                .hasValueSatisfying(
+                        checkpoint -> {
+                            assertThat(checkpoint.resumePoint()).isEqualTo(ResumePoint.START);
+                            assertThat(checkpoint.lastCommittedUserId()).isNull();
+                            assertThat(checkpoint.totalLines()).isEqualTo(10);
+                            assertThat(checkpoint.errorSummary()).isEqualTo(summary);
+                        });
+    }
+
+    private void expireLease(Long logId) {
+        entityManager.flush();
+        entityManager
+                .getEntityManager()
+                .createNativeQuery(
+                        "UPDATE file_processing_logs"
+                                + " SET heartbeat_at = now() - INTERVAL '1 hour' WHERE id = ?1")
+                .setParameter(1, logId)
+                .executeUpdate();
+        entityManager.clear();
+    }
+}
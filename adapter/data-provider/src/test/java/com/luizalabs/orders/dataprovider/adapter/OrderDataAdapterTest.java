@@ -0,0 +1,184 @@
+package com.luizalabs.orders.dataprovider.adapter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.luizalabs.orders.domain.entity.Order;
+import com.luizalabs.orders.domain.entity.Product;
+import com.luizalabs.orders.domain.entity.User;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort.DataVersion;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort.OrderKey;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OrderDataAdapter.class)
+@DisplayName("OrderDataAdapter - Testes de Integração")
+class OrderDataAdapterTest {
+
+    @Container @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired private OrderDataAdapter adapter;
+
+    @Autowired private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Deve buscar por order_id apenas o pedido procurado de cada usuário")
+    void shouldFindOnlyMatchingOrderByOrderId() {
+        save(
+                user(70L, order(753L, "2021-03-08", 1836_74L), order(754L, "2021-03-09", 10_00L)),
+                user(71L, order(753L, "2021-05-01", 5_00L)),
+                user(72L, order(900L, "2021-03-08", 1_00L)));
+
+        List<User> found = adapter.findByOrderId(753L);
+
+        assertThat(found).extracting(User::getUserId).containsExactly(70L, 71L);
+        assertThat(found)
+                .allSatisfy(
+                        user ->
+                                assertThat(user.getOrders())
+                                        .extracting(Order::getOrderId)
+                                        .containsExactly(753L));
+        assertThat(found.get(0).getOrders().get(0).getTotalCents()).isEqualTo(1836_74L);
+    }
+
+    @Test
+    @DisplayName("Deve buscar o pedido de um usuário pela chave primária e filtro jsonpath")
+    void shouldFindSingleOrderOfUser() {
+        save(user(70L, order(753L, "2021-03-08", 1836_74L), order(754L, "2021-03-09", 10_00L)));
+
+        assertThat(adapter.findUserOrder(70L, 754L))
+                .hasValueSatisfying(
+                        user ->
+                                assertThat(user.getOrders())
+                                        .extracting(Order::getOrderId)
+                                        .containsExactly(754L));
+        assertThat(adapter.findUserOrder(70L, 999L)).isEmpty();
+        assertThat(adapter.findUserOrder(71L, 753L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve transmitir apenas os pedidos dentro do intervalo de datas, inclusive")
+    void shouldStreamOnlyOrdersWithinDateRange() {
+        save(
+                user(72L, order(3L, "2021-12-31", 3_00L), order(4L, "2022-01-01", 4_00L)),
+                user(70L, order(1L, "2021-01-01", 1_00L), order(2L, "2020-12-31", 2_00L)),
+                user(71L, order(5L, "2020-06-15", 5_00L)));
+
+        List<User> found;
+        try (Stream<User> users =
+                adapter.streamByOrderDateBetween(
+                        LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31))) {
+            found = users.toList();
+        }
+
+        assertThat(found).extracting(User::getUserId).containsExactly(70L, 72L);
+        assertThat(found.get(0).getOrders())
+                .extracting(Order::getOrderId, Order::getDate)
+                .containsExactly(tuple(1L, LocalDate.of(2021, 1, 1)));
+        assertThat(found.get(1).getOrders())
+                .extracting(Order::getOrderId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Deve transmitir todos os usuários ordenados por user_id")
+    void shouldStreamAllUsersOrderedByUserId() {
+        save(user(72L, order(3L, "2021-12-31", 3_00L)), user(70L, order(1L, "2021-01-01", 1_00L)));
+
+        try (Stream<User> users = adapter.streamAll()) {
+            assertThat(users.toList()).extracting(User::getUserId).containsExactly(70L, 72L);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve bloquear e devolver apenas os usuários informados")
+    void shouldLockRequestedUsers() {
+        save(
+                user(70L, order(1L, "2021-01-01", 1_00L)),
+                user(71L, order(2L, "2021-01-02", 2_00L)),
+                user(72L, order(3L, "2021-01-03", 3_00L)));
+
+        List<User> locked = adapter.lockByUserIds(List.of(72L, 70L, 99L));
+
+        assertThat(locked).extracting(User::getUserId).containsExactly(70L, 72L);
+    }
+
+    @Test
+    @DisplayName("Deve paginar as chaves de pedidos por user_id")
+    void shouldPageOrderKeysByUserId() {
+        save(
+                user(70L, order(1L, "2021-01-01", 1_00L), order(2L, "2021-01-02", 2_00L)),
+                user(71L),
+                user(72L, order(3L, "2021-01-03", 3_00L)));
+
+        List<OrderKey> firstPage = adapter.findOrderKeys(0L, 2);
+        List<OrderKey> secondPage = adapter.findOrderKeys(71L, 2);
+
+        assertThat(firstPage)
+                .containsExactlyInAnyOrder(
+                        new OrderKey(70L, 1L), new OrderKey(70L, 2L), new OrderKey(71L, null));
+        assertThat(secondPage).containsExactly(new OrderKey(72L, 3L));
+    }
+
+    @Test
+    @DisplayName("Deve gravar sem tocar a geração e avançá-la apenas quando solicitado")
+    void shouldAdvanceGenerationOnlyWhenRequested() {
+        DataVersion before = adapter.currentVersion();
+
+        save(user(70L, order(1L, "2021-01-01", 1_00L)));
+        DataVersion saved = adapter.currentVersion();
+
+        adapter.advanceVersion();
+        DataVersion advanced = adapter.currentVersion();
+
+        assertThat(saved.generation()).isEqualTo(before.generation());
+        assertThat(saved.lastUpdated()).isGreaterThan(before.lastUpdated());
+        assertThat(advanced.generation()).isEqualTo(before.generation() + 1);
+        assertThat(advanced.lastUpdated()).isEqualTo(saved.lastUpdated());
+    }
+
+    private void save(User... users) {
+        adapter.saveAll(List.of(users));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User user(Long userId, Order... orders) {
+        return User.builder()
+                .userId(userId)
+                .name("Usuário " + userId)
+                .orders(List.of(orders))
+                .build();
+    }
+
+    private Order order(Long orderId, String date, long totalCents) {
+        Order order =
+                Order.builder()
+                        .orderId(orderId)
+                        .date(LocalDate.parse(date))
+                        .products(
+                                List.of(
+                                        Product.builder()
+                                                .productId(orderId * 10)
+                                                .valueCents(totalCents)
+                                                .build()))
+                        .build();
+        order.setTotalCents(totalCents);
+        return order;
+    }
+}
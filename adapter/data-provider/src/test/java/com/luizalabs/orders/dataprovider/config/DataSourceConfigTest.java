@@ -0,0 +1,52 @@
+package com.luizalabs.orders.dataprovider.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+@DisplayName("DataSourceConfig - Testes Unitários")
+class DataSourceConfigTest {
+
+    private final DataSourceConfig config = new DataSourceConfig();
+
+    @Test
+    @DisplayName("Deve manter a réplica desabilitada por padrão")
+    void shouldKeepReplicaDisabledByDefault() {
+        assertThat(new ReplicaProperties().isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve falhar na inicialização quando a réplica está habilitada sem URL")
+    void shouldFailFastWhenReplicaEnabledWithoutUrl() {
+        ReplicaProperties replica = new ReplicaProperties();
+        replica.setEnabled(true);
+
+        assertThatThrownBy(() -> config.replicaDataSource(primary(), replica))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("DB_REPLICA_URL");
+    }
+
+    @Test
+    @DisplayName("Deve criar o pool de leitura com a URL da réplica e credenciais do primário")
+    void shouldBuildReplicaPoolFromReplicaUrl() {
+        ReplicaProperties replica = new ReplicaProperties();
+        replica.setEnabled(true);
+        replica.setUrl("jdbc:postgresql://replica:5432/orders_db");
+
+        try (var pool = config.replicaDataSource(primary(), replica)) {
+            assertThat(pool.getJdbcUrl()).isEqualTo("jdbc:postgresql://replica:5432/orders_db");
+            assertThat(pool.getUsername()).isEqualTo("usr_orders_db");
+        }
+    }
+
+    private DataSourceProperties primary() {
+        DataSourceProperties primary = new DataSourceProperties();
+        primary.setUrl("jdbc:postgresql://primary:5432/orders_db");
+        primary.setUsername("usr_orders_db");
+        primary.setPassword("pw_orders_db");
+        primary.setDriverClassName("org.postgresql.Driver");
+        return primary;
+    }
+}
@@ -0,0 +1,100 @@
+package com.luizalabs.orders.dataprovider.config;
+
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadWriteRoutingDataSource - Testes Unitários")
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock private ReplicaLagMonitor monitor;
+
+    private DataSource primary;
+    private DataSource replica;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        primary = mock(DataSource.class, RETURNS_MOCKS);
+        replica = mock(DataSource.class, RETURNS_MOCKS);
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(monitor);
+        routing.setTargetDataSources(
+                Map.<Object, Object>of(
+                        ReadWriteRoutingDataSource.Route.PRIMARY,
+                        primary,
+                        ReadWriteRoutingDataSource.Route.REPLICA,
+                        replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy();
+        lazy.setTargetDataSource(routing);
+        lazy.setDefaultAutoCommit(true);
+        lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        lazy.afterPropertiesSet();
+        dataSource = lazy;
+    }
+
+    @Test
+    @DisplayName("Deve enviar transação somente leitura para a réplica")
+    void shouldRouteReadOnlyTransactionToReplica() throws Exception {
+        when(monitor.isReplicaUsable()).thenReturn(true);
+
+        runInTransaction(true);
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve enviar transação de escrita para o primário")
+    void shouldRouteReadWriteTransactionToPrimary() throws Exception {
+        runInTransaction(false);
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+        verifyNoInteractions(monitor);
+    }
+
+    @Test
+    @DisplayName("Deve enviar leitura ao primário com a réplica atrasada ou fora do ar")
+    void shouldRouteReadOnlyTransactionToPrimaryWhenReplicaUnusable() throws Exception {
+        when(monitor.isReplicaUsable()).thenReturn(false);
+
+        runInTransaction(true);
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário fora de transação")
+    void shouldRouteToPrimaryOutsideTransaction() throws Exception {
+        new JdbcTemplate(dataSource).execute("SELECT 1");
+
+        verify(primary).getConnection();
+        verify(replica, never()).getConnection();
+    }
+
+    private void runInTransaction(boolean readOnly) {
+        TransactionTemplate transaction =
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        transaction.executeWithoutResult(
+                status -> new JdbcTemplate(dataSource).execute("SELECT 1"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.luizalabs.orders.dataprovider.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaLagMonitor - Testes Unitários")
+class ReplicaLagMonitorTest {
+
+    @Mock private DataSource replica;
+
+    private ReplicaProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReplicaProperties();
+        properties.setEnabled(true);
+        properties.setMaxLag(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Deve usar a réplica enquanto o atraso estiver dentro do limite")
+    void shouldUseReplicaWithinMaxLag() throws Exception {
+        Connection connection = connectionWithLag(1_200L);
+        when(replica.getConnection()).thenReturn(connection);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties);
+
+        monitor.check();
+
+        assertThat(monitor.isReplicaUsable()).isTrue();
+        assertThat(monitor.lagMillis()).isEqualTo(1_200L);
+    }
+
+    @Test
+    @DisplayName("Deve voltar ao primário quando o atraso passar do limite")
+    void shouldFallBackToPrimaryWhenLagExceedsMax() throws Exception {
+        Connection fresh = connectionWithLag(1_200L);
+        Connection behind = connectionWithLag(6_000L);
+        when(replica.getConnection()).thenReturn(fresh).thenReturn(behind);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties);
+
+        monitor.check();
+        monitor.check();
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(monitor.lagMillis()).isEqualTo(6_000L);
+    }
+
+    @Test
+    @DisplayName("Deve voltar ao primário quando a verificação de atraso falhar")
+    void shouldFallBackToPrimaryWhenLagProbeFails() throws Exception {
+        Connection connection = connectionWithLag(0L);
+        when(replica.getConnection())
+                .thenReturn(connection)
+                .thenThrow(new SQLException("conexão recusada"));
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties);
+
+        monitor.check();
+        monitor.check();
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(monitor.lagMillis()).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar nada com a réplica desabilitada")
+    void shouldStayOnPrimaryWhenReplicaDisabled() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(null, new ReplicaProperties());
+
+        monitor.check();
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    private Connection connectionWithLag(long lagMillis) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(resultSet.getLong(1)).thenReturn(lagMillis);
+        return connection;
+    }
+}
@@ -0,0 +1,58 @@
+package com.luizalabs.orders.api.config;
+
+import com.luizalabs.orders.dataprovider.config.ReplicaLagMonitor;
+import com.luizalabs.orders.usecase.impl.log.LogRetentionJob;
+import com.luizalabs.orders.usecase.port.UploadAdmission;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder uploadAdmissionMetrics(UploadAdmission admission) {
+        return registry -> {
+            Gauge.builder("orders.upload.queue.depth", admission, UploadAdmission::queueDepth)
+                    .description("Uploads aguardando capacidade de processamento")
+                    .register(registry);
+            Gauge.builder("orders.upload.active", admission, UploadAdmission::activeUploads)
+                    .description("Uploads em processamento")
+                    .register(registry);
+            Gauge.builder("orders.upload.in.flight", admission, UploadAdmission::inFlightBytes)
+                    .description("Bytes de uploads em processamento")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder logRetentionMetrics(LogRetentionJob retentionJob) {
+        return registry -> {
+            Gauge.builder(
+                            "orders.logs.storage.size",
+                            retentionJob,
+                            LogRetentionJob::lastStorageSize)
+                    .description("Tamanho de file_processing_logs e line_errors com índices")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("orders.logs.dead.tuples", retentionJob, LogRetentionJob::lastDeadTuples)
+                    .description("Tuplas mortas de file_processing_logs e line_errors")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder replicaLagMetrics(ReplicaLagMonitor monitor) {
+        return registry -> {
+            Gauge.builder("orders.db.replica.lag", monitor, ReplicaLagMonitor::lagMillis)
+                    .description("Atraso da réplica de leitura (-1 quando indisponível)")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("orders.db.replica.active", monitor, m -> m.isReplicaUsable() ? 1 : 0)
+                    .description("1 quando consultas somente leitura usam a réplica")
+                    .register(registry);
+        };
+    }
+}
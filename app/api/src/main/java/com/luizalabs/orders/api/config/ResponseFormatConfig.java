@@ -0,0 +1,65 @@
+package com.luizalabs.orders.api.config;
+
+import static com.luizalabs.orders.api.config.ResponseFormats.APPLICATION_SMILE;
+import static org.springframework.http.MediaType.APPLICATION_CBOR;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.luizalabs.orders.api.config.ResponseFormats.Format;
+import java.math.BigDecimal;
+import java.util.List;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class ResponseFormatConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer decimalsAsJsonStrings() {
+        return builder -> builder.postConfigurer(mapper -> decimalsAs(mapper, Shape.STRING));
+    }
+
+    @Bean
+    public ResponseFormats responseFormats(ObjectMapper objectMapper) {
+        ObjectMapper smile = binary(objectMapper, new SmileFactory());
+        ObjectMapper cbor = binary(objectMapper, new CBORFactory());
+
+        return new ResponseFormats(
+                List.of(
+                        new Format(APPLICATION_JSON, "json", objectMapper),
+                        new Format(APPLICATION_SMILE, "smile", smile),
+                        new Format(APPLICATION_CBOR, "cbor", cbor)));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            ResponseFormats formats) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                formats.format(APPLICATION_SMILE).mapper());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            ResponseFormats formats) {
+        return new MappingJackson2CborHttpMessageConverter(
+                formats.format(APPLICATION_CBOR).mapper());
+    }
+
+    private static ObjectMapper binary(ObjectMapper json, JsonFactory factory) {
+        ObjectMapper mapper = json.copyWith(factory);
+        decimalsAs(mapper, Shape.NUMBER);
+        return mapper;
+    }
+
+    private static void decimalsAs(ObjectMapper mapper, Shape shape) {
+        mapper.configOverride(BigDecimal.class).setFormat(JsonFormat.Value.forShape(shape));
+    }
+}
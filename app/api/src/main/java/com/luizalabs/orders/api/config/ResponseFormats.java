@@ -0,0 +1,51 @@
+package com.luizalabs.orders.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+public class ResponseFormats {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    private final List<Format> formats;
+
+    public ResponseFormats(List<Format> formats) {
+        this.formats = List.copyOf(formats);
+    }
+
+    public Format negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return formats.get(0);
+        }
+
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return formats.get(0);
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+
+        for (MediaType mediaType : accepted) {
+            for (Format format : formats) {
+                if (mediaType.isCompatibleWith(format.mediaType())) {
+                    return format;
+                }
+            }
+        }
+        return formats.get(0);
+    }
+
+    public Format format(MediaType mediaType) {
+        return formats.stream()
+                .filter(format -> format.mediaType().equals(mediaType))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    public record Format(MediaType mediaType, String tag, ObjectMapper mapper) {}
+}
@@ -5,6 +5,7 @@ import static org.springframework.http.HttpStatus.*;
 
 import com.luizalabs.orders.domain.exception.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -15,7 +16,12 @@ import org.springframework.web.multipart.MaxUploadSizeExceededException;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler({EmptyFileException.class, InvalidFileFormatException.class})
+    @ExceptionHandler({
+        EmptyFileException.class,
+        InvalidFileFormatException.class,
+        InvalidCursorException.class,
+        InvalidRequestException.class
+    })
     public ResponseEntity<ErrorResponse> handleBadRequest(DomainException ex) {
         log.error("Bad request: {}", ex.getMessage());
         return ResponseEntity.badRequest().body(buildError(BAD_REQUEST, ex.getMessage()));
@@ -34,6 +40,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(NOT_FOUND).body(buildError(NOT_FOUND, ex.getMessage()));
     }
 
+    @ExceptionHandler(InvalidProcessingStateException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(InvalidProcessingStateException ex) {
+        log.error("Conflito: {}", ex.getMessage());
+        return ResponseEntity.status(CONFLICT).body(buildError(CONFLICT, ex.getMessage()));
+    }
+
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ResponseEntity<ErrorResponse> handleFileTooLarge(MaxUploadSizeExceededException ex) {
         log.error("Arquivo muito grande");
@@ -41,6 +53,14 @@ public class GlobalExceptionHandler {
                 .body(buildError(PAYLOAD_TOO_LARGE, "Arquivo excede tamanho máximo"));
     }
 
+    @ExceptionHandler(UploadRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleUploadRejected(UploadRejectedException ex) {
+        log.warn("Upload rejeitado: {}", ex.getMessage());
+        return ResponseEntity.status(TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(buildError(TOO_MANY_REQUESTS, ex.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericError(Exception ex) {
         log.error("Erro inesperado: {}", ex.getMessage(), ex);
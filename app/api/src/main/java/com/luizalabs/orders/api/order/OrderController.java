@@ -1,19 +1,43 @@
 package com.luizalabs.orders.api.order;
 
+import static com.luizalabs.orders.api.config.ResponseFormats.APPLICATION_SMILE_VALUE;
 import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.VARY;
 import static org.springframework.http.HttpStatus.*;
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.luizalabs.orders.api.config.ResponseFormats;
+import com.luizalabs.orders.api.config.ResponseFormats.Format;
 import com.luizalabs.orders.api.order.doc.OrderControllerDoc;
+import com.luizalabs.orders.domain.dto.CursorPage;
+import com.luizalabs.orders.domain.dto.DailyOrderStatsDTO;
+import com.luizalabs.orders.domain.dto.LineError;
 import com.luizalabs.orders.domain.dto.ProcessingResult;
+import com.luizalabs.orders.domain.dto.UserBatchGetRequest;
 import com.luizalabs.orders.domain.dto.UserOrderResponseDTO;
+import com.luizalabs.orders.domain.dto.ValidationResult;
 import com.luizalabs.orders.domain.enums.ProcessingStatus;
 import com.luizalabs.orders.usecase.port.ProcessFileUseCase;
 import com.luizalabs.orders.usecase.port.QueryLogsUseCase;
 import com.luizalabs.orders.usecase.port.QueryOrdersUseCase;
+import com.luizalabs.orders.usecase.port.QueryOrdersUseCase.Versioned;
+import com.luizalabs.orders.usecase.port.QueryStatsUseCase;
+import com.luizalabs.orders.usecase.port.UploadAdmission;
+import com.luizalabs.orders.usecase.port.ValidateFileUseCase;
 import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogInfo;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogSummary;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -22,9 +46,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -34,15 +60,22 @@ import org.springframework.web.multipart.MultipartFile;
 public class OrderController implements OrderControllerDoc {
 
     private final ProcessFileUseCase processFileUseCase;
+    private final ValidateFileUseCase validateFileUseCase;
     private final QueryOrdersUseCase queryOrdersUseCase;
     private final QueryLogsUseCase queryLogsUseCase;
+    private final QueryStatsUseCase queryStatsUseCase;
+    private final UploadAdmission uploadAdmission;
+    private final ResponseFormats responseFormats;
 
     @Override
     @PostMapping(value = "/upload", consumes = MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ProcessingResult> upload(@RequestParam("file") MultipartFile file) {
-        log.info("Upload: {}", file.getOriginalFilename());
+        log.info("Upload: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
 
-        ProcessingResult result = processFileUseCase.execute(file);
+        ProcessingResult result;
+        try (UploadAdmission.Permit permit = uploadAdmission.acquire(file.getSize())) {
+            result = processFileUseCase.execute(file);
+        }
         HttpStatus status = determineHttpStatus(result.getStatus());
 
         log.info(
@@ -54,25 +87,101 @@ public class OrderController implements OrderControllerDoc {
     }
 
     @Override
-    @GetMapping
-    public ResponseEntity<List<UserOrderResponseDTO>> query(
+    @PostMapping(value = "/validate", consumes = MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ValidationResult> validate(@RequestParam("file") MultipartFile file) {
+        log.info("Validação: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+
+        try (UploadAdmission.Permit permit = uploadAdmission.acquire(file.getSize())) {
+            return ResponseEntity.ok(validateFileUseCase.validate(file));
+        }
+    }
+
+    @Override
+    @PostMapping(value = "/logs/{id}/resume", consumes = MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProcessingResult> resume(
+            @PathVariable Long id, @RequestParam("file") MultipartFile file) {
+        log.info("Retomando log ID {}: {}", id, file.getOriginalFilename());
+
+        ProcessingResult result;
+        try (UploadAdmission.Permit permit = uploadAdmission.acquire(file.getSize())) {
+            result = processFileUseCase.resume(id, file);
+        }
+
+        return ResponseEntity.status(determineHttpStatus(result.getStatus())).body(result);
+    }
+
+    @Override
+    @GetMapping(
+            produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE})
+    public void query(
             @RequestParam(required = false) Long orderId,
             @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate endDate) {
-        List<UserOrderResponseDTO> result;
+            @RequestParam(required = false) @DateTimeFormat(iso = DATE) LocalDate endDate,
+            WebRequest request,
+            HttpServletResponse response) {
+        Format format = responseFormats.negotiate(request.getHeader(ACCEPT));
+        response.setHeader(VARY, ACCEPT);
+
+        if (request.getHeader(IF_NONE_MATCH) != null
+                && request.checkNotModified(etag(queryOrdersUseCase.currentVersion(), format))) {
+            return;
+        }
 
         if (orderId != null) {
-            result = queryOrdersUseCase.findByOrderId(orderId);
+            Versioned<List<UserOrderResponseDTO>> found = queryOrdersUseCase.findByOrderId(orderId);
+            writeArray(format, response, new Versioned<>(found.version(), found.value().stream()));
         } else if (startDate != null && endDate != null) {
-            result = queryOrdersUseCase.findByDateRange(startDate, endDate);
+            queryOrdersUseCase.streamByDateRange(
+                    startDate, endDate, rows -> writeArray(format, response, rows));
         } else {
-            result = queryOrdersUseCase.findAll();
+            queryOrdersUseCase.streamAll(rows -> writeArray(format, response, rows));
         }
+    }
+
+    @Override
+    @GetMapping(
+            value = "/users/{userId}",
+            produces = {APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE, APPLICATION_CBOR_VALUE})
+    public ResponseEntity<UserOrderResponseDTO> getUser(
+            @PathVariable Long userId, WebRequest request) {
+        log.info("Buscando user_id: {}", userId);
 
-        log.info("Retornando {} resultados", result.size());
+        Format format = responseFormats.negotiate(request.getHeader(ACCEPT));
+        return queryOrdersUseCase.atCurrentVersion(
+                version -> {
+                    String etag = etag(version, format);
+                    if (request.checkNotModified(etag)) {
+                        return ResponseEntity.status(NOT_MODIFIED).build();
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(etag)
+                            .varyBy(ACCEPT)
+                            .contentType(format.mediaType())
+                            .body(queryOrdersUseCase.findByUserId(userId));
+                });
+    }
+
+    @Override
+    @PostMapping("/users:batchGet")
+    public ResponseEntity<List<UserOrderResponseDTO>> batchGetUsers(
+            @RequestBody UserBatchGetRequest request) {
+        List<UserOrderResponseDTO> result = queryOrdersUseCase.findByUserIds(request.getUserIds());
+
+        log.info("Retornando {} usuários", result.size());
         return ResponseEntity.ok(result);
     }
 
+    @Override
+    @GetMapping("/stats/daily")
+    public ResponseEntity<List<DailyOrderStatsDTO>> getDailyStats(
+            @RequestParam @DateTimeFormat(iso = DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DATE) LocalDate endDate) {
+        List<DailyOrderStatsDTO> stats = queryStatsUseCase.findDailyStats(startDate, endDate);
+
+        log.info("Retornando estatísticas de {} dias", stats.size());
+        return ResponseEntity.ok(stats);
+    }
+
     @Override
     @GetMapping("/logs/{id}")
     public ResponseEntity<LogInfo> getLogById(@PathVariable Long id) {
@@ -83,21 +192,61 @@ public class OrderController implements OrderControllerDoc {
 
     @Override
     @GetMapping("/logs")
-    public ResponseEntity<List<LogInfo>> getLogs(
+    public ResponseEntity<CursorPage<LogSummary>> getLogs(
             @RequestParam(required = false) ProcessingStatus status,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
-        log.info("Listando logs - status: {}, page: {}, size: {}", status, page, size);
+        log.info("Listando logs - status: {}, cursor: {}, size: {}", status, cursor, size);
 
-        List<LogInfo> logs =
-                (status != null)
-                        ? queryLogsUseCase.findByStatus(status, page, size)
-                        : queryLogsUseCase.findAll(page, size);
+        CursorPage<LogSummary> logs = queryLogsUseCase.findLogs(status, cursor, size);
 
-        log.info("Retornando {} logs", logs.size());
+        log.info("Retornando {} logs", logs.getItems().size());
         return ResponseEntity.ok(logs);
     }
 
+    @Override
+    @GetMapping("/logs/{id}/errors")
+    public ResponseEntity<CursorPage<LineError>> getLogErrors(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer after,
+            @RequestParam(defaultValue = "100") int size) {
+        log.info("Listando erros do log ID {} - after: {}, size: {}", id, after, size);
+        return ResponseEntity.ok(queryLogsUseCase.findErrors(id, after, size));
+    }
+
+    private String etag(String version, Format format) {
+        return "W/\"" + version + "-" + format.tag() + "\"";
+    }
+
+    private void writeArray(
+            Format format,
+            HttpServletResponse response,
+            Versioned<Stream<UserOrderResponseDTO>> rows) {
+        int[] count = {0};
+        response.setHeader(ETAG, etag(rows.version(), format));
+        response.setContentType(format.mediaType().toString());
+
+        try (JsonGenerator json =
+                format.mapper().getFactory().createGenerator(response.getOutputStream())) {
+            json.writeStartArray();
+            rows.value()
+                    .forEach(
+                            user -> {
+                                try {
+                                    json.writeObject(user);
+                                    count[0]++;
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            });
+            json.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("Retornando {} resultados", count[0]);
+    }
+
     private HttpStatus determineHttpStatus(ProcessingStatus status) {
         return switch (status) {
             case SUCCESS -> OK;
@@ -2,10 +2,16 @@ package com.luizalabs.orders.api.order.doc;
 
 import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
 
+import com.luizalabs.orders.domain.dto.CursorPage;
+import com.luizalabs.orders.domain.dto.DailyOrderStatsDTO;
+import com.luizalabs.orders.domain.dto.LineError;
 import com.luizalabs.orders.domain.dto.ProcessingResult;
+import com.luizalabs.orders.domain.dto.UserBatchGetRequest;
 import com.luizalabs.orders.domain.dto.UserOrderResponseDTO;
+import com.luizalabs.orders.domain.dto.ValidationResult;
 import com.luizalabs.orders.domain.enums.ProcessingStatus;
 import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogInfo;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogSummary;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,10 +20,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import java.time.LocalDate;
 import java.util.List;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @Tag(name = "Orders API", description = "API para processamento e consulta de pedidos")
@@ -163,6 +171,12 @@ public interface OrderControllerDoc {
                           "data": []
                         }
                         """))),
+                @ApiResponse(
+                        responseCode = "429",
+                        description =
+                                "Capacidade de processamento esgotada; tente novamente após o"
+                                        + " tempo indicado no header Retry-After",
+                        content = @Content(mediaType = "application/json")),
                 @ApiResponse(
                         responseCode = "500",
                         description = "Erro interno do servidor",
@@ -170,6 +184,84 @@ public interface OrderControllerDoc {
             })
     ResponseEntity<ProcessingResult> upload(MultipartFile file);
 
+    @Operation(
+            summary = "Validar arquivo sem processar (dry-run)",
+            description =
+                    """
+            Executa as mesmas validações do upload (extensão, tamanho e formato de cada linha)
+            e retorna as estatísticas de erro, sem criar log e sem gravar pedidos.
+
+            O arquivo é lido em blocos alinhados a quebras de linha e os blocos são validados
+            em paralelo (`INGEST_VALIDATION_PARALLELISM`, padrão: número de CPUs).
+            """,
+            parameters = {
+                @Parameter(name = "file", description = "Arquivo .txt a validar", required = true)
+            })
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Arquivo validado",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ValidationResult.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Arquivo vazio ou com extensão inválida",
+                        content = @Content(mediaType = "application/json")),
+                @ApiResponse(
+                        responseCode = "429",
+                        description = "Capacidade de processamento esgotada",
+                        content = @Content(mediaType = "application/json"))
+            })
+    ResponseEntity<ValidationResult> validate(MultipartFile file);
+
+    @Operation(
+            summary = "Retomar processamento com falha",
+            description =
+                    """
+            Reenvia o arquivo de um processamento que falhou no meio do caminho.
+
+            Os usuários são gravados em lotes com commit independente e o log registra quantos
+            já foram gravados. Na retomada, esses usuários são pulados e apenas o restante do
+            arquivo é gravado. O arquivo precisa ser o mesmo do upload original.
+            """,
+            parameters = {
+                @Parameter(
+                        name = "id",
+                        description = "ID do log de processamento com falha",
+                        example = "1",
+                        required = true),
+                @Parameter(
+                        name = "file",
+                        description = "Mesmo arquivo enviado no upload original",
+                        required = true)
+            })
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Processamento retomado e concluído",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ProcessingResult.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Arquivo não corresponde ao checkpoint do log",
+                        content = @Content(mediaType = "application/json")),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Log não encontrado",
+                        content = @Content(mediaType = "application/json")),
+                @ApiResponse(
+                        responseCode = "409",
+                        description = "O log não está em estado de falha",
+                        content = @Content(mediaType = "application/json"))
+            })
+    ResponseEntity<ProcessingResult> resume(Long id, MultipartFile file);
+
     @Operation(
             summary = "Consultar pedidos",
             description =
@@ -183,6 +275,19 @@ public interface OrderControllerDoc {
 
             **Nota:** Os filtros `orderId` e `startDate/endDate` são mutuamente exclusivos.
             Se ambos forem fornecidos, `orderId` terá prioridade.
+
+            Com filtro, cada usuário vem apenas com os pedidos que atendem ao filtro.
+
+            A listagem completa e a busca por datas são transmitidas à medida que as linhas
+            chegam do banco (cursor no servidor), sem montar a lista inteira em memória.
+
+            A resposta traz um `ETag` fraco com a versão dos dados, lida na mesma transação
+            que os pedidos. Reenvie-o em `If-None-Match` para receber `304 Not Modified`
+            enquanto nenhum upload alterar os pedidos.
+
+            Além de JSON, aceita `Accept: application/x-jackson-smile` ou
+            `Accept: application/cbor`. Nos formatos binários, `total` e `value` são números
+            decimais em vez de texto.
             """,
             parameters = {
                 @Parameter(
@@ -238,6 +343,10 @@ public interface OrderControllerDoc {
                           }
                         ]
                         """))),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dados inalterados desde o ETag informado",
+                        content = @Content),
                 @ApiResponse(
                         responseCode = "400",
                         description = "Parâmetros de filtro inválidos",
@@ -247,8 +356,132 @@ public interface OrderControllerDoc {
                         description = "Erro interno do servidor",
                         content = @Content(mediaType = "application/json"))
             })
-    ResponseEntity<List<UserOrderResponseDTO>> query(
+    void query(
             Long orderId,
+            @DateTimeFormat(iso = DATE) LocalDate startDate,
+            @DateTimeFormat(iso = DATE) LocalDate endDate,
+            @Parameter(hidden = true) WebRequest request,
+            @Parameter(hidden = true) HttpServletResponse response);
+
+    @Operation(
+            summary = "Buscar pedidos de um usuário",
+            description =
+                    """
+            Retorna o usuário e todos os seus pedidos por `user_id`.
+
+            A busca usa diretamente a chave primária de `user_orders`, sem varrer a tabela.
+            Aceita `If-None-Match` com o `ETag` da última resposta, como a listagem.
+            """,
+            parameters = {
+                @Parameter(
+                        name = "userId",
+                        description = "ID do usuário",
+                        example = "70",
+                        required = true)
+            })
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Usuário encontrado",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema =
+                                                @Schema(
+                                                        implementation =
+                                                                UserOrderResponseDTO.class))),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "Dados inalterados desde o ETag informado",
+                        content = @Content),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Usuário não encontrado",
+                        content = @Content(mediaType = "application/json"))
+            })
+    ResponseEntity<UserOrderResponseDTO> getUser(
+            Long userId, @Parameter(hidden = true) WebRequest request);
+
+    @Operation(
+            summary = "Buscar pedidos de vários usuários",
+            description =
+                    """
+            Retorna os usuários informados no corpo `{"user_ids": [70, 75]}` com uma única
+            consulta (`WHERE user_id = ANY(?)`).
+
+            - Máximo de 100 `user_ids` distintos por requisição
+            - IDs repetidos são considerados uma vez
+            - O resultado segue a ordem da requisição; IDs inexistentes são omitidos
+            """)
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Usuários encontrados",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        schema =
+                                                @Schema(
+                                                        implementation =
+                                                                UserOrderResponseDTO.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Lista vazia, com nulos ou acima do limite",
+                        content = @Content(mediaType = "application/json"))
+            })
+    ResponseEntity<List<UserOrderResponseDTO>> batchGetUsers(UserBatchGetRequest request);
+
+    @Operation(
+            summary = "Consultar estatísticas diárias de pedidos",
+            description =
+                    """
+            Retorna o consolidado diário (quantidade de pedidos, quantidade de produtos e
+            faturamento) mantido incrementalmente a cada upload processado.
+
+            A consulta lê apenas uma linha por dia do intervalo, sem percorrer os pedidos.
+            """,
+            parameters = {
+                @Parameter(
+                        name = "startDate",
+                        description = "Data inicial do intervalo (formato: yyyy-MM-dd)",
+                        example = "2021-01-01",
+                        required = true),
+                @Parameter(
+                        name = "endDate",
+                        description = "Data final do intervalo (formato: yyyy-MM-dd)",
+                        example = "2021-12-31",
+                        required = true)
+            })
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Estatísticas diárias do intervalo",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        examples =
+                                                @ExampleObject(
+                                                        name = "Estatísticas",
+                                                        value =
+                                                                """
+                        [
+                          {
+                            "date": "2021-03-08",
+                            "order_count": 12,
+                            "product_count": 30,
+                            "revenue": "18367.42"
+                          }
+                        ]
+                        """))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Parâmetros de data ausentes ou inválidos",
+                        content = @Content(mediaType = "application/json"))
+            })
+    ResponseEntity<List<DailyOrderStatsDTO>> getDailyStats(
             @DateTimeFormat(iso = DATE) LocalDate startDate,
             @DateTimeFormat(iso = DATE) LocalDate endDate);
 
@@ -260,7 +493,8 @@ public interface OrderControllerDoc {
             - Nome do arquivo processado
             - Status do processamento (SUCCESS, PARTIAL_SUCCESS, FAILED)
             - Quantidade de linhas processadas e com erro
-            - Lista detalhada de erros (se houver)
+            - Resumo dos erros por código e por campo
+            - Amostra dos primeiros erros (a lista completa fica em `/logs/{id}/errors`)
             - Tempo de processamento em milissegundos
             """,
             parameters = {
@@ -306,13 +540,18 @@ public interface OrderControllerDoc {
             summary = "Listar logs de processamento",
             description =
                     """
-            Retorna uma lista paginada de logs de processamento.
+            Retorna uma lista paginada de logs de processamento. A listagem traz apenas o
+            resumo de cada log (contagens e `errorSummary`); os erros de linha são consultados
+            em `/logs/{id}/errors`.
 
             **Filtros disponíveis:**
             - Sem filtros: retorna todos os logs
             - `status`: filtra por status (SUCCESS, PARTIAL_SUCCESS, FAILED, PROCESSING)
 
-            **Ordenação:** Mais recentes primeiro (uploadedAt DESC)
+            **Ordenação:** Mais recentes primeiro (uploadedAt DESC, id DESC)
+
+            **Paginação:** por cursor. Use o `nextCursor` da resposta como parâmetro `cursor`
+            para buscar a próxima página; `nextCursor` nulo indica a última página.
             """,
             parameters = {
                 @Parameter(
@@ -323,13 +562,12 @@ public interface OrderControllerDoc {
                         example = "SUCCESS",
                         required = false),
                 @Parameter(
-                        name = "page",
-                        description = "Número da página (0-indexed)",
-                        example = "0",
+                        name = "cursor",
+                        description = "Cursor opaco retornado em `nextCursor` da página anterior",
                         required = false),
                 @Parameter(
                         name = "size",
-                        description = "Tamanho da página",
+                        description = "Tamanho da página (máximo 100)",
                         example = "20",
                         required = false)
             })
@@ -346,37 +584,94 @@ public interface OrderControllerDoc {
                                                         name = "Lista de Logs",
                                                         value =
                                                                 """
-                        [
-                          {
-                            "id": 2,
-                            "fileName": "orders2.txt",
-                            "uploadedAt": "2025-11-30T13:00:00",
-                            "status": "PARTIAL_SUCCESS",
-                            "totalLines": 5,
-                            "processedLines": 4,
-                            "errorLines": 1,
-                            "errors": [
-                              {
-                                "lineNumber": 3,
-                                "lineContent": "invalid...",
-                                "errorMessage": "Linha com tamanho inválido"
-                              }
-                            ],
-                            "processingTimeMs": 567
-                          },
-                          {
-                            "id": 1,
-                            "fileName": "orders1.txt",
-                            "uploadedAt": "2025-11-30T12:00:00",
-                            "status": "SUCCESS",
-                            "totalLines": 10,
-                            "processedLines": 10,
-                            "errorLines": 0,
-                            "errors": [],
-                            "processingTimeMs": 1234
-                          }
-                        ]
+                        {
+                          "items": [
+                            {
+                              "id": 2,
+                              "fileName": "orders2.txt",
+                              "uploadedAt": "2025-11-30T13:00:00",
+                              "status": "PARTIAL_SUCCESS",
+                              "totalLines": 5,
+                              "processedLines": 4,
+                              "errorLines": 1,
+                              "errorSummary": {
+                                "totalErrors": 1,
+                                "detailedErrors": 1,
+                                "truncated": false,
+                                "byCode": { "INVALID_LENGTH": 1 },
+                                "byField": { "line": 1 }
+                              },
+                              "processingTimeMs": 567
+                            },
+                            {
+                              "id": 1,
+                              "fileName": "orders1.txt",
+                              "uploadedAt": "2025-11-30T12:00:00",
+                              "status": "SUCCESS",
+                              "totalLines": 10,
+                              "processedLines": 10,
+                              "errorLines": 0,
+                              "errorSummary": null,
+                              "processingTimeMs": 1234
+                            }
+                          ],
+                          "nextCursor": "MjAyNS0xMS0zMFQxMjowMHwx"
+                        }
                         """)))
             })
-    ResponseEntity<List<LogInfo>> getLogs(ProcessingStatus status, int page, int size);
+    ResponseEntity<CursorPage<LogSummary>> getLogs(
+            ProcessingStatus status, String cursor, int size);
+
+    @Operation(
+            summary = "Listar erros de linha de um log",
+            description =
+                    """
+            Retorna os erros de linha de um processamento em ordem de número de linha,
+            paginados por cursor. Use o `nextCursor` da resposta como parâmetro `after` para
+            buscar a próxima página; `nextCursor` nulo indica que não há mais erros.
+            """,
+            parameters = {
+                @Parameter(name = "id", description = "ID do log", example = "1", required = true),
+                @Parameter(
+                        name = "after",
+                        description = "Retorna erros com número de linha maior que este",
+                        example = "120",
+                        required = false),
+                @Parameter(
+                        name = "size",
+                        description = "Quantidade de erros por página (máximo 1000)",
+                        example = "100",
+                        required = false)
+            })
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Página de erros retornada",
+                        content =
+                                @Content(
+                                        mediaType = "application/json",
+                                        examples =
+                                                @ExampleObject(
+                                                        name = "Página de Erros",
+                                                        value =
+                                                                """
+                        {
+                          "items": [
+                            {
+                              "lineNumber": 121,
+                              "lineContent": "0000000070   Palmer Prosacco0000000753...",
+                              "errorMessage": "Formato inválido para campo 'date' (posições 88-95)",
+                              "errorCode": "INVALID_DATE"
+                            }
+                          ],
+                          "nextCursor": "121"
+                        }
+                        """))),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "Log não encontrado",
+                        content = @Content(mediaType = "application/json"))
+            })
+    ResponseEntity<CursorPage<LineError>> getLogErrors(Long id, Integer after, int size);
 }
@@ -0,0 +1,99 @@
+package com.luizalabs.orders.api;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.luizalabs.orders.domain.dto.UserOrderResponseDTO;
+import com.luizalabs.orders.usecase.port.QueryOrdersUseCase;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Threads Virtuais - Testes de Integração")
+class VirtualThreadsTest {
+
+    @Container @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+    @LocalServerPort private int port;
+
+    @Autowired private ApplicationContext context;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @MockitoBean private QueryOrdersUseCase queryOrdersUseCase;
+
+    @Test
+    @DisplayName("Deve atender requisições HTTP em threads virtuais")
+    void shouldHandleRequestsOnVirtualThreads() throws Exception {
+        AtomicReference<Thread> handler = new AtomicReference<>();
+        when(queryOrdersUseCase.atCurrentVersion(any()))
+                .thenAnswer(
+                        invocation -> {
+                            Function<String, ?> read = invocation.getArgument(0);
+                            return read.apply("1-0");
+                        });
+        when(queryOrdersUseCase.findByUserId(70L))
+                .thenAnswer(
+                        invocation -> {
+                            handler.set(Thread.currentThread());
+                            return UserOrderResponseDTO.builder()
+                                    .userId(70L)
+                                    .name("Palmer Prosacco")
+                                    .orders(List.of())
+                                    .build();
+                        });
+
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/orders/users/70");
+        HttpResponse<String> response =
+                HttpClient.newHttpClient()
+                        .send(
+                                HttpRequest.newBuilder(uri).build(),
+                                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(handler.get().isVirtual()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve executar tarefas assíncronas em threads virtuais")
+    void shouldRunApplicationTasksOnVirtualThreads() throws Exception {
+        boolean virtual =
+                taskExecutor
+                        .submit(() -> Thread.currentThread().isVirtual())
+                        .get(5, TimeUnit.SECONDS);
+
+        assertThat(virtual).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve manter conexão aberta durante a escrita da resposta (open-in-view)")
+    void shouldNotRegisterOpenEntityManagerInView() {
+        assertThat(context.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class))
+                .isEmpty();
+    }
+}
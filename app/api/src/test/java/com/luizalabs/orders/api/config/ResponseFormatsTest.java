@@ -0,0 +1,95 @@
+package com.luizalabs.orders.api.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luizalabs.orders.api.config.ResponseFormats.Format;
+import com.luizalabs.orders.domain.dto.ProductDTO;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@DisplayName("ResponseFormats - Testes Unitários")
+class ResponseFormatsTest {
+
+    private ResponseFormats formats;
+
+    @BeforeEach
+    void setUp() {
+        ResponseFormatConfig config = new ResponseFormatConfig();
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        config.decimalsAsJsonStrings().customize(builder);
+
+        formats = config.responseFormats(builder.build());
+    }
+
+    @Test
+    @DisplayName("Deve escolher o formato de maior q entre os aceitos")
+    void shouldPickHighestQualityFormat() {
+        assertThat(negotiate("application/json;q=0.5, application/cbor")).isEqualTo("cbor");
+        assertThat(negotiate("application/cbor;q=0.2, application/x-jackson-smile;q=0.8"))
+                .isEqualTo("smile");
+        assertThat(negotiate("application/x-jackson-smile;q=0.1, application/json"))
+                .isEqualTo("json");
+    }
+
+    @Test
+    @DisplayName("Deve usar JSON para curingas e Accept ausente")
+    void shouldUseJsonForWildcardsAndMissingAccept() {
+        assertThat(negotiate("*/*")).isEqualTo("json");
+        assertThat(negotiate("application/*")).isEqualTo("json");
+        assertThat(negotiate(null)).isEqualTo("json");
+        assertThat(negotiate("  ")).isEqualTo("json");
+    }
+
+    @Test
+    @DisplayName("Deve preferir formato explícito a curinga com q menor")
+    void shouldPreferExplicitFormatOverLowerQualityWildcard() {
+        assertThat(negotiate("*/*;q=0.1, application/cbor")).isEqualTo("cbor");
+    }
+
+    @Test
+    @DisplayName("Deve usar JSON para Accept inválido ou sem formato compatível")
+    void shouldFallBackToJsonForInvalidOrUnsupportedAccept() {
+        assertThat(negotiate("not a media type")).isEqualTo("json");
+        assertThat(negotiate("application/json;q=abc")).isEqualTo("json");
+        assertThat(negotiate("text/html, image/png")).isEqualTo("json");
+    }
+
+    @Test
+    @DisplayName("Deve serializar valores monetários como texto em JSON")
+    void shouldWriteMoneyAsStringInJson() throws Exception {
+        ObjectMapper json = formats.negotiate("application/json").mapper();
+
+        String body = json.writeValueAsString(product("1836.74"));
+
+        assertThat(body).contains("\"value\":\"1836.74\"");
+    }
+
+    @Test
+    @DisplayName("Deve serializar valores monetários como número em Smile e CBOR")
+    void shouldWriteMoneyAsNumberInBinaryFormats() throws Exception {
+        for (String accept : new String[] {"application/x-jackson-smile", "application/cbor"}) {
+            ObjectMapper binary = formats.negotiate(accept).mapper();
+
+            JsonNode node = binary.readTree(binary.writeValueAsBytes(product("1836.74")));
+
+            assertThat(node.get("value").isNumber()).as(accept).isTrue();
+            assertThat(node.get("value").decimalValue())
+                    .as(accept)
+                    .isEqualByComparingTo(new BigDecimal("1836.74"));
+        }
+    }
+
+    private String negotiate(String accept) {
+        Format format = formats.negotiate(accept);
+        return format.tag();
+    }
+
+    private ProductDTO product(String value) {
+        return ProductDTO.builder().productId(111L).value(new BigDecimal(value)).build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.luizalabs.orders.api.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.luizalabs.orders.domain.dto.UserOrderResponseDTO;
+import com.luizalabs.orders.usecase.port.QueryOrdersUseCase;
+import com.luizalabs.orders.usecase.port.QueryOrdersUseCase.Versioned;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "orders.datasource.replica.enabled=false")
+@DisplayName("OrderController - Compressão de Respostas")
+class OrderControllerCompressionTest {
+
+    @Container @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+    @LocalServerPort private int port;
+
+    @Autowired private ObjectMapper objectMapper;
+
+    private static final String VERSION = "12-5bd0a6a3a2c00";
+
+    @MockitoBean private QueryOrdersUseCase queryOrdersUseCase;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        when(queryOrdersUseCase.currentVersion()).thenReturn(VERSION);
+        doAnswer(
+                        invocation -> {
+                            Consumer<Versioned<Stream<UserOrderResponseDTO>>> reader =
+                                    invocation.getArgument(0);
+                            reader.accept(
+                                    new Versioned<>(
+                                            VERSION,
+                                            LongStream.rangeClosed(1, 500)
+                                                    .mapToObj(this::user)));
+                            return null;
+                        })
+                .when(queryOrdersUseCase)
+                .streamAll(any());
+    }
+
+    @Test
+    @DisplayName("Deve comprimir com gzip respostas grandes com ETag fraco")
+    void shouldGzipLargeResponseWithWeakEtag() throws Exception {
+        HttpResponse<InputStream> response =
+                client.send(request().build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(response.headers().firstValue("ETag")).hasValue("W/\"12-5bd0a6a3a2c00-json\"");
+        verify(queryOrdersUseCase, never()).currentVersion();
+
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            JsonNode users = objectMapper.readTree(body);
+            assertThat(users.isArray()).isTrue();
+            assertThat(users).hasSize(500);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 quando o ETag fraco ainda é válido")
+    void shouldAnswerNotModifiedForMatchingWeakEtag() throws Exception {
+        HttpRequest request =
+                request().header("If-None-Match", "W/\"12-5bd0a6a3a2c00-json\"").build();
+
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.statusCode()).isEqualTo(304);
+        verify(queryOrdersUseCase, never()).streamAll(any());
+    }
+
+    private HttpRequest.Builder request() {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/orders"))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip");
+    }
+
+    private UserOrderResponseDTO user(long userId) {
+        return UserOrderResponseDTO.builder()
+                .userId(userId)
+                .name("Usuário " + userId)
+                .orders(List.of())
+                .build();
+    }
+}
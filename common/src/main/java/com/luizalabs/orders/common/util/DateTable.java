@@ -0,0 +1,62 @@
+package com.luizalabs.orders.common.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+class DateTable {
+
+    private static final int FIRST_YEAR = 1970;
+    private static final int YEARS = 130;
+    private static final int SLOTS_PER_YEAR = 12 * 31;
+
+    private static final LocalDate INVALID = LocalDate.MIN;
+    private static final LocalDate[] TABLE = new LocalDate[YEARS * SLOTS_PER_YEAR];
+
+    private DateTable() {}
+
+    static LocalDate decode(String line, int start) {
+        int year = 0;
+        int month = 0;
+        int day = 0;
+
+        for (int i = start; i < start + 8; i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            int digit = c - '0';
+            if (i < start + 4) {
+                year = year * 10 + digit;
+            } else if (i < start + 6) {
+                month = month * 10 + digit;
+            } else {
+                day = day * 10 + digit;
+            }
+        }
+
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+
+        int yearIndex = year - FIRST_YEAR;
+        if (yearIndex < 0 || yearIndex >= YEARS) {
+            return of(year, month, day);
+        }
+
+        int slot = yearIndex * SLOTS_PER_YEAR + (month - 1) * 31 + (day - 1);
+        LocalDate date = TABLE[slot];
+        if (date == null) {
+            date = of(year, month, day);
+            TABLE[slot] = date != null ? date : INVALID;
+        }
+        return date != INVALID ? date : null;
+    }
+
+    private static LocalDate of(int year, int month, int day) {
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -2,31 +2,28 @@ package com.luizalabs.orders.common.util;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 public class FixedWidthParser {
 
-    private static final int EXPECTED_LINE_LENGTH = 95;
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    static final int EXPECTED_LINE_LENGTH = 95;
 
-    private static final int USER_ID_START = 0;
-    private static final int USER_ID_END = 10;
+    static final int USER_ID_START = 0;
+    static final int USER_ID_END = 10;
 
-    private static final int USER_NAME_START = 10;
-    private static final int USER_NAME_END = 55;
+    static final int USER_NAME_START = 10;
+    static final int USER_NAME_END = 55;
 
-    private static final int ORDER_ID_START = 55;
-    private static final int ORDER_ID_END = 65;
+    static final int ORDER_ID_START = 55;
+    static final int ORDER_ID_END = 65;
 
-    private static final int PRODUCT_ID_START = 65;
-    private static final int PRODUCT_ID_END = 75;
+    static final int PRODUCT_ID_START = 65;
+    static final int PRODUCT_ID_END = 75;
 
-    private static final int VALUE_START = 75;
-    private static final int VALUE_END = 87;
+    static final int VALUE_START = 75;
+    static final int VALUE_END = 87;
 
-    private static final int DATE_START = 87;
-    private static final int DATE_END = 95;
+    static final int DATE_START = 87;
+    static final int DATE_END = 95;
 
     public static Long extractUserId(String line) {
         return extractLong(line, USER_ID_START, USER_ID_END, "user_id");
@@ -45,13 +42,39 @@ public class FixedWidthParser {
     }
 
     public static BigDecimal extractValue(String line) {
-        return extractDecimal(line, VALUE_START, VALUE_END, "value");
+        return Money.toBigDecimal(extractValueCents(line));
+    }
+
+    public static long extractValueCents(String line) {
+        return extractCents(line, VALUE_START, VALUE_END, "value");
     }
 
     public static LocalDate extractDate(String line) {
         return extractDate(line, DATE_START, DATE_END, "date");
     }
 
+    public static LineErrorCode validate(String line) {
+        if (line == null || line.length() != EXPECTED_LINE_LENGTH) {
+            return LineErrorCode.INVALID_LENGTH;
+        }
+        if (!isInteger(line, USER_ID_START, USER_ID_END)) {
+            return LineErrorCode.INVALID_USER_ID;
+        }
+        if (!isInteger(line, ORDER_ID_START, ORDER_ID_END)) {
+            return LineErrorCode.INVALID_ORDER_ID;
+        }
+        if (!isInteger(line, PRODUCT_ID_START, PRODUCT_ID_END)) {
+            return LineErrorCode.INVALID_PRODUCT_ID;
+        }
+        if (!isDecimal(line, VALUE_START, VALUE_END)) {
+            return LineErrorCode.INVALID_VALUE;
+        }
+        if (!isDate(line, DATE_START)) {
+            return LineErrorCode.INVALID_DATE;
+        }
+        return null;
+    }
+
     public static void validateLineLength(String line) {
         if (line == null) {
             throw new IllegalArgumentException("Linha não pode ser nula");
@@ -64,6 +87,50 @@ public class FixedWidthParser {
         }
     }
 
+    private static boolean isInteger(String line, int start, int end) {
+        int from = skipLeading(line, start, end);
+        int to = skipTrailing(line, from, end);
+
+        if (from < to && (line.charAt(from) == '+' || line.charAt(from) == '-')) {
+            from++;
+        }
+        if (from == to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (!isDigit(line.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDecimal(String line, int start, int end) {
+        return Money.parseCents(line, start, end) != Money.INVALID;
+    }
+
+    private static boolean isDate(String line, int start) {
+        return DateTable.decode(line, start) != null;
+    }
+
+    private static int skipLeading(String line, int start, int end) {
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int skipTrailing(String line, int start, int end) {
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     private static Long extractLong(String line, int start, int end, String fieldName) {
         try {
             String value = line.substring(start, end).trim();
@@ -90,16 +157,16 @@ public class FixedWidthParser {
         }
     }
 
-    private static BigDecimal extractDecimal(String line, int start, int end, String fieldName) {
+    private static long extractCents(String line, int start, int end, String fieldName) {
         try {
-            String value = line.substring(start, end).trim();
-            return BigDecimal.valueOf(Double.parseDouble(value)).setScale(2);
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException(
-                    String.format(
-                            "Formato inválido para campo decimal '%s': %s",
-                            fieldName, e.getMessage()),
-                    e);
+            long cents = Money.parseCents(line, start, end);
+            if (cents == Money.INVALID) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "Formato inválido para campo decimal '%s': %s",
+                                fieldName, line.substring(start, end)));
+            }
+            return cents;
         } catch (StringIndexOutOfBoundsException e) {
             throw new IllegalArgumentException(
                     String.format("Erro ao extrair campo '%s': índice fora do limite", fieldName),
@@ -109,12 +176,14 @@ public class FixedWidthParser {
 
     private static LocalDate extractDate(String line, int start, int end, String fieldName) {
         try {
-            String dateStr = line.substring(start, end).trim();
-            return LocalDate.parse(dateStr, DATE_FORMATTER);
-        } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException(
-                    String.format("Formato inválido para data '%s': %s", fieldName, e.getMessage()),
-                    e);
+            LocalDate date = DateTable.decode(line, start);
+            if (date == null) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "Formato inválido para data '%s': %s",
+                                fieldName, line.substring(start, end)));
+            }
+            return date;
         } catch (StringIndexOutOfBoundsException e) {
             throw new IllegalArgumentException(
                     String.format("Erro ao extrair campo '%s': índice fora do limite", fieldName),
@@ -0,0 +1,43 @@
+package com.luizalabs.orders.common.util;
+
+public enum LineErrorCode {
+    INVALID_LENGTH("line", 0, FixedWidthParser.EXPECTED_LINE_LENGTH),
+    INVALID_USER_ID("user_id", FixedWidthParser.USER_ID_START, FixedWidthParser.USER_ID_END),
+    INVALID_ORDER_ID("order_id", FixedWidthParser.ORDER_ID_START, FixedWidthParser.ORDER_ID_END),
+    INVALID_PRODUCT_ID(
+            "product_id", FixedWidthParser.PRODUCT_ID_START, FixedWidthParser.PRODUCT_ID_END),
+    INVALID_VALUE("value", FixedWidthParser.VALUE_START, FixedWidthParser.VALUE_END),
+    INVALID_DATE("date", FixedWidthParser.DATE_START, FixedWidthParser.DATE_END);
+
+    private final String field;
+    private final int start;
+    private final int end;
+
+    LineErrorCode(String field, int start, int end) {
+        this.field = field;
+        this.start = start;
+        this.end = end;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public int start() {
+        return start;
+    }
+
+    public int end() {
+        return end;
+    }
+
+    public String message(int lineLength) {
+        if (this == INVALID_LENGTH) {
+            return String.format(
+                    "Linha com tamanho inválido: %d (esperado: %d)",
+                    lineLength, FixedWidthParser.EXPECTED_LINE_LENGTH);
+        }
+        return String.format(
+                "Formato inválido para campo '%s' (posições %d-%d)", field, start + 1, end);
+    }
+}
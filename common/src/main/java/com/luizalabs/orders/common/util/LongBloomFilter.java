@@ -0,0 +1,53 @@
+package com.luizalabs.orders.common.util;
+
+public class LongBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public LongBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        double p = Math.clamp(falsePositiveRate, 1e-9, 0.5);
+        long m = Math.max((long) Math.ceil(-n * Math.log(p) / (LN2 * LN2)), Long.SIZE);
+
+        long words = Math.min((m + Long.SIZE - 1) / Long.SIZE, Integer.MAX_VALUE - 8);
+        this.bits = new long[(int) words];
+        this.bitCount = (long) bits.length * Long.SIZE;
+        this.hashCount = Math.clamp(Math.round((double) bitCount / n * LN2), 1, 16);
+    }
+
+    public void add(long key) {
+        long h1 = LongLongHashMap.mix(key);
+        long h2 = secondHash(key);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(long key) {
+        long h1 = LongLongHashMap.mix(key);
+        long h2 = secondHash(key);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    private static long secondHash(long key) {
+        long h = (key ^ (key >>> 33)) * 0xC2B2AE3D27D4EB4FL;
+        return (h ^ (h >>> 29)) | 1L;
+    }
+}
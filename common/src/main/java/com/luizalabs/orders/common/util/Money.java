@@ -0,0 +1,93 @@
+package com.luizalabs.orders.common.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class Money {
+
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int SCALE = 2;
+    private static final int MAX_INTEGER_DIGITS = 16;
+
+    private Money() {}
+
+    public static long parseCents(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        boolean negative = false;
+        if (start < end && (text.charAt(start) == '+' || text.charAt(start) == '-')) {
+            negative = text.charAt(start) == '-';
+            start++;
+        }
+
+        long units = 0;
+        int cents = 0;
+        int fraction = -1;
+        int integerDigits = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+
+            if (c == '.' && fraction < 0) {
+                fraction = 0;
+            } else if (c < '0' || c > '9') {
+                return INVALID;
+            } else if (fraction < 0) {
+                if (++integerDigits > MAX_INTEGER_DIGITS) {
+                    return INVALID;
+                }
+                units = units * 10 + (c - '0');
+            } else {
+                if (fraction < SCALE) {
+                    cents = cents * 10 + (c - '0');
+                } else if (c != '0') {
+                    return INVALID;
+                }
+                fraction++;
+            }
+        }
+
+        if (integerDigits + Math.max(fraction, 0) == 0) {
+            return INVALID;
+        }
+        for (int i = Math.max(fraction, 0); i < SCALE; i++) {
+            cents *= 10;
+        }
+
+        long value = units * 100 + cents;
+        return negative ? -value : value;
+    }
+
+    public static String format(long cents) {
+        StringBuilder text = new StringBuilder(16);
+        if (cents < 0) {
+            text.append('-');
+        }
+
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+
+        text.append(abs / 100).append('.');
+        if (fraction < 10) {
+            text.append('0');
+        }
+        return text.append(fraction).toString();
+    }
+
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static long toCents(BigDecimal value) {
+        if (value == null) {
+            return 0;
+        }
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
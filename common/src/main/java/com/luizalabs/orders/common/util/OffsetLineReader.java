@@ -0,0 +1,75 @@
+package com.luizalabs.orders.common.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+public class OffsetLineReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private byte[] line = new byte[128];
+
+    private int bufferLength;
+    private int bufferPosition;
+    private long position;
+    private long lineOffset;
+
+    public OffsetLineReader(InputStream input, long startOffset) {
+        this.input = input;
+        this.position = startOffset;
+        this.lineOffset = startOffset;
+    }
+
+    public String readLine() throws IOException {
+        lineOffset = position;
+        int length = 0;
+
+        while (true) {
+            if (bufferPosition == bufferLength && !fill()) {
+                return length == 0 ? null : decode(length);
+            }
+
+            byte current = buffer[bufferPosition++];
+            position++;
+
+            if (current == '\n') {
+                return decode(length);
+            }
+
+            if (length == line.length) {
+                line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = current;
+        }
+    }
+
+    public long lineOffset() {
+        return lineOffset;
+    }
+
+    public long position() {
+        return position;
+    }
+
+    private boolean fill() throws IOException {
+        bufferLength = input.read(buffer);
+        bufferPosition = 0;
+        if (bufferLength <= 0) {
+            bufferLength = 0;
+            return false;
+        }
+        return true;
+    }
+
+    private String decode(int length) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new String(line, 0, length, UTF_8);
+    }
+}
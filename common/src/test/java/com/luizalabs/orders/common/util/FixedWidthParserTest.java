@@ -125,4 +125,78 @@ class FixedWidthParserTest {
         BigDecimal value = FixedWidthParser.extractValue(line);
         assertThat(value).isEqualByComparingTo("1234.00");
     }
+
+    @Test
+    @DisplayName("Deve validar linha correta sem código de erro")
+    void shouldValidateCorrectLineWithoutErrorCode() {
+        assertThat(FixedWidthParser.validate(VALID_LINE)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve retornar código de erro sem lançar exceção")
+    void shouldReturnErrorCodeWithoutThrowing() {
+        String badUserId = "00000000X7" + VALID_LINE.substring(10);
+        String badOrderId = VALID_LINE.substring(0, 60) + "ABCDE" + VALID_LINE.substring(65);
+        String badValue = VALID_LINE.substring(0, 75) + "0000001.2.34" + VALID_LINE.substring(87);
+        String badDate = VALID_LINE.substring(0, 87) + "20211301";
+
+        assertThat(FixedWidthParser.validate("abc")).isEqualTo(LineErrorCode.INVALID_LENGTH);
+        assertThat(FixedWidthParser.validate(null)).isEqualTo(LineErrorCode.INVALID_LENGTH);
+        assertThat(FixedWidthParser.validate(badUserId)).isEqualTo(LineErrorCode.INVALID_USER_ID);
+        assertThat(FixedWidthParser.validate(badOrderId))
+                .isEqualTo(LineErrorCode.INVALID_ORDER_ID);
+        assertThat(FixedWidthParser.validate(badValue)).isEqualTo(LineErrorCode.INVALID_VALUE);
+        assertThat(FixedWidthParser.validate(badDate)).isEqualTo(LineErrorCode.INVALID_DATE);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar campos numéricos com espaços à esquerda")
+    void shouldAcceptNumericFieldsWithLeadingSpaces() {
+        String line =
+                "        70"
+                        + VALID_LINE.substring(10, 75)
+                        + "     1836.74"
+                        + VALID_LINE.substring(87);
+
+        assertThat(FixedWidthParser.validate(line)).isNull();
+        assertThat(FixedWidthParser.extractUserId(line)).isEqualTo(70L);
+        assertThat(FixedWidthParser.extractValue(line)).isEqualByComparingTo("1836.74");
+    }
+
+    @Test
+    @DisplayName("Deve descrever código de erro com campo e posições")
+    void shouldDescribeErrorCodeWithFieldAndPositions() {
+        assertThat(LineErrorCode.INVALID_VALUE.message(95))
+                .contains("value")
+                .contains("76-87");
+        assertThat(LineErrorCode.INVALID_LENGTH.message(3)).contains("tamanho inválido: 3");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar datas inexistentes no calendário")
+    void shouldRejectNonExistentCalendarDates() {
+        String february30 = VALID_LINE.substring(0, 87) + "20210230";
+        String leapDay = VALID_LINE.substring(0, 87) + "20240229";
+        String nonLeapDay = VALID_LINE.substring(0, 87) + "20230229";
+
+        assertThat(FixedWidthParser.validate(february30)).isEqualTo(LineErrorCode.INVALID_DATE);
+        assertThat(FixedWidthParser.validate(nonLeapDay)).isEqualTo(LineErrorCode.INVALID_DATE);
+        assertThat(FixedWidthParser.validate(leapDay)).isNull();
+        assertThat(FixedWidthParser.extractDate(leapDay)).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThatThrownBy(() -> FixedWidthParser.extractDate(february30))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("20210230");
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar a mesma instância de data para valores repetidos")
+    void shouldReuseDateInstanceForRepeatedValues() {
+        String other = "0000000071" + VALID_LINE.substring(10);
+        String outsideTable = VALID_LINE.substring(0, 87) + "18991231";
+
+        assertThat(FixedWidthParser.extractDate(other))
+                .isSameAs(FixedWidthParser.extractDate(VALID_LINE));
+        assertThat(FixedWidthParser.extractDate(outsideTable))
+                .isEqualTo(LocalDate.of(1899, 12, 31));
+    }
 }
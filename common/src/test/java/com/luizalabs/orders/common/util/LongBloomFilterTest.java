@@ -0,0 +1,43 @@
+package com.luizalabs.orders.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LongBloomFilter - Testes Unitários")
+class LongBloomFilterTest {
+
+    @Test
+    @DisplayName("Deve conter todas as chaves inseridas")
+    void shouldContainEveryAddedKey() {
+        LongBloomFilter filter = new LongBloomFilter(10_000, 0.01);
+
+        for (long key = 0; key < 10_000; key++) {
+            filter.add(key * 31);
+        }
+
+        for (long key = 0; key < 10_000; key++) {
+            assertThat(filter.mightContain(key * 31)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falsos positivos próxima da configurada")
+    void shouldKeepFalsePositiveRateNearConfigured() {
+        LongBloomFilter filter = new LongBloomFilter(10_000, 0.01);
+        for (long key = 0; key < 10_000; key++) {
+            filter.add(key);
+        }
+
+        int falsePositives = 0;
+        for (long key = 1_000_000; key < 1_100_000; key++) {
+            if (filter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(2_000);
+        assertThat(filter.bitCount()).isGreaterThanOrEqualTo(95_850);
+    }
+}
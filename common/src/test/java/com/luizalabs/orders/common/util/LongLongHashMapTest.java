@@ -0,0 +1,58 @@
+package com.luizalabs.orders.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LongLongHashMap - Testes Unitários")
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("Deve se comportar como um HashMap de Long após vários redimensionamentos")
+    void shouldMatchHashMapAcrossResizes() {
+        LongLongHashMap map = new LongLongHashMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(20_000) - 100;
+            long value = random.nextLong();
+            Long previous = expected.put(key, value);
+
+            assertThat(map.put(key, value))
+                    .isEqualTo(previous != null ? previous : LongLongHashMap.NO_VALUE);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+        assertThat(map.get(1_000_000L)).isEqualTo(LongLongHashMap.NO_VALUE);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar zero como chave e percorrer todas as chaves")
+    void shouldSupportZeroKeyAndIterateKeys() {
+        LongLongHashMap map = new LongLongHashMap(2);
+
+        assertThat(map.get(0L)).isEqualTo(LongLongHashMap.NO_VALUE);
+        map.put(0L, 7L);
+        map.put(Long.MIN_VALUE, 8L);
+        map.put(-1L, 9L);
+
+        Set<Long> keys = new HashSet<>();
+        map.forEachKey(keys::add);
+
+        assertThat(map.get(0L)).isEqualTo(7L);
+        assertThat(map.get(Long.MIN_VALUE)).isEqualTo(8L);
+        assertThat(keys).containsExactlyInAnyOrder(0L, Long.MIN_VALUE, -1L);
+
+        map.clear();
+        assertThat(map.size()).isZero();
+        assertThat(map.get(-1L)).isEqualTo(LongLongHashMap.NO_VALUE);
+    }
+}
@@ -0,0 +1,60 @@
+package com.luizalabs.orders.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Money - Testes Unitários")
+class MoneyTest {
+
+    @Test
+    @DisplayName("Deve converter valores decimais em centavos sem perda")
+    void shouldParseDecimalsIntoExactCents() {
+        assertThat(parse("     1836.74")).isEqualTo(183674L);
+        assertThat(parse("000000012345")).isEqualTo(1234500L);
+        assertThat(parse("0000000.1")).isEqualTo(10L);
+        assertThat(parse("12.")).isEqualTo(1200L);
+        assertThat(parse(".05")).isEqualTo(5L);
+        assertThat(parse("-10.50")).isEqualTo(-1050L);
+        assertThat(parse("+3.10")).isEqualTo(310L);
+        assertThat(parse("12.3400")).isEqualTo(1234L);
+        assertThat(parse("9999999999.99")).isEqualTo(999999999999L);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valores inválidos ou com mais de duas casas significativas")
+    void shouldRejectInvalidValues() {
+        assertThat(parse("ABCDEFGHIJKL")).isEqualTo(Money.INVALID);
+        assertThat(parse("1.2.34")).isEqualTo(Money.INVALID);
+        assertThat(parse(".")).isEqualTo(Money.INVALID);
+        assertThat(parse("   ")).isEqualTo(Money.INVALID);
+        assertThat(parse("1e5")).isEqualTo(Money.INVALID);
+        assertThat(parse("12.345")).isEqualTo(Money.INVALID);
+        assertThat(parse("12345678901234567")).isEqualTo(Money.INVALID);
+    }
+
+    @Test
+    @DisplayName("Deve formatar centavos com duas casas decimais")
+    void shouldFormatCentsWithTwoDecimals() {
+        assertThat(Money.format(183674L)).isEqualTo("1836.74");
+        assertThat(Money.format(5L)).isEqualTo("0.05");
+        assertThat(Money.format(0L)).isEqualTo("0.00");
+        assertThat(Money.format(-1050L)).isEqualTo("-10.50");
+        assertThat(Money.format(-7L)).isEqualTo("-0.07");
+    }
+
+    @Test
+    @DisplayName("Deve converter entre centavos e BigDecimal nas bordas")
+    void shouldConvertBetweenCentsAndBigDecimal() {
+        assertThat(Money.toBigDecimal(183674L)).isEqualTo(new BigDecimal("1836.74"));
+        assertThat(Money.toCents(new BigDecimal("1836.74"))).isEqualTo(183674L);
+        assertThat(Money.toCents(new BigDecimal("18367.4"))).isEqualTo(1836740L);
+        assertThat(Money.toCents(null)).isZero();
+    }
+
+    private static long parse(String value) {
+        return Money.parseCents(value, 0, value.length());
+    }
+}
@@ -0,0 +1,70 @@
+package com.luizalabs.orders.common.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OffsetLineReader - Testes Unitários")
+class OffsetLineReaderTest {
+
+    @Test
+    @DisplayName("Deve ler linhas registrando o byte inicial de cada uma")
+    void shouldReadLinesTrackingOffsets() throws IOException {
+        OffsetLineReader reader = reader("abc\r\nde\n\nfgh", 0);
+
+        assertThat(reader.readLine()).isEqualTo("abc");
+        assertThat(reader.lineOffset()).isZero();
+
+        assertThat(reader.readLine()).isEqualTo("de");
+        assertThat(reader.lineOffset()).isEqualTo(5);
+
+        assertThat(reader.readLine()).isEmpty();
+        assertThat(reader.lineOffset()).isEqualTo(8);
+
+        assertThat(reader.readLine()).isEqualTo("fgh");
+        assertThat(reader.lineOffset()).isEqualTo(9);
+
+        assertThat(reader.readLine()).isNull();
+        assertThat(reader.position()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Deve contar offsets em bytes para caracteres multibyte")
+    void shouldCountMultibyteCharactersAsBytes() throws IOException {
+        OffsetLineReader reader = reader("João\nAna\n", 0);
+
+        assertThat(reader.readLine()).isEqualTo("João");
+        assertThat(reader.readLine()).isEqualTo("Ana");
+        assertThat(reader.lineOffset()).isEqualTo(6);
+        assertThat(reader.readLine()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve continuar a contagem a partir do offset inicial")
+    void shouldStartCountingFromInitialOffset() throws IOException {
+        OffsetLineReader reader = reader("xyz\n", 100);
+
+        assertThat(reader.readLine()).isEqualTo("xyz");
+        assertThat(reader.lineOffset()).isEqualTo(100);
+        assertThat(reader.position()).isEqualTo(104);
+    }
+
+    @Test
+    @DisplayName("Deve ler linhas maiores que o buffer interno")
+    void shouldReadLinesLongerThanBuffer() throws IOException {
+        String longLine = "A".repeat(200_000);
+        OffsetLineReader reader = reader(longLine + "\nB", 0);
+
+        assertThat(reader.readLine()).isEqualTo(longLine);
+        assertThat(reader.readLine()).isEqualTo("B");
+        assertThat(reader.lineOffset()).isEqualTo(200_001);
+    }
+
+    private OffsetLineReader reader(String content, long offset) {
+        return new OffsetLineReader(new ByteArrayInputStream(content.getBytes(UTF_8)), offset);
+    }
+}
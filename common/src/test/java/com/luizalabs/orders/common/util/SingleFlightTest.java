@@ -0,0 +1,113 @@
+package com.luizalabs.orders.common.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SingleFlight - Testes Unitários")
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger calls = new AtomicInteger();
+    private Thread lastStarted;
+
+    @Test
+    @DisplayName("Deve compartilhar uma única execução entre chamadas simultâneas")
+    void shouldShareSingleExecutionBetweenConcurrentCalls() throws Exception {
+        CompletableFuture<String> leader = runAsync("a", blocking(() -> "resultado"));
+        awaitInFlight();
+        CompletableFuture<String> follower = runAsync("a", () -> "outro");
+        awaitParked();
+
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("resultado");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("resultado");
+        assertThat(calls).hasValue(1);
+        assertThat(flights.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve repassar a falha da execução em andamento a quem aguarda")
+    void shouldPropagateFailureToWaitingCalls() {
+        CompletableFuture<String> leader =
+                runAsync(
+                        "a",
+                        blocking(
+                                () -> {
+                                    throw new IllegalStateException("banco indisponível");
+                                }));
+        awaitInFlight();
+        CompletableFuture<String> follower = runAsync("a", () -> "outro");
+        awaitParked();
+
+        release.countDown();
+
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("banco indisponível");
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar o resultado após a execução terminar")
+    void shouldNotCacheResultAfterCompletion() {
+        assertThat(flights.execute("a", () -> "primeiro")).isEqualTo("primeiro");
+        assertThat(flights.execute("a", () -> "segundo")).isEqualTo("segundo");
+        assertThat(flights.execute("b", () -> "outra chave")).isEqualTo("outra chave");
+        assertThat(flights.inFlight()).isZero();
+    }
+
+    private Supplier<String> blocking(Supplier<String> result) {
+        return () -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private CompletableFuture<String> runAsync(String key, Supplier<String> call) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Thread thread =
+                Thread.ofPlatform()
+                        .start(
+                                () -> {
+                                    try {
+                                        result.complete(flights.execute(key, call));
+                                    } catch (RuntimeException e) {
+                                        result.completeExceptionally(e);
+                                    }
+                                });
+        lastStarted = thread;
+        return result;
+    }
+
+    private void awaitInFlight() {
+        awaitUntil(() -> calls.get() == 1);
+    }
+
+    private void awaitParked() {
+        awaitUntil(() -> lastStarted.getState() == Thread.State.WAITING);
+    }
+
+    private static void awaitUntil(Supplier<Boolean> condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.get()) {
+            assertThat(System.nanoTime()).as("tempo de espera esgotado").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
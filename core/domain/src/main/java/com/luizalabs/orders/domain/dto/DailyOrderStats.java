@@ -0,0 +1,19 @@
+package com.luizalabs.orders.domain.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyOrderStats {
+
+    private LocalDate date;
+    private Long orderCount;
+    private Long productCount;
+    private long revenueCents;
+}
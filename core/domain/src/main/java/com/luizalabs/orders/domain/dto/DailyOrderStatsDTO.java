@@ -0,0 +1,26 @@
+package com.luizalabs.orders.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyOrderStatsDTO {
+
+    @JsonProperty("date")
+    private String date;
+
+    @JsonProperty("order_count")
+    private Long orderCount;
+
+    @JsonProperty("product_count")
+    private Long productCount;
+
+    @JsonProperty("revenue")
+    private String revenue;
+}
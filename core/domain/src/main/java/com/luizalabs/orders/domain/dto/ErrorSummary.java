@@ -0,0 +1,20 @@
+package com.luizalabs.orders.domain.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErrorSummary {
+
+    private Integer totalErrors;
+    private Integer detailedErrors;
+    private Boolean truncated;
+    private Map<String, Integer> byCode;
+    private Map<String, Integer> byField;
+}
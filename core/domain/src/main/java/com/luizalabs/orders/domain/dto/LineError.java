@@ -14,4 +14,5 @@ public class LineError {
     private Integer lineNumber;
     private String lineContent;
     private String errorMessage;
+    private String errorCode;
 }
@@ -1,6 +1,7 @@
 package com.luizalabs.orders.domain.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,7 +18,7 @@ public class OrderDTO {
     private Long orderId;
 
     @JsonProperty("total")
-    private String total;
+    private BigDecimal total;
 
     @JsonProperty("date")
     private String date;
@@ -1,6 +1,5 @@
 package com.luizalabs.orders.domain.dto;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,6 +16,8 @@ public class ParsedLine {
     private String userName;
     private Long orderId;
     private Long productId;
-    private BigDecimal value;
+    private long valueCents;
     private LocalDate date;
+    private Integer lineNumber;
+    private Long offset;
 }
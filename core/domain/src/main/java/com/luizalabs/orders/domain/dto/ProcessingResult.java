@@ -19,5 +19,6 @@ public class ProcessingResult {
     private Integer processedLines;
     private Integer errorLines;
     private Boolean hasErrors;
+    private ErrorSummary errorSummary;
     private List<UserOrderResponseDTO> data;
 }
@@ -1,6 +1,7 @@
 package com.luizalabs.orders.domain.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,5 +17,5 @@ public class ProductDTO {
     private Long productId;
 
     @JsonProperty("value")
-    private String value;
+    private BigDecimal value;
 }
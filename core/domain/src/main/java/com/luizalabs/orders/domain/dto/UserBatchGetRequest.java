@@ -0,0 +1,18 @@
+package com.luizalabs.orders.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchGetRequest {
+
+    @JsonProperty("user_ids")
+    private List<Long> userIds;
+}
@@ -0,0 +1,24 @@
+package com.luizalabs.orders.domain.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ValidationResult {
+
+    private String fileName;
+    private Integer totalLines;
+    private Integer validLines;
+    private Integer errorLines;
+    private Boolean hasErrors;
+    private ErrorSummary errorSummary;
+    private List<LineError> errors;
+    private Long sizeBytes;
+    private Long processingTimeMs;
+}
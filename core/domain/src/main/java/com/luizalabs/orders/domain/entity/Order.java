@@ -1,8 +1,5 @@
 package com.luizalabs.orders.domain.entity;
 
-import static java.math.BigDecimal.ZERO;
-
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +16,7 @@ public class Order {
 
     private Long orderId;
     private LocalDate date;
-    private BigDecimal total;
+    private long totalCents;
 
     @Builder.Default private List<Product> products = new ArrayList<>();
 
@@ -30,10 +27,14 @@ public class Order {
         this.products.add(product);
     }
 
-    public BigDecimal calculateTotal() {
-        if (products == null || products.isEmpty()) {
-            return ZERO;
+    public long calculateTotal() {
+        if (products == null) {
+            return 0;
+        }
+        long total = 0;
+        for (Product product : products) {
+            total += product.getValueCents();
         }
-        return products.stream().map(Product::getValue).reduce(ZERO, BigDecimal::add);
+        return total;
     }
 }
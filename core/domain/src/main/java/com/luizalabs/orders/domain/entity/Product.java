@@ -1,6 +1,5 @@
 package com.luizalabs.orders.domain.entity;
 
-import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,5 +12,5 @@ import lombok.NoArgsConstructor;
 public class Product {
 
     private Long productId;
-    private BigDecimal value;
+    private long valueCents;
 }
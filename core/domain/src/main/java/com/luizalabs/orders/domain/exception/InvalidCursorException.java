@@ -0,0 +1,8 @@
+package com.luizalabs.orders.domain.exception;
+
+public class InvalidCursorException extends DomainException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
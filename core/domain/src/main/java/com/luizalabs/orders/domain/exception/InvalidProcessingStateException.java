@@ -0,0 +1,8 @@
+package com.luizalabs.orders.domain.exception;
+
+public class InvalidProcessingStateException extends DomainException {
+
+    public InvalidProcessingStateException(String message) {
+        super(message);
+    }
+}
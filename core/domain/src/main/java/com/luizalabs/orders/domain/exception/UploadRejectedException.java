@@ -0,0 +1,14 @@
+package com.luizalabs.orders.domain.exception;
+
+import lombok.Getter;
+
+@Getter
+public class UploadRejectedException extends DomainException {
+
+    private final long retryAfterSeconds;
+
+    public UploadRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,8 +1,10 @@
 package com.luizalabs.orders.domain.mapper;
 
-import static java.math.RoundingMode.HALF_UP;
 import static java.util.stream.Collectors.toList;
 
+import com.luizalabs.orders.common.util.Money;
+import com.luizalabs.orders.domain.dto.DailyOrderStats;
+import com.luizalabs.orders.domain.dto.DailyOrderStatsDTO;
 import com.luizalabs.orders.domain.dto.OrderDTO;
 import com.luizalabs.orders.domain.dto.ProductDTO;
 import com.luizalabs.orders.domain.dto.UserOrderResponseDTO;
@@ -36,6 +38,22 @@ public class DomainMapper {
                 .build();
     }
 
+    public List<DailyOrderStatsDTO> toStatsDTO(List<DailyOrderStats> stats) {
+        if (stats == null) {
+            return List.of();
+        }
+        return stats.stream().map(this::toStatsDTO).collect(toList());
+    }
+
+    private DailyOrderStatsDTO toStatsDTO(DailyOrderStats stats) {
+        return DailyOrderStatsDTO.builder()
+                .date(formatDate(stats.getDate()))
+                .orderCount(stats.getOrderCount())
+                .productCount(stats.getProductCount())
+                .revenue(Money.format(stats.getRevenueCents()))
+                .build();
+    }
+
     private List<OrderDTO> toOrderDTOs(List<Order> orders) {
         if (orders == null) {
             return List.of();
@@ -50,7 +68,7 @@ public class DomainMapper {
 
         return OrderDTO.builder()
                 .orderId(order.getOrderId())
-                .total(formatDecimal(order.getTotal()))
+                .total(Money.toBigDecimal(order.getTotalCents()))
                 .date(formatDate(order.getDate()))
                 .products(toProductDTOs(order.getProducts()))
                 .build();
@@ -70,17 +88,10 @@ public class DomainMapper {
 
         return ProductDTO.builder()
                 .productId(product.getProductId())
-                .value(formatDecimal(product.getValue()))
+                .value(Money.toBigDecimal(product.getValueCents()))
                 .build();
     }
 
-    private String formatDecimal(java.math.BigDecimal value) {
-        if (value == null) {
-            return "0.00";
-        }
-        return value.setScale(2, HALF_UP).toString();
-    }
-
     private String formatDate(java.time.LocalDate date) {
         if (date == null) {
             return null;
@@ -0,0 +1,75 @@
+package com.luizalabs.orders.usecase.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.ingest")
+public class IngestProperties {
+
+    private int commitBatchSize = 1000;
+    private String spoolDir = "spool";
+    private Admission admission = new Admission();
+    private Errors errors = new Errors();
+    private Validation validation = new Validation();
+    private Prescan prescan = new Prescan();
+    private Aggregation aggregation = new Aggregation();
+    private Recovery recovery = new Recovery();
+
+    @Data
+    public static class Admission {
+
+        private int maxConcurrentUploads = 2;
+        private DataSize maxInFlightSize = DataSize.ofMegabytes(512);
+        private int maxQueueDepth = 20;
+        private Duration queueTimeout = Duration.ofSeconds(30);
+        private Duration retryAfter = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Errors {
+
+        private int maxDetailed = 100;
+        private int logLimit = 10;
+        private Duration logInterval = Duration.ofSeconds(10);
+        private int batchSize = 1000;
+        private boolean storeAllContent = false;
+    }
+
+    @Data
+    public static class Validation {
+
+        private int parallelism = 0;
+        private DataSize chunkSize = DataSize.ofMegabytes(4);
+    }
+
+    @Data
+    public static class Prescan {
+
+        private boolean enabled = true;
+        private DataSize windowSize = DataSize.ofKilobytes(64);
+        private int linesPerWindow = 100;
+        private int minSampledLines = 10;
+        private double maxErrorRate = 0.9;
+    }
+
+    @Data
+    public static class Aggregation {
+
+        private DataSize heapBudget = DataSize.ofMegabytes(512);
+        private boolean detectSorted = true;
+    }
+
+    @Data
+    public static class Recovery {
+
+        private String nodeId = "local";
+        private Duration leaseDuration = Duration.ofMinutes(2);
+        private Duration heartbeatInterval = Duration.ofSeconds(30);
+        private Duration interval = Duration.ofMinutes(5);
+    }
+}
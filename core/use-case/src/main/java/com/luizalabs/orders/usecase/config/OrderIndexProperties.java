@@ -0,0 +1,16 @@
+package com.luizalabs.orders.usecase.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.order-index")
+public class OrderIndexProperties {
+
+    private boolean enabled = false;
+    private int expectedOrders = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    private int loadBatchSize = 1000;
+}
@@ -0,0 +1,19 @@
+package com.luizalabs.orders.usecase.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "orders.retention")
+public class RetentionProperties {
+
+    private boolean enabled = true;
+    private String cron = "0 30 3 * * *";
+    private Duration maxAge = Duration.ofDays(365);
+    private Duration errorDetailsMaxAge = Duration.ofDays(30);
+    private int batchSize = 500;
+    private int maxBatchesPerRun = 200;
+}
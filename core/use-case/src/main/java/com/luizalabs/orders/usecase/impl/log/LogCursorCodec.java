@@ -0,0 +1,37 @@
+package com.luizalabs.orders.usecase.impl.log;
+
+import com.luizalabs.orders.domain.exception.InvalidCursorException;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogCursor;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogSummary;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public class LogCursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    public static String encode(LogSummary last) {
+        String raw = last.uploadedAt().toString() + SEPARATOR + last.id();
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LogCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new LogCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException("Cursor de paginação inválido: " + cursor);
+        }
+    }
+}
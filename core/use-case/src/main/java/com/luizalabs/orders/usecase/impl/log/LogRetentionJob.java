@@ -0,0 +1,118 @@
+package com.luizalabs.orders.usecase.impl.log;
+
+import static java.time.LocalDateTime.now;
+
+import com.luizalabs.orders.usecase.config.RetentionProperties;
+import com.luizalabs.orders.usecase.port.data.LogRetentionPort;
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogRetentionJob {
+
+    private final LogRetentionPort retentionData;
+    private final RetentionProperties properties;
+
+    private volatile long lastStorageSize = -1;
+    private volatile long lastDeadTuples = -1;
+
+    @Scheduled(cron = "${orders.retention.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.error("Falha na rotina de retenção de logs", e);
+        }
+    }
+
+    public RetentionReport run() {
+        LocalDateTime now = now();
+        LocalDateTime expiredBefore = now.minus(properties.getMaxAge());
+        LocalDateTime detailsBefore =
+                latest(now.minus(properties.getErrorDetailsMaxAge()), expiredBefore);
+
+        log.info(
+                "Retenção de logs: removendo logs anteriores a {}"
+                        + " e erros de linha anteriores a {}",
+                expiredBefore,
+                detailsBefore);
+
+        int deletedLineErrors =
+                inBatches(
+                        limit ->
+                                retentionData.deleteLineErrorsUploadedBefore(detailsBefore, limit));
+        int purgedLogs =
+                inBatches(limit -> retentionData.deleteLogsUploadedBefore(expiredBefore, limit));
+        int strippedLogs =
+                inBatches(limit -> retentionData.stripLegacyErrorsUploadedBefore(now, limit));
+
+        long storageSize = retentionData.storageSize();
+        long deadTuples = retentionData.deadTuples();
+        lastStorageSize = storageSize;
+        lastDeadTuples = deadTuples;
+
+        RetentionReport report =
+                new RetentionReport(
+                        purgedLogs, deletedLineErrors, strippedLogs, storageSize, deadTuples);
+
+        log.info(
+                "Retenção concluída: {} logs removidos, {} erros de linha removidos, {} logs"
+                        + " compactados; {} tuplas mortas aguardando autovacuum em {} bytes",
+                purgedLogs,
+                deletedLineErrors,
+                strippedLogs,
+                deadTuples,
+                storageSize);
+
+        return report;
+    }
+
+    public long lastStorageSize() {
+        return lastStorageSize;
+    }
+
+    public long lastDeadTuples() {
+        return lastDeadTuples;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private int inBatches(IntUnaryOperator batch) {
+        int batchSize = properties.getBatchSize();
+        int total = 0;
+
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            int affected = batch.applyAsInt(batchSize);
+            total += affected;
+            if (affected < batchSize) {
+                break;
+            }
+        }
+
+        return total;
+    }
+
+    public record RetentionReport(
+            int purgedLogs,
+            int deletedLineErrors,
+            int strippedLogs,
+            long storageSize,
+            long deadTuples) {
+
+        public int removedRows() {
+            return purgedLogs + deletedLineErrors;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.luizalabs.orders.usecase.impl.log;
 
+import com.luizalabs.orders.domain.dto.CursorPage;
+import com.luizalabs.orders.domain.dto.LineError;
 import com.luizalabs.orders.domain.enums.ProcessingStatus;
 import com.luizalabs.orders.domain.exception.NotFoundException;
+import com.luizalabs.orders.usecase.config.IngestProperties;
 import com.luizalabs.orders.usecase.port.QueryLogsUseCase;
 import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogCursor;
 import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogInfo;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogSummary;
+import com.luizalabs.orders.usecase.port.data.LineErrorPort;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,27 +22,70 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class QueryLogsUseCaseImpl implements QueryLogsUseCase {
 
+    static final int MAX_LOGS_PAGE_SIZE = 100;
+    static final int MAX_ERRORS_PAGE_SIZE = 1000;
+
     private final FileProcessingLogPort logData;
+    private final LineErrorPort lineErrorData;
+    private final IngestProperties properties;
 
     @Override
     @Transactional(readOnly = true)
     public LogInfo findById(Long logId) {
         log.info("Buscando log ID: {}", logId);
-        return logData.findById(logId)
-                .orElseThrow(() -> new NotFoundException("Log não encontrado: " + logId));
+        LogSummary summary = findSummary(logId);
+
+        List<LineError> errors =
+                summary.errorLines() != null && summary.errorLines() > 0
+                        ? lineErrorData.findPage(logId, 0, properties.getErrors().getMaxDetailed())
+                        : List.of();
+
+        return LogInfo.of(summary, errors);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<LogInfo> findAll(int page, int size) {
-        log.info("Buscando todos os logs - page: {}, size: {}", page, size);
-        return logData.findAll(page, size);
+    public CursorPage<LogSummary> findLogs(ProcessingStatus status, String cursor, int size) {
+        int limit = Math.clamp(size, 1, MAX_LOGS_PAGE_SIZE);
+        LogCursor after = LogCursorCodec.decode(cursor);
+        log.info("Buscando logs - status: {}, cursor: {}, limite: {}", status, after, limit);
+
+        List<LogSummary> logs = logData.findPage(status, after, limit + 1);
+
+        if (logs.size() <= limit) {
+            return CursorPage.<LogSummary>builder().items(logs).build();
+        }
+
+        List<LogSummary> page = logs.subList(0, limit);
+        return CursorPage.<LogSummary>builder()
+                .items(page)
+                .nextCursor(LogCursorCodec.encode(page.getLast()))
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<LogInfo> findByStatus(ProcessingStatus status, int page, int size) {
-        log.info("Buscando logs por status: {} - page: {}, size: {}", status, page, size);
-        return logData.findByStatus(status, page, size);
+    public CursorPage<LineError> findErrors(Long logId, Integer afterLine, int size) {
+        int limit = Math.clamp(size, 1, MAX_ERRORS_PAGE_SIZE);
+        int after = afterLine != null ? afterLine : 0;
+        log.info("Buscando erros do log ID {} após a linha {} (limite {})", logId, after, limit);
+
+        findSummary(logId);
+        List<LineError> errors = lineErrorData.findPage(logId, after, limit + 1);
+
+        if (errors.size() <= limit) {
+            return CursorPage.<LineError>builder().items(errors).build();
+        }
+
+        List<LineError> page = errors.subList(0, limit);
+        return CursorPage.<LineError>builder()
+                .items(page)
+                .nextCursor(String.valueOf(page.getLast().getLineNumber()))
+                .build();
+    }
+
+    private LogSummary findSummary(Long logId) {
+        return logData.findById(logId)
+                .orElseThrow(() -> new NotFoundException("Log não encontrado: " + logId));
     }
 }
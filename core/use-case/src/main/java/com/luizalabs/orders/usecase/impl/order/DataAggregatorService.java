@@ -2,6 +2,7 @@ package com.luizalabs.orders.usecase.impl.order;
 
 import static java.util.stream.Collectors.toList;
 
+import com.luizalabs.orders.domain.dto.DailyOrderStats;
 import com.luizalabs.orders.domain.dto.ParsedLine;
 import com.luizalabs.orders.domain.entity.Order;
 import com.luizalabs.orders.domain.entity.Product;
@@ -20,13 +21,36 @@ public class DataAggregatorService {
         }
 
         return lines.stream()
-                .collect(Collectors.groupingBy(ParsedLine::getUserId))
+                .collect(Collectors.groupingBy(ParsedLine::getUserId, TreeMap::new, toList()))
                 .entrySet()
                 .stream()
                 .map(this::buildUser)
                 .collect(toList());
     }
 
+    public List<DailyOrderStats> dailyDelta(List<User> incoming, List<User> replaced) {
+        Map<LocalDate, DailyAccumulator> byDate = new TreeMap<>();
+        accumulate(byDate, incoming, 1);
+        accumulate(byDate, replaced, -1);
+
+        return byDate.entrySet().stream()
+                .filter(entry -> !entry.getValue().isZero())
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .collect(toList());
+    }
+
+    private void accumulate(Map<LocalDate, DailyAccumulator> byDate, List<User> users, int sign) {
+        if (users == null) {
+            return;
+        }
+        for (User user : users) {
+            for (Order order : user.getOrders()) {
+                byDate.computeIfAbsent(order.getDate(), date -> new DailyAccumulator())
+                        .add(order, sign);
+            }
+        }
+    }
+
     private User buildUser(Map.Entry<Long, List<ParsedLine>> userEntry) {
         Long userId = userEntry.getKey();
         List<ParsedLine> userLines = userEntry.getValue();
@@ -57,7 +81,7 @@ public class DataAggregatorService {
                                 line ->
                                         Product.builder()
                                                 .productId(line.getProductId())
-                                                .value(line.getValue())
+                                                .valueCents(line.getValueCents())
                                                 .build())
                         .collect(toList());
 
@@ -68,10 +92,36 @@ public class DataAggregatorService {
                         .products(products)
                         .build();
 
-        order.setTotal(order.calculateTotal());
+        order.setTotalCents(order.calculateTotal());
 
         return order;
     }
 
     private record OrderKey(Long orderId, LocalDate date) {}
+
+    private static final class DailyAccumulator {
+
+        private long orderCount;
+        private long productCount;
+        private long revenueCents;
+
+        void add(Order order, int sign) {
+            orderCount += sign;
+            productCount += (long) sign * order.getProducts().size();
+            revenueCents += sign * order.getTotalCents();
+        }
+
+        boolean isZero() {
+            return orderCount == 0 && productCount == 0 && revenueCents == 0;
+        }
+
+        DailyOrderStats toStats(LocalDate date) {
+            return DailyOrderStats.builder()
+                    .date(date)
+                    .orderCount(orderCount)
+                    .productCount(productCount)
+                    .revenueCents(revenueCents)
+                    .build();
+        }
+    }
 }
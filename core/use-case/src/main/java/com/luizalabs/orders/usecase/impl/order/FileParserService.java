@@ -1,17 +1,22 @@
 package com.luizalabs.orders.usecase.impl.order;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-
 import com.luizalabs.orders.common.util.FixedWidthParser;
+import com.luizalabs.orders.common.util.LineErrorCode;
+import com.luizalabs.orders.common.util.OffsetLineReader;
+import com.luizalabs.orders.domain.dto.ErrorSummary;
 import com.luizalabs.orders.domain.dto.LineError;
 import com.luizalabs.orders.domain.dto.ParsedLine;
 import com.luizalabs.orders.domain.exception.FileProcessingException;
-import com.luizalabs.orders.domain.exception.InvalidLineFormatException;
-import java.io.BufferedReader;
+import com.luizalabs.orders.usecase.config.IngestProperties;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -21,75 +26,155 @@ import org.springframework.web.multipart.MultipartFile;
 public class FileParserService {
 
     public ParseResult parse(MultipartFile file) {
-        List<ParsedLine> valid = new ArrayList<>();
-        List<LineError> errors = new ArrayList<>();
-        int total = 0;
+        try (InputStream input = file.getInputStream()) {
+            return parse(input, 0, 1, new LineErrorCollector(new IngestProperties.Errors(), null));
+        } catch (IOException e) {
+            throw new FileProcessingException("Erro ao ler arquivo: " + e.getMessage(), e);
+        }
+    }
 
-        try (BufferedReader reader =
-                new BufferedReader(new InputStreamReader(file.getInputStream(), UTF_8))) {
+    public ParseResult parse(Path file, long offset, int firstLine, LineErrorCollector errors) {
+        List<ParsedLine> valid = new ArrayList<>();
+        return parse(file, offset, firstLine, errors, valid::add).withValidLines(valid);
+    }
 
-            String line;
-            int number = 1;
+    public ParseResult parse(
+            Path file,
+            long offset,
+            int firstLine,
+            LineErrorCollector errors,
+            Consumer<ParsedLine> sink) {
+        return parse(file, offset, firstLine, Long.MAX_VALUE, errors, sink);
+    }
 
-            while ((line = reader.readLine()) != null) {
-                total = number;
+    public void replay(
+            Path file, long offset, int firstLine, long until, Consumer<ParsedLine> sink) {
+        parse(
+                file,
+                offset,
+                firstLine,
+                until,
+                LineErrorCollector.silent(new IngestProperties.Errors()),
+                sink);
+    }
 
-                if (line.trim().isEmpty()) {
-                    number++;
-                    continue;
-                }
+    private ParseResult parse(
+            Path file,
+            long offset,
+            int firstLine,
+            long until,
+            LineErrorCollector errors,
+            Consumer<ParsedLine> sink) {
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            channel.position(offset);
+            return parse(
+                    Channels.newInputStream(channel), offset, firstLine, until, errors, sink);
+        } catch (IOException e) {
+            throw new FileProcessingException("Erro ao ler arquivo: " + e.getMessage(), e);
+        }
+    }
 
-                try {
-                    valid.add(parseLine(line));
-                } catch (Exception e) {
-                    errors.add(createError(number, line, e));
-                    log.warn("Erro linha {}: {}", number, e.getMessage());
-                }
+    private ParseResult parse(
+            InputStream input, long offset, int firstLine, LineErrorCollector errors)
+            throws IOException {
+        List<ParsedLine> valid = new ArrayList<>();
+        return parse(input, offset, firstLine, Long.MAX_VALUE, errors, valid::add)
+                .withValidLines(valid);
+    }
 
+    private ParseResult parse(
+            InputStream input,
+            long offset,
+            int firstLine,
+            long until,
+            LineErrorCollector errors,
+            Consumer<ParsedLine> sink)
+            throws IOException {
+        int total = firstLine - 1;
+        int validCount = 0;
+
+        OffsetLineReader reader = new OffsetLineReader(input, offset);
+        UserNameTable users = new UserNameTable();
+        String line;
+        int number = firstLine;
+
+        while ((line = reader.readLine()) != null && reader.lineOffset() < until) {
+            total = number;
+
+            if (line.trim().isEmpty()) {
                 number++;
+                continue;
             }
 
-        } catch (IOException e) {
-            throw new FileProcessingException("Erro ao ler arquivo: " + e.getMessage(), e);
-        }
+            LineErrorCode code = FixedWidthParser.validate(line);
 
-        return new ParseResult(valid, errors, total);
-    }
+            if (code == null) {
+                sink.accept(parseLine(line, number, reader.lineOffset(), users));
+                validCount++;
+            } else {
+                errors.add(number, line, code);
+            }
 
-    private ParsedLine parseLine(String line) {
-        try {
-            FixedWidthParser.validateLineLength(line);
-
-            return ParsedLine.builder()
-                    .userId(FixedWidthParser.extractUserId(line))
-                    .userName(FixedWidthParser.extractUserName(line))
-                    .orderId(FixedWidthParser.extractOrderId(line))
-                    .productId(FixedWidthParser.extractProductId(line))
-                    .value(FixedWidthParser.extractValue(line))
-                    .date(FixedWidthParser.extractDate(line))
-                    .build();
-        } catch (IllegalArgumentException e) {
-            throw new InvalidLineFormatException(e.getMessage(), e);
+            number++;
         }
+
+        errors.finish();
+
+        return new ParseResult(
+                List.of(),
+                errors.details(),
+                errors.summary(),
+                total,
+                reader.position(),
+                validCount);
     }
 
-    private LineError createError(int number, String line, Exception e) {
-        String content = line.length() > 50 ? line.substring(0, 50) + "..." : line;
+    private ParsedLine parseLine(String line, int number, long offset, UserNameTable users) {
+        UserNameTable.Entry user = users.lookup(FixedWidthParser.extractUserId(line), line);
 
-        return LineError.builder()
+        return ParsedLine.builder()
+                .userId(user.userId())
+                .userName(user.name())
+                .orderId(FixedWidthParser.extractOrderId(line))
+                .productId(FixedWidthParser.extractProductId(line))
+                .valueCents(FixedWidthParser.extractValueCents(line))
+                .date(FixedWidthParser.extractDate(line))
                 .lineNumber(number)
-                .lineContent(content)
-                .errorMessage(e.getMessage())
+                .offset(offset)
                 .build();
     }
 
-    public record ParseResult(List<ParsedLine> validLines, List<LineError> errors, int totalLines) {
+    public record ParseResult(
+            List<ParsedLine> validLines,
+            List<LineError> errors,
+            ErrorSummary errorSummary,
+            int totalLines,
+            long endOffset,
+            int validCount) {
+
+        public ParseResult(
+                List<ParsedLine> validLines,
+                List<LineError> errors,
+                ErrorSummary errorSummary,
+                int totalLines,
+                long endOffset) {
+            this(validLines, errors, errorSummary, totalLines, endOffset, validLines.size());
+        }
+
+        ParseResult withValidLines(List<ParsedLine> lines) {
+            return new ParseResult(lines, errors, errorSummary, totalLines, endOffset, validCount);
+        }
+
         public boolean hasErrors() {
-            return !errors.isEmpty();
+            return errorSummary.getTotalErrors() > 0;
+        }
+
+        public int errorCount() {
+            return errorSummary.getTotalErrors();
         }
 
         public boolean hasValidLines() {
-            return !validLines.isEmpty();
+            return validCount > 0;
         }
     }
 }
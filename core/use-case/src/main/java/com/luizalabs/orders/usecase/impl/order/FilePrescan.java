@@ -0,0 +1,116 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import com.luizalabs.orders.common.util.FixedWidthParser;
+import com.luizalabs.orders.common.util.LineErrorCode;
+import com.luizalabs.orders.common.util.OffsetLineReader;
+import com.luizalabs.orders.domain.exception.FileProcessingException;
+import com.luizalabs.orders.domain.exception.InvalidFileFormatException;
+import com.luizalabs.orders.usecase.config.IngestProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FilePrescan {
+
+    private final IngestProperties properties;
+
+    public void check(MultipartFile file) {
+        IngestProperties.Prescan config = properties.getPrescan();
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        long size = file.getSize();
+        long window = config.getWindowSize().toBytes();
+        Sample sample = new Sample();
+
+        try {
+            long end = 0;
+            for (long offset : new long[] {0, size / 2, size - window}) {
+                if (offset >= end) {
+                    end = sample(file, offset, window, config, sample);
+                }
+            }
+        } catch (IOException e) {
+            throw new FileProcessingException("Erro ao ler arquivo: " + e.getMessage(), e);
+        }
+
+        if (sample.lines < config.getMinSampledLines()) {
+            return;
+        }
+
+        double errorRate = (double) sample.errors / sample.lines;
+        if (errorRate >= config.getMaxErrorRate()) {
+            String byCode =
+                    sample.byCode.entrySet().stream()
+                            .map(entry -> entry.getKey() + "=" + entry.getValue())
+                            .collect(Collectors.joining(", "));
+
+            log.warn(
+                    "Arquivo {} rejeitado na pré-validação: {}/{} linhas inválidas ({})",
+                    file.getOriginalFilename(),
+                    sample.errors,
+                    sample.lines,
+                    byCode);
+
+            throw new InvalidFileFormatException(
+                    String.format(
+                            "Layout do arquivo inválido: %d de %d linhas amostradas com erro (%s)",
+                            sample.errors, sample.lines, byCode));
+        }
+    }
+
+    private long sample(
+            MultipartFile file,
+            long offset,
+            long window,
+            IngestProperties.Prescan config,
+            Sample sample)
+            throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            input.skipNBytes(offset);
+            OffsetLineReader reader = new OffsetLineReader(input, offset);
+
+            if (offset > 0) {
+                reader.readLine();
+            }
+
+            int lines = 0;
+            String line;
+            while (lines < config.getLinesPerWindow()
+                    && reader.position() < offset + window
+                    && (line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                sample.add(FixedWidthParser.validate(line));
+                lines++;
+            }
+            return reader.position();
+        }
+    }
+
+    private static final class Sample {
+
+        private final Map<LineErrorCode, Integer> byCode = new EnumMap<>(LineErrorCode.class);
+        private int lines;
+        private int errors;
+
+        void add(LineErrorCode code) {
+            lines++;
+            if (code != null) {
+                errors++;
+                byCode.merge(code, 1, Integer::sum);
+            }
+        }
+    }
+}
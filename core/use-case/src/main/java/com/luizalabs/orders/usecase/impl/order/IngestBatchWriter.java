@@ -0,0 +1,89 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import com.luizalabs.orders.domain.dto.ErrorSummary;
+import com.luizalabs.orders.domain.entity.User;
+import com.luizalabs.orders.domain.enums.ProcessingStatus;
+import com.luizalabs.orders.usecase.port.data.DailyOrderStatsPort;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.ResumePoint;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngestBatchWriter {
+
+    private final DataAggregatorService aggregator;
+    private final OrderDataPort orderData;
+    private final DailyOrderStatsPort statsData;
+    private final FileProcessingLogPort logData;
+    private final OrderIdIndex orderIndex;
+    private final IngestLease lease;
+
+    @Transactional
+    public void commit(
+            Long logId, List<User> batch, int committedUsers, ResumePoint resumePoint) {
+        commit(logId, batch, committedUsers, resumePoint, null);
+    }
+
+    @Transactional
+    public void commit(
+            Long logId,
+            List<User> batch,
+            int committedUsers,
+            ResumePoint resumePoint,
+            LineCounts counts) {
+        List<User> replaced = orderData.lockByUserIds(batch.stream().map(User::getUserId).toList());
+
+        orderData.saveAll(batch);
+        orderIndex.addAll(batch);
+        statsData.applyDeltas(aggregator.dailyDelta(batch, replaced));
+        updateCounts(logId, counts);
+        logData.updateProgress(
+                logId,
+                lease.nodeId(),
+                committedUsers,
+                batch.get(batch.size() - 1).getUserId(),
+                resumePoint);
+
+        log.debug("Lote gravado: {} usuários (total={})", batch.size(), committedUsers);
+    }
+
+    public void rewind(
+            Long logId, int committedUsers, Long lastCommittedUserId, ResumePoint resumePoint) {
+        logData.updateProgress(
+                logId, lease.nodeId(), committedUsers, lastCommittedUserId, resumePoint);
+
+        log.info(
+                "Checkpoint do log ID {} voltou para o byte {} (linha {})",
+                logId,
+                resumePoint.offset(),
+                resumePoint.line());
+    }
+
+    public void publish(Long logId) {
+        orderData.advanceVersion();
+        log.debug("Versão dos dados publicada após o log ID {}", logId);
+    }
+
+    private void updateCounts(Long logId, LineCounts counts) {
+        if (counts == null) {
+            return;
+        }
+        logData.updateLog(
+                logId,
+                ProcessingStatus.PROCESSING,
+                counts.totalLines(),
+                counts.processedLines(),
+                counts.errorLines(),
+                counts.errorSummary());
+    }
+
+    public record LineCounts(
+            int totalLines, int processedLines, int errorLines, ErrorSummary errorSummary) {}
+}
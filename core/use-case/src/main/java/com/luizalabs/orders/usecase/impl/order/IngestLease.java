@@ -0,0 +1,69 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import com.luizalabs.orders.usecase.config.IngestProperties;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestLease {
+
+    private final FileProcessingLogPort logData;
+    private final IngestProperties properties;
+    private final Set<Long> held = ConcurrentHashMap.newKeySet();
+
+    public String nodeId() {
+        return properties.getRecovery().getNodeId();
+    }
+
+    public Duration duration() {
+        return properties.getRecovery().getLeaseDuration();
+    }
+
+    public void hold(Long logId) {
+        held.add(logId);
+    }
+
+    public boolean acquire(Long logId) {
+        if (!logData.claim(logId, nodeId(), duration())) {
+            return false;
+        }
+        held.add(logId);
+        return true;
+    }
+
+    public boolean isHeld(Long logId) {
+        return held.contains(logId);
+    }
+
+    public void release(Long logId) {
+        held.remove(logId);
+        logData.releaseLease(logId, nodeId());
+    }
+
+    @Scheduled(fixedDelayString = "${orders.ingest.recovery.heartbeat-interval:30s}")
+    public void renew() {
+        if (held.isEmpty()) {
+            return;
+        }
+
+        List<Long> logIds = List.copyOf(held);
+        int renewed = logData.renewLeases(nodeId(), logIds);
+        if (renewed < logIds.size()) {
+            log.warn(
+                    "Nó {} renovou {} de {} leases; logs assumidos por outro nó serão"
+                            + " interrompidos no próximo lote",
+                    nodeId(),
+                    renewed,
+                    logIds.size());
+        }
+    }
+}
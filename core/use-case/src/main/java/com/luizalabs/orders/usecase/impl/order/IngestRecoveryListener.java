@@ -0,0 +1,79 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import com.luizalabs.orders.domain.dto.ProcessingResult;
+import com.luizalabs.orders.usecase.port.ProcessFileUseCase;
+import com.luizalabs.orders.usecase.port.UploadAdmission;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.IngestCheckpoint;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestRecoveryListener {
+
+    private static final String SPOOL_MISSING =
+            "Processamento interrompido e arquivo de spool ausente; reenvie o arquivo para retomar";
+    private static final String NEVER_SPOOLED =
+            "Processamento interrompido antes de gravar o spool; reenvie o arquivo para retomar";
+
+    private final FileProcessingLogPort logData;
+    private final ProcessFileUseCase processFileUseCase;
+    private final UploadAdmission uploadAdmission;
+    private final IngestSpool spool;
+    private final IngestLease lease;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${orders.ingest.recovery.interval:5m}",
+            fixedDelayString = "${orders.ingest.recovery.interval:5m}")
+    public void recoverInterrupted() {
+        List<IngestCheckpoint> interrupted = new ArrayList<>();
+
+        for (IngestCheckpoint checkpoint :
+                logData.findInterrupted(lease.nodeId(), lease.duration())) {
+            if (lease.isHeld(checkpoint.logId()) || !lease.acquire(checkpoint.logId())) {
+                continue;
+            }
+            if (checkpoint.spoolPath() == null) {
+                abandon(checkpoint, NEVER_SPOOLED);
+            } else if (!spool.exists(checkpoint.spoolPath())) {
+                abandon(checkpoint, SPOOL_MISSING);
+            } else {
+                interrupted.add(checkpoint);
+            }
+        }
+
+        if (interrupted.isEmpty()) {
+            return;
+        }
+
+        log.info("Retomando {} processamentos interrompidos", interrupted.size());
+        Thread.ofVirtual().name("ingest-recovery").start(() -> interrupted.forEach(this::recover));
+    }
+
+    private void abandon(IngestCheckpoint checkpoint, String reason) {
+        logData.markFailed(checkpoint.logId(), reason);
+        lease.release(checkpoint.logId());
+    }
+
+    private void recover(IngestCheckpoint checkpoint) {
+        Path source = Path.of(checkpoint.spoolPath());
+
+        try (UploadAdmission.Permit permit = uploadAdmission.acquire(spool.size(source))) {
+            ProcessingResult result = processFileUseCase.recover(checkpoint.logId());
+            log.info("Log ID {} recuperado: {}", checkpoint.logId(), result.getStatus());
+        } catch (RuntimeException e) {
+            log.error("Falha ao recuperar log ID {}", checkpoint.logId(), e);
+            lease.release(checkpoint.logId());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import com.luizalabs.orders.domain.exception.FileProcessingException;
+import com.luizalabs.orders.usecase.config.IngestProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestSpool {
+
+    private final IngestProperties properties;
+
+    public Path store(Long logId, MultipartFile file) {
+        Path target = Path.of(properties.getSpoolDir()).toAbsolutePath().resolve(logId + ".dat");
+
+        try {
+            Files.createDirectories(target.getParent());
+            Files.deleteIfExists(target);
+            file.transferTo(target);
+        } catch (IOException e) {
+            throw new FileProcessingException(
+                    "Erro ao gravar arquivo no spool: " + e.getMessage(), e);
+        }
+
+        log.debug("Arquivo do log ID {} gravado em {}", logId, target);
+        return target;
+    }
+
+    public boolean exists(String path) {
+        return path != null && Files.isRegularFile(Path.of(path));
+    }
+
+    public long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new FileProcessingException("Erro ao ler arquivo do spool: " + e.getMessage(), e);
+        }
+    }
+
+    public void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover arquivo do spool {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import com.luizalabs.orders.common.util.LineErrorCode;
+import com.luizalabs.orders.domain.dto.ErrorSummary;
+import com.luizalabs.orders.domain.dto.LineError;
+import com.luizalabs.orders.usecase.config.IngestProperties;
+import com.luizalabs.orders.usecase.port.data.LineErrorPort.StoredError;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LineErrorCollector {
+
+    private static final int MAX_CONTENT_LENGTH = 50;
+
+    private final IngestProperties.Errors config;
+    private final Consumer<List<StoredError>> spill;
+    private final boolean logging;
+    private final long logIntervalNanos;
+
+    private final List<Fault> detailed = new ArrayList<>();
+    private final List<StoredError> pendingSpill = new ArrayList<>();
+    private final int[] byCode = new int[LineErrorCode.values().length];
+
+    private int total;
+    private int suppressedLogs;
+    private long lastLogAt;
+
+    public LineErrorCollector(IngestProperties.Errors config, Consumer<List<StoredError>> spill) {
+        this(config, spill, true);
+    }
+
+    private LineErrorCollector(
+            IngestProperties.Errors config, Consumer<List<StoredError>> spill, boolean logging) {
+        this.config = config;
+        this.spill = spill;
+        this.logging = logging;
+        this.logIntervalNanos = config.getLogInterval().toNanos();
+        this.lastLogAt = System.nanoTime();
+    }
+
+    public void add(int lineNumber, String line, LineErrorCode code) {
+        total++;
+        byCode[code.ordinal()]++;
+
+        boolean detail = detailed.size() < config.getMaxDetailed();
+        boolean stored = spill != null && keepsContent();
+        String content = detail || stored ? truncate(line) : null;
+
+        if (detail) {
+            detailed.add(new Fault(lineNumber, content, code, line.length()));
+        }
+        if (spill != null) {
+            pendingSpill.add(
+                    new StoredError(lineNumber, code, line.length(), stored ? content : null));
+            if (pendingSpill.size() >= config.getBatchSize()) {
+                flushSpill();
+            }
+        }
+
+        if (logging) {
+            logFault(lineNumber, code);
+        }
+    }
+
+    public static LineErrorCollector silent(IngestProperties.Errors config) {
+        return new LineErrorCollector(config, null, false);
+    }
+
+    public void merge(LineErrorCollector other) {
+        total += other.total;
+        for (int i = 0; i < byCode.length; i++) {
+            byCode[i] += other.byCode[i];
+        }
+        for (Fault fault : other.detailed) {
+            if (detailed.size() >= config.getMaxDetailed()) {
+                break;
+            }
+            detailed.add(fault);
+        }
+    }
+
+    public void resumeFrom(ErrorSummary previous) {
+        if (previous == null) {
+            return;
+        }
+        total += previous.getTotalErrors();
+        if (previous.getByCode() != null) {
+            previous.getByCode()
+                    .forEach(
+                            (code, count) ->
+                                    byCode[LineErrorCode.valueOf(code).ordinal()] += count);
+        }
+    }
+
+    public void flush() {
+        flushSpill();
+    }
+
+    public void finish() {
+        flushSpill();
+
+        if (suppressedLogs > 0) {
+            log.warn("{} linhas com erro omitidas do log (total={})", suppressedLogs, total);
+            suppressedLogs = 0;
+        }
+    }
+
+    public int count() {
+        return total;
+    }
+
+    public List<LineError> details() {
+        return new LazyLineErrors(detailed);
+    }
+
+    public ErrorSummary summary() {
+        int stored = spill != null ? total : detailed.size();
+        Map<String, Integer> codes = new LinkedHashMap<>();
+        Map<String, Integer> fields = new LinkedHashMap<>();
+
+        for (LineErrorCode code : LineErrorCode.values()) {
+            int count = byCode[code.ordinal()];
+            if (count > 0) {
+                codes.put(code.name(), count);
+                fields.merge(code.field(), count, Integer::sum);
+            }
+        }
+
+        return ErrorSummary.builder()
+                .totalErrors(total)
+                .detailedErrors(stored)
+                .truncated(total > stored)
+                .byCode(codes)
+                .byField(fields)
+                .build();
+    }
+
+    private void logFault(int lineNumber, LineErrorCode code) {
+        if (total <= config.getLogLimit()) {
+            log.warn("Erro linha {}: {}", lineNumber, code);
+            return;
+        }
+
+        suppressedLogs++;
+        long now = System.nanoTime();
+        if (now - lastLogAt >= logIntervalNanos) {
+            log.warn(
+                    "{} linhas com erro desde o último aviso (total={}, última: linha {} {})",
+                    suppressedLogs,
+                    total,
+                    lineNumber,
+                    code);
+            suppressedLogs = 0;
+            lastLogAt = now;
+        }
+    }
+
+    private void flushSpill() {
+        if (spill == null || pendingSpill.isEmpty()) {
+            return;
+        }
+        spill.accept(List.copyOf(pendingSpill));
+        pendingSpill.clear();
+    }
+
+    private boolean keepsContent() {
+        return config.isStoreAllContent() || total <= config.getMaxDetailed();
+    }
+
+    private static String truncate(String line) {
+        return line.length() > MAX_CONTENT_LENGTH
+                ? line.substring(0, MAX_CONTENT_LENGTH) + "..."
+                : line;
+    }
+
+    private record Fault(int lineNumber, String content, LineErrorCode code, int length) {
+
+        LineError toLineError() {
+            return LineError.builder()
+                    .lineNumber(lineNumber)
+                    .lineContent(content)
+                    .errorMessage(code.message(length))
+                    .errorCode(code.name())
+                    .build();
+        }
+    }
+
+    private static final class LazyLineErrors extends AbstractList<LineError> {
+
+        private final List<Fault> faults;
+
+        LazyLineErrors(List<Fault> faults) {
+            this.faults = faults;
+        }
+
+        @Override
+        public LineError get(int index) {
+            return faults.get(index).toLineError();
+        }
+
+        @Override
+        public int size() {
+            return faults.size();
+        }
+    }
+}
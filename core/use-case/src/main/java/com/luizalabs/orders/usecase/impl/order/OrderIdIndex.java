@@ -0,0 +1,144 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import com.luizalabs.orders.common.util.LongBloomFilter;
+import com.luizalabs.orders.common.util.LongLongHashMap;
+import com.luizalabs.orders.domain.entity.Order;
+import com.luizalabs.orders.domain.entity.User;
+import com.luizalabs.orders.usecase.config.OrderIndexProperties;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort.OrderKey;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OrderIdIndex {
+
+    public static final long MISSING = LongLongHashMap.NO_VALUE;
+    public static final long UNKNOWN = Long.MAX_VALUE;
+
+    private final OrderDataPort orderData;
+    private final OrderIndexProperties properties;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongLongHashMap owners;
+    private LongBloomFilter filter;
+    private long filterCapacity;
+    private volatile boolean ready;
+
+    public OrderIdIndex(OrderDataPort orderData, OrderIndexProperties properties) {
+        this.orderData = orderData;
+        this.properties = properties;
+        this.filterCapacity = Math.max(properties.getExpectedOrders(), 1);
+        this.owners = new LongLongHashMap();
+        this.filter = new LongBloomFilter(filterCapacity, properties.getFalsePositiveRate());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!properties.isEnabled()) {
+            log.info("Índice de order_id desativado");
+            return;
+        }
+        Thread.ofVirtual().name("order-index-load").start(this::load);
+    }
+
+    void load() {
+        long started = System.nanoTime();
+        int batchSize = properties.getLoadBatchSize();
+
+        try {
+            long after = Long.MIN_VALUE;
+            List<OrderKey> keys = orderData.findOrderKeys(after, batchSize);
+
+            while (!keys.isEmpty()) {
+                after = addKeys(keys, after);
+                keys = orderData.findOrderKeys(after, batchSize);
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha ao carregar índice de order_id, consultas seguem no banco", e);
+            return;
+        }
+
+        ready = true;
+        log.info(
+                "Índice de order_id carregado: {} pedidos em {} ms",
+                owners.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    public long lookup(long orderId) {
+        if (!ready) {
+            return UNKNOWN;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (!filter.mightContain(orderId)) {
+                return MISSING;
+            }
+            return owners.get(orderId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void addAll(List<User> users) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (User user : users) {
+                for (Order order : user.getOrders()) {
+                    put(order.getOrderId(), user.getUserId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long addKeys(List<OrderKey> keys, long after) {
+        lock.writeLock().lock();
+        try {
+            for (OrderKey key : keys) {
+                if (key.orderId() != null) {
+                    put(key.orderId(), key.userId());
+                }
+                after = Math.max(after, key.userId());
+            }
+            return after;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(long orderId, long userId) {
+        long previous = owners.put(orderId, userId);
+
+        if (previous == MISSING) {
+            filter.add(orderId);
+            if (owners.size() > filterCapacity) {
+                rebuildFilter();
+            }
+        } else if (previous != userId) {
+            owners.put(orderId, UNKNOWN);
+        }
+    }
+
+    private void rebuildFilter() {
+        filterCapacity *= 2;
+        filter = new LongBloomFilter(filterCapacity, properties.getFalsePositiveRate());
+        owners.forEachKey(filter::add);
+
+        log.info("Filtro de order_id redimensionado para {} pedidos", filterCapacity);
+    }
+}
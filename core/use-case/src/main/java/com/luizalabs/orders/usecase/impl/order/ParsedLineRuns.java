@@ -0,0 +1,285 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import com.luizalabs.orders.domain.dto.ParsedLine;
+import com.luizalabs.orders.domain.exception.FileProcessingException;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.ResumePoint;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.unit.DataSize;
+
+@Slf4j
+class ParsedLineRuns implements Consumer<ParsedLine>, Closeable {
+
+    static final int HEAP_BYTES_PER_LINE = 256;
+
+    private static final int FILE_BYTES_PER_LINE = 96;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Comparator<ParsedLine> BY_USER =
+            Comparator.comparing(ParsedLine::getUserId);
+    private static final Comparator<RunReader> BY_HEAD =
+            Comparator.<RunReader, Long>comparing(reader -> reader.current.getUserId())
+                    .thenComparing(reader -> reader.current.getLineNumber());
+
+    private final Path dir;
+    private final String prefix;
+    private final int capacity;
+
+    private final List<ParsedLine> buffer = new ArrayList<>();
+    private final List<Run> runs = new ArrayList<>();
+    private final PriorityQueue<RunReader> heads = new PriorityQueue<>(BY_HEAD);
+
+    ParsedLineRuns(Path dir, String prefix, int capacity) {
+        this.dir = dir;
+        this.prefix = prefix;
+        this.capacity = capacity;
+    }
+
+    static boolean exceeds(long fileBytes, DataSize heapBudget) {
+        return fileBytes / FILE_BYTES_PER_LINE * HEAP_BYTES_PER_LINE > heapBudget.toBytes();
+    }
+
+    static int capacity(DataSize heapBudget) {
+        return Math.clamp(heapBudget.toBytes() / HEAP_BYTES_PER_LINE, 1, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void accept(ParsedLine line) {
+        buffer.add(line);
+        if (buffer.size() >= capacity) {
+            spill();
+        }
+    }
+
+    int runCount() {
+        return runs.size();
+    }
+
+    Iterator<List<ParsedLine>> users() {
+        spill();
+
+        try {
+            for (Run run : runs) {
+                RunReader reader = new RunReader(run);
+                if (reader.advance()) {
+                    heads.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+        } catch (IOException e) {
+            throw failure("ler", e);
+        }
+
+        log.info("Agregando {} runs ordenados por usuário", runs.size());
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public List<ParsedLine> next() {
+                if (heads.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                return nextUser();
+            }
+        };
+    }
+
+    ResumePoint resumePoint(ResumePoint end) {
+        ResumePoint point = end;
+        for (RunReader reader : heads) {
+            if (reader.resumeOffset < point.offset()) {
+                point = new ResumePoint(reader.resumeOffset, reader.resumeLine);
+            }
+        }
+        return point;
+    }
+
+    @Override
+    public void close() {
+        for (RunReader reader : heads) {
+            reader.close();
+        }
+        heads.clear();
+
+        for (Run run : runs) {
+            try {
+                Files.deleteIfExists(run.path());
+            } catch (IOException e) {
+                log.warn("Não foi possível remover run {}: {}", run.path(), e.getMessage());
+            }
+        }
+        runs.clear();
+    }
+
+    private List<ParsedLine> nextUser() {
+        Long userId = heads.peek().current.getUserId();
+        List<ParsedLine> lines = new ArrayList<>();
+
+        try {
+            while (!heads.isEmpty() && heads.peek().current.getUserId().equals(userId)) {
+                RunReader reader = heads.poll();
+                lines.add(reader.current);
+                if (reader.advance()) {
+                    heads.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+        } catch (IOException e) {
+            throw failure("ler", e);
+        }
+
+        return lines;
+    }
+
+    private void spill() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        buffer.sort(BY_USER);
+
+        int size = buffer.size();
+        long[] resumeOffsets = new long[size];
+        int[] resumeLines = new int[size];
+        long minOffset = Long.MAX_VALUE;
+        int minLine = 0;
+
+        for (int i = size - 1; i >= 0; i--) {
+            ParsedLine line = buffer.get(i);
+            if (line.getOffset() < minOffset) {
+                minOffset = line.getOffset();
+                minLine = line.getLineNumber();
+            }
+            resumeOffsets[i] = minOffset;
+            resumeLines[i] = minLine;
+        }
+
+        try {
+            Files.createDirectories(dir);
+            Path path = Files.createTempFile(dir, prefix, ".run");
+
+            try (DataOutputStream output =
+                    new DataOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE))) {
+                Long previousUser = null;
+                for (int i = 0; i < size; i++) {
+                    ParsedLine line = buffer.get(i);
+                    boolean newUser = !line.getUserId().equals(previousUser);
+
+                    output.writeLong(line.getUserId());
+                    output.writeBoolean(newUser);
+                    if (newUser) {
+                        output.writeUTF(line.getUserName());
+                    }
+                    output.writeLong(line.getOrderId());
+                    output.writeLong(line.getProductId());
+                    output.writeLong(line.getValueCents());
+                    output.writeLong(line.getDate().toEpochDay());
+                    output.writeInt(line.getLineNumber());
+                    output.writeLong(line.getOffset());
+                    output.writeLong(resumeOffsets[i]);
+                    output.writeInt(resumeLines[i]);
+
+                    previousUser = line.getUserId();
+                }
+            }
+
+            runs.add(new Run(path, size));
+            log.debug("Run {} gravado com {} linhas", path, size);
+        } catch (IOException e) {
+            throw failure("gravar", e);
+        }
+
+        buffer.clear();
+    }
+
+    private static FileProcessingException failure(String action, IOException e) {
+        return new FileProcessingException(
+                "Erro ao " + action + " arquivo temporário de agregação: " + e.getMessage(), e);
+    }
+
+    private record Run(Path path, int size) {}
+
+    private static final class RunReader implements Closeable {
+
+        private final DataInputStream input;
+        private int remaining;
+
+        private ParsedLine current;
+        private long resumeOffset;
+        private int resumeLine;
+
+        private Long userId;
+        private String userName;
+        private LocalDate date;
+
+        RunReader(Run run) throws IOException {
+            this.input =
+                    new DataInputStream(
+                            new BufferedInputStream(Files.newInputStream(run.path()), BUFFER_SIZE));
+            this.remaining = run.size();
+        }
+
+        boolean advance() throws IOException {
+            if (remaining == 0) {
+                current = null;
+                return false;
+            }
+            remaining--;
+
+            long id = input.readLong();
+            if (input.readBoolean()) {
+                userId = id;
+                userName = input.readUTF();
+            }
+
+            ParsedLine.ParsedLineBuilder line =
+                    ParsedLine.builder()
+                            .userId(userId)
+                            .userName(userName)
+                            .orderId(input.readLong())
+                            .productId(input.readLong())
+                            .valueCents(input.readLong());
+
+            long epochDay = input.readLong();
+            if (date == null || date.toEpochDay() != epochDay) {
+                date = LocalDate.ofEpochDay(epochDay);
+            }
+
+            current = line.date(date).lineNumber(input.readInt()).offset(input.readLong()).build();
+            resumeOffset = input.readLong();
+            resumeLine = input.readInt();
+            return true;
+        }
+
+        @Override
+        public void close() {
+            try {
+                input.close();
+            } catch (IOException e) {
+                log.warn("Não foi possível fechar run: {}", e.getMessage());
+            }
+        }
+    }
+}
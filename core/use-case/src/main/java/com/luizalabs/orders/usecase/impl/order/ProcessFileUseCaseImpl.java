@@ -2,20 +2,36 @@ package com.luizalabs.orders.usecase.impl.order;
 
 import static java.time.LocalDateTime.now;
 
+import com.luizalabs.orders.domain.dto.ErrorSummary;
+import com.luizalabs.orders.domain.dto.ParsedLine;
 import com.luizalabs.orders.domain.dto.ProcessingResult;
 import com.luizalabs.orders.domain.dto.UserOrderResponseDTO;
 import com.luizalabs.orders.domain.entity.User;
 import com.luizalabs.orders.domain.enums.ProcessingStatus;
+import com.luizalabs.orders.domain.exception.InvalidFileFormatException;
+import com.luizalabs.orders.domain.exception.InvalidProcessingStateException;
+import com.luizalabs.orders.domain.exception.NotFoundException;
 import com.luizalabs.orders.domain.mapper.DomainMapper;
+import com.luizalabs.orders.usecase.config.IngestProperties;
 import com.luizalabs.orders.usecase.impl.order.FileParserService.ParseResult;
+import com.luizalabs.orders.usecase.impl.order.IngestBatchWriter.LineCounts;
 import com.luizalabs.orders.usecase.port.ProcessFileUseCase;
 import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort;
-import com.luizalabs.orders.usecase.port.data.OrderDataPort;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.IngestCheckpoint;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.ResumePoint;
+import com.luizalabs.orders.usecase.port.data.LineErrorPort;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
@@ -23,60 +39,492 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class ProcessFileUseCaseImpl implements ProcessFileUseCase {
 
+    private static final int EXTERNAL_COMMIT_BATCH_SIZE = 1000;
+
+    private final FilePrescan prescan;
     private final FileParserService parser;
     private final DataAggregatorService aggregator;
-    private final OrderDataPort orderData;
+    private final IngestBatchWriter batchWriter;
+    private final IngestSpool spool;
+    private final IngestLease lease;
     private final FileProcessingLogPort logData;
+    private final LineErrorPort lineErrorData;
+    private final IngestProperties properties;
     private final DomainMapper mapper = new DomainMapper();
 
     @Override
-    @Transactional
     public ProcessingResult execute(MultipartFile file) {
         log.info("Processando: {}", file.getOriginalFilename());
 
         FileValidator.validate(file);
+        prescan.check(file);
 
-        Long logId = logData.createLog(file.getOriginalFilename(), now());
+        Long logId = logData.createLog(file.getOriginalFilename(), now(), lease.nodeId());
+        lease.hold(logId);
 
-        ParseResult result = parser.parse(file);
+        return run(logId, null, () -> spool(logId, file));
+    }
 
-        List<UserOrderResponseDTO> data = List.of();
+    @Override
+    public ProcessingResult resume(Long logId, MultipartFile file) {
+        log.info("Retomando log ID {}: {}", logId, file.getOriginalFilename());
 
-        if (result.hasValidLines()) {
-            List<User> users = aggregator.aggregate(result.validLines());
-            orderData.saveAll(users);
-            data = mapper.toResponseDTO(users);
+        FileValidator.validate(file);
+        prescan.check(file);
 
-            log.info(
-                    "Processado: {} linhas, {} erros",
-                    result.validLines().size(),
-                    result.errors().size());
+        IngestCheckpoint checkpoint = findCheckpoint(logId);
+
+        if (checkpoint.status() != ProcessingStatus.FAILED) {
+            throw new InvalidProcessingStateException(
+                    "Somente processamentos com falha podem ser retomados: "
+                            + checkpoint.status());
+        }
+        if (!lease.acquire(logId)) {
+            throw new InvalidProcessingStateException(
+                    "Processamento em andamento em outro nó: " + logId);
         }
 
-        ProcessingStatus status = calculateStatus(result);
+        logData.updateStatus(logId, ProcessingStatus.PROCESSING);
 
-        logData.updateLog(
+        return run(logId, checkpoint, () -> spool(logId, file));
+    }
+
+    @Override
+    public ProcessingResult recover(Long logId) {
+        IngestCheckpoint checkpoint = findCheckpoint(logId);
+
+        if (checkpoint.status() != ProcessingStatus.PROCESSING
+                || checkpoint.spoolPath() == null
+                || !spool.exists(checkpoint.spoolPath())) {
+            throw new InvalidProcessingStateException(
+                    "Processamento não pode ser recuperado do spool: " + logId);
+        }
+        if (!lease.isHeld(logId)) {
+            throw new InvalidProcessingStateException(
+                    "Lease do log " + logId + " não pertence a este nó");
+        }
+
+        log.info(
+                "Recuperando log ID {} a partir do byte {} (linha {})",
                 logId,
-                status,
-                result.totalLines(),
-                result.validLines().size(),
-                result.errors().size(),
-                result.errors());
+                checkpoint.resumePoint().offset(),
+                checkpoint.resumePoint().line());
+
+        return run(logId, checkpoint, () -> Path.of(checkpoint.spoolPath()));
+    }
+
+    private IngestCheckpoint findCheckpoint(Long logId) {
+        return logData.findCheckpoint(logId)
+                .orElseThrow(() -> new NotFoundException("Log não encontrado: " + logId));
+    }
+
+    private Path spool(Long logId, MultipartFile file) {
+        Path source = spool.store(logId, file);
+        logData.updateSpoolPath(logId, source.toString());
+        return source;
+    }
+
+    private ProcessingResult run(Long logId, IngestCheckpoint checkpoint, Supplier<Path> source) {
+        Path spooled = null;
+        ProcessingResult result;
+
+        try {
+            spooled = source.get();
+            result = process(logId, spooled, checkpoint);
+        } catch (InvalidProcessingStateException e) {
+            log.warn("Log ID {} assumido por outro nó; spool {} mantido", logId, spooled, e);
+            batchWriter.publish(logId);
+            lease.release(logId);
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("Falha no processamento do log ID {}", logId, e);
+            logData.updateStatus(logId, ProcessingStatus.FAILED);
+            batchWriter.publish(logId);
+            release(logId, spooled);
+            lease.release(logId);
+            throw e;
+        }
+
+        batchWriter.publish(logId);
+        release(logId, spooled);
+        lease.release(logId);
+        return result;
+    }
+
+    private ProcessingResult process(Long logId, Path source, IngestCheckpoint checkpoint) {
+        ResumePoint from = checkpoint != null ? checkpoint.resumePoint() : ResumePoint.START;
+        long size = spool.size(source);
+
+        if (size < from.offset()) {
+            throw new InvalidFileFormatException(
+                    "Arquivo não corresponde ao checkpoint do log " + logId);
+        }
+
+        long bytes = size - from.offset();
+        DataSize heapBudget = properties.getAggregation().getHeapBudget();
+        LineErrorCollector errors = errorCollector(logId, checkpoint, from);
+        boolean continued = bytes > 0 && from.offset() > 0 && !isCounted(checkpoint, from);
+
+        if (!continued && !ParsedLineRuns.exceeds(bytes, heapBudget)) {
+            return process(logId, source, checkpoint, from, errors, null);
+        }
+
+        if (continued || properties.getAggregation().isDetectSorted()) {
+            return processSorted(logId, source, checkpoint, from, errors, bytes);
+        }
+
+        try (ParsedLineRuns runs = externalRuns(logId, bytes, heapBudget)) {
+            return process(
+                    logId,
+                    source,
+                    checkpoint,
+                    from,
+                    errors,
+                    new Streaming(
+                            pending(runs, checkpoint),
+                            end -> commitExternally(logId, runs, end, checkpoint)));
+        }
+    }
+
+    private ProcessingResult processSorted(
+            Long logId,
+            Path source,
+            IngestCheckpoint checkpoint,
+            ResumePoint from,
+            LineErrorCollector errors,
+            long bytes) {
+        boolean counted = isCounted(checkpoint, from);
+        boolean continued = from.offset() > 0 && !counted;
+
+        log.info("Log ID {}: gravando em fluxo enquanto o arquivo estiver ordenado", logId);
+
+        try (UnsortedFallback fallback =
+                counted
+                        ? new UnsortedFallback(logId, source, checkpoint, from, bytes, false)
+                        : new UnsortedFallback(
+                                logId, source, null, ResumePoint.START, bytes, continued)) {
+            SortedUserStream users =
+                    new SortedUserStream(
+                            aggregator,
+                            externalBatchSize(),
+                            from.offset() > 0 ? checkpoint.committedUsers() : 0,
+                            continued ? checkpoint.lastCommittedUserId() : null,
+                            sortedCommits(logId, checkpoint, from, errors),
+                            fallback);
+
+            return process(
+                    logId,
+                    source,
+                    checkpoint,
+                    from,
+                    errors,
+                    new Streaming(
+                            counted ? pending(users, checkpoint) : users,
+                            end -> {
+                                if (users.isSorted()) {
+                                    users.finish(end);
+                                } else {
+                                    fallback.commit(end);
+                                }
+                            }));
+        }
+    }
+
+    private ProcessingResult process(
+            Long logId,
+            Path source,
+            IngestCheckpoint checkpoint,
+            ResumePoint from,
+            LineErrorCollector errors,
+            Streaming streaming) {
+        ParseResult result;
+
+        if (streaming != null) {
+            result = parser.parse(source, from.offset(), from.line(), errors, streaming.sink());
+        } else {
+            result = parser.parse(source, from.offset(), from.line(), errors);
+        }
+
+        int totalLines;
+        int processedLines;
+        int errorLines;
+        ErrorSummary errorSummary = null;
+
+        if (!isCounted(checkpoint, from)) {
+            totalLines = result.totalLines();
+            processedLines = processedBefore(checkpoint, from) + result.validCount();
+            errorLines = result.errorCount();
+            errorSummary = result.errorSummary();
+            logData.updateLog(
+                    logId,
+                    ProcessingStatus.PROCESSING,
+                    totalLines,
+                    processedLines,
+                    errorLines,
+                    errorSummary);
+        } else {
+            totalLines = checkpoint.totalLines();
+            processedLines = checkpoint.processedLines();
+            errorLines = checkpoint.errorLines();
+        }
+
+        List<UserOrderResponseDTO> data = List.of();
+        ResumePoint end = new ResumePoint(result.endOffset(), result.totalLines() + 1);
+
+        if (streaming != null) {
+            streaming.finish().accept(end);
+            log.info("Processado: {} linhas, {} erros", processedLines, errorLines);
+        } else {
+            List<ParsedLine> pending = pendingLines(result.validLines(), checkpoint);
+
+            if (!pending.isEmpty()) {
+                List<User> users = aggregator.aggregate(pending);
+                commitInBatches(logId, users, resumePoints(users, pending, end), checkpoint);
+                data = mapper.toResponseDTO(users);
+
+                log.info("Processado: {} linhas, {} erros", processedLines, errorLines);
+            }
+        }
+
+        ProcessingStatus status = calculateStatus(processedLines, errorLines);
+
+        logData.updateLog(logId, status, totalLines, processedLines, errorLines, null);
 
         return ProcessingResult.builder()
                 .logId(logId)
                 .status(status)
-                .totalLines(result.totalLines())
-                .processedLines(result.validLines().size())
-                .errorLines(result.errors().size())
-                .hasErrors(result.hasErrors())
+                .totalLines(totalLines)
+                .processedLines(processedLines)
+                .errorLines(errorLines)
+                .hasErrors(errorLines > 0)
+                .errorSummary(errorSummary)
                 .data(data)
                 .build();
     }
 
-    private ProcessingStatus calculateStatus(ParseResult result) {
-        if (!result.hasErrors()) return ProcessingStatus.SUCCESS;
-        if (result.hasValidLines()) return ProcessingStatus.PARTIAL_SUCCESS;
+    private ParsedLineRuns externalRuns(Long logId, long bytes, DataSize heapBudget) {
+        log.info(
+                "Log ID {}: {} bytes excedem o orçamento de {} em memória, agregando em disco",
+                logId,
+                bytes,
+                heapBudget);
+
+        return new ParsedLineRuns(
+                Path.of(properties.getSpoolDir()).toAbsolutePath(),
+                logId + "-",
+                ParsedLineRuns.capacity(heapBudget));
+    }
+
+    private SortedUserStream.Committer sortedCommits(
+            Long logId, IngestCheckpoint checkpoint, ResumePoint from, LineErrorCollector errors) {
+        if (isCounted(checkpoint, from)) {
+            return (batch, committed, resumePoint, lines) ->
+                    batchWriter.commit(logId, batch, committed, resumePoint);
+        }
+
+        int processedBefore = processedBefore(checkpoint, from);
+
+        return (batch, committed, resumePoint, lines) -> {
+            errors.flush();
+            batchWriter.commit(
+                    logId,
+                    batch,
+                    committed,
+                    resumePoint,
+                    new LineCounts(
+                            resumePoint.line() - 1,
+                            processedBefore + lines,
+                            errors.count(),
+                            errors.summary()));
+        };
+    }
+
+    private Consumer<ParsedLine> pending(Consumer<ParsedLine> sink, IngestCheckpoint checkpoint) {
+        if (checkpoint == null || checkpoint.lastCommittedUserId() == null) {
+            return sink;
+        }
+
+        long lastCommitted = checkpoint.lastCommittedUserId();
+        log.info("Retomando após {} usuários já gravados", checkpoint.committedUsers());
+
+        return line -> {
+            if (line.getUserId() > lastCommitted) {
+                sink.accept(line);
+            }
+        };
+    }
+
+    private LineErrorCollector errorCollector(
+            Long logId, IngestCheckpoint checkpoint, ResumePoint from) {
+        if (isCounted(checkpoint, from)) {
+            return new LineErrorCollector(properties.getErrors(), null);
+        }
+
+        if (from.offset() == 0) {
+            lineErrorData.deleteByLogId(logId);
+        }
+
+        LineErrorCollector collector =
+                new LineErrorCollector(
+                        properties.getErrors(), errors -> lineErrorData.saveAll(logId, errors));
+
+        if (from.offset() > 0) {
+            collector.resumeFrom(checkpoint.errorSummary());
+        }
+        return collector;
+    }
+
+    private boolean isCounted(IngestCheckpoint checkpoint, ResumePoint from) {
+        return from.offset() > 0 && checkpoint.totalLines() >= from.line();
+    }
+
+    private int processedBefore(IngestCheckpoint checkpoint, ResumePoint from) {
+        return from.offset() > 0 ? checkpoint.processedLines() : 0;
+    }
+
+    private List<ParsedLine> pendingLines(List<ParsedLine> lines, IngestCheckpoint checkpoint) {
+        if (checkpoint == null || checkpoint.lastCommittedUserId() == null) {
+            return lines;
+        }
+
+        long lastCommitted = checkpoint.lastCommittedUserId();
+        log.info("Retomando após {} usuários já gravados", checkpoint.committedUsers());
+
+        return lines.stream().filter(line -> line.getUserId() > lastCommitted).toList();
+    }
+
+    private ResumePoint[] resumePoints(List<User> users, List<ParsedLine> lines, ResumePoint end) {
+        Map<Long, ParsedLine> firstLines = new HashMap<>();
+        for (ParsedLine line : lines) {
+            firstLines.putIfAbsent(line.getUserId(), line);
+        }
+
+        ResumePoint[] points = new ResumePoint[users.size() + 1];
+        points[users.size()] = end;
+
+        for (int i = users.size() - 1; i >= 0; i--) {
+            ParsedLine first = firstLines.get(users.get(i).getUserId());
+            points[i] =
+                    first.getOffset() < points[i + 1].offset()
+                            ? new ResumePoint(first.getOffset(), first.getLineNumber())
+                            : points[i + 1];
+        }
+
+        return points;
+    }
+
+    private void commitInBatches(
+            Long logId, List<User> users, ResumePoint[] resumePoints, IngestCheckpoint checkpoint) {
+        int committedBefore = checkpoint != null ? checkpoint.committedUsers() : 0;
+        int batchSize =
+                properties.getCommitBatchSize() > 0
+                        ? properties.getCommitBatchSize()
+                        : Math.max(users.size(), 1);
+
+        for (int from = 0; from < users.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, users.size());
+            batchWriter.commit(
+                    logId, users.subList(from, to), committedBefore + to, resumePoints[to]);
+        }
+    }
+
+    private void commitExternally(
+            Long logId, ParsedLineRuns runs, ResumePoint end, IngestCheckpoint checkpoint) {
+        int committed = checkpoint != null ? checkpoint.committedUsers() : 0;
+        int batchSize = externalBatchSize();
+        List<User> batch = new ArrayList<>();
+        Iterator<List<ParsedLine>> users = runs.users();
+
+        while (users.hasNext()) {
+            batch.addAll(aggregator.aggregate(users.next()));
+
+            if (batch.size() >= batchSize || !users.hasNext()) {
+                committed += batch.size();
+                batchWriter.commit(logId, List.copyOf(batch), committed, runs.resumePoint(end));
+                batch.clear();
+            }
+        }
+    }
+
+    private int externalBatchSize() {
+        return properties.getCommitBatchSize() > 0
+                ? properties.getCommitBatchSize()
+                : EXTERNAL_COMMIT_BATCH_SIZE;
+    }
+
+    private void release(Long logId, Path spooled) {
+        if (spooled == null) {
+            return;
+        }
+        spool.delete(spooled);
+        logData.updateSpoolPath(logId, null);
+    }
+
+    private ProcessingStatus calculateStatus(int processedLines, int errorLines) {
+        if (errorLines == 0) return ProcessingStatus.SUCCESS;
+        if (processedLines > 0) return ProcessingStatus.PARTIAL_SUCCESS;
         return ProcessingStatus.FAILED;
     }
+
+    private record Streaming(Consumer<ParsedLine> sink, Consumer<ResumePoint> finish) {}
+
+    private final class UnsortedFallback implements SortedUserStream.Fallback, AutoCloseable {
+
+        private final Long logId;
+        private final Path source;
+        private final IngestCheckpoint base;
+        private final ResumePoint origin;
+        private final long bytes;
+        private final boolean restart;
+        private ParsedLineRuns runs;
+
+        private UnsortedFallback(
+                Long logId,
+                Path source,
+                IngestCheckpoint base,
+                ResumePoint origin,
+                long bytes,
+                boolean restart) {
+            this.logId = logId;
+            this.source = source;
+            this.base = base;
+            this.origin = origin;
+            this.bytes = bytes;
+            this.restart = restart;
+        }
+
+        @Override
+        public Consumer<ParsedLine> start(ParsedLine line, boolean committed) {
+            log.info(
+                    "Log ID {}: arquivo fora de ordem por usuário na linha {},"
+                            + " relendo a partir do byte {}",
+                    logId,
+                    line.getLineNumber(),
+                    origin.offset());
+
+            if (committed || restart) {
+                batchWriter.rewind(
+                        logId,
+                        base != null ? base.committedUsers() : 0,
+                        base != null ? base.lastCommittedUserId() : null,
+                        origin);
+            }
+
+            runs = externalRuns(logId, bytes, properties.getAggregation().getHeapBudget());
+            parser.replay(
+                    source, origin.offset(), origin.line(), line.getOffset(), pending(runs, base));
+            return runs;
+        }
+
+        void commit(ResumePoint end) {
+            commitExternally(logId, runs, end, base);
+        }
+
+        @Override
+        public void close() {
+            if (runs != null) {
+                runs.close();
+            }
+        }
+    }
 }
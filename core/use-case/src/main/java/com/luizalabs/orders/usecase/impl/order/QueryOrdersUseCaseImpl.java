@@ -1,11 +1,27 @@
 package com.luizalabs.orders.usecase.impl.order;
 
+import com.luizalabs.orders.common.util.SingleFlight;
 import com.luizalabs.orders.domain.dto.UserOrderResponseDTO;
+import com.luizalabs.orders.domain.entity.User;
+import com.luizalabs.orders.domain.exception.InvalidRequestException;
+import com.luizalabs.orders.domain.exception.NotFoundException;
 import com.luizalabs.orders.domain.mapper.DomainMapper;
 import com.luizalabs.orders.usecase.port.QueryOrdersUseCase;
+import com.luizalabs.orders.usecase.port.QueryOrdersUseCase.Versioned;
 import com.luizalabs.orders.usecase.port.data.OrderDataPort;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort.DataVersion;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,34 +32,154 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class QueryOrdersUseCaseImpl implements QueryOrdersUseCase {
 
+    static final int MAX_BATCH_GET_SIZE = 100;
+    static final int MAX_SHARED_ROWS = 10_000;
+
     private final OrderDataPort orderData;
+    private final OrderIdIndex orderIndex;
+    private final ReadOnlyTransaction readOnly;
     private final DomainMapper mapper = new DomainMapper();
 
+    private final SingleFlight<Long, Versioned<List<UserOrderResponseDTO>>> orderIdFlights =
+            new SingleFlight<>();
+    private final SingleFlight<DateRange, Versioned<List<UserOrderResponseDTO>>>
+            dateRangeFlights = new SingleFlight<>();
+
     @Override
     @Transactional(readOnly = true)
-    public List<UserOrderResponseDTO> findAll() {
-        log.info("Buscando todos");
-        return mapper.toResponseDTO(orderData.findAll());
+    public void streamAll(Consumer<Versioned<Stream<UserOrderResponseDTO>>> reader) {
+        log.info("Transmitindo todos");
+        String version = currentVersion();
+        try (Stream<User> users = orderData.streamAll()) {
+            reader.accept(new Versioned<>(version, users.map(mapper::toResponseDTO)));
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserOrderResponseDTO> findByOrderId(Long orderId) {
-        log.info("Buscando order_id: {}", orderId);
-        return mapper.toResponseDTO(orderData.findByOrderId(orderId));
+    public UserOrderResponseDTO findByUserId(Long userId) {
+        log.info("Buscando user_id: {}", userId);
+        return orderData
+                .findByUserId(userId)
+                .map(mapper::toResponseDTO)
+                .orElseThrow(() -> new NotFoundException("Usuário não encontrado: " + userId));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserOrderResponseDTO> findByDateRange(LocalDate start, LocalDate end) {
-        log.info("Buscando entre {} e {}", start, end);
-        return mapper.toResponseDTO(orderData.findByOrderDateBetween(start, end));
+    public List<UserOrderResponseDTO> findByUserIds(List<Long> userIds) {
+        Set<Long> ids = validBatch(userIds);
+        log.info("Buscando {} user_ids", ids.size());
+
+        Map<Long, User> found =
+                orderData.findByUserIds(ids).stream()
+                        .collect(Collectors.toMap(User::getUserId, Function.identity()));
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(mapper::toResponseDTO)
+                .toList();
+    }
+
+    @Override
+    public Versioned<List<UserOrderResponseDTO>> findByOrderId(Long orderId) {
+        log.info("Buscando order_id: {}", orderId);
+        return orderIdFlights.execute(
+                orderId,
+                () -> readOnly.call(() -> new Versioned<>(currentVersion(), lookupOrder(orderId))));
+    }
+
+    @Override
+    public void streamByDateRange(
+            LocalDate start,
+            LocalDate end,
+            Consumer<Versioned<Stream<UserOrderResponseDTO>>> reader) {
+        log.info("Transmitindo entre {} e {}", start, end);
+
+        Versioned<List<UserOrderResponseDTO>> shared =
+                dateRangeFlights.execute(
+                        new DateRange(start, end),
+                        () -> readOnly.call(() -> loadShared(start, end)));
+
+        if (shared != null) {
+            reader.accept(new Versioned<>(shared.version(), shared.value().stream()));
+        } else {
+            log.debug("Consulta entre {} e {} grande demais para compartilhar", start, end);
+            readOnly.run(() -> streamDateRange(start, end, reader));
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserOrderResponseDTO> findByStartDate(LocalDate start) {
-        log.info("Buscando start_date {}", start);
-        return mapper.toResponseDTO(orderData.findByOrderStartDate(start));
+    public String currentVersion() {
+        DataVersion version = orderData.currentVersion();
+        return version.generation() + "-" + Long.toHexString(version.lastUpdated());
     }
+
+    @Override
+    public <T> T atCurrentVersion(Function<String, T> read) {
+        return readOnly.call(() -> read.apply(currentVersion()));
+    }
+
+    private List<UserOrderResponseDTO> lookupOrder(Long orderId) {
+        long userId = orderIndex.lookup(orderId);
+        if (userId == OrderIdIndex.MISSING) {
+            log.debug("order_id {} ausente do índice", orderId);
+            return List.of();
+        }
+        if (userId == OrderIdIndex.UNKNOWN) {
+            return mapper.toResponseDTO(orderData.findByOrderId(orderId));
+        }
+
+        return orderData
+                .findUserOrder(userId, orderId)
+                .map(user -> List.of(mapper.toResponseDTO(user)))
+                .orElseGet(() -> mapper.toResponseDTO(orderData.findByOrderId(orderId)));
+    }
+
+    private Versioned<List<UserOrderResponseDTO>> loadShared(LocalDate start, LocalDate end) {
+        String version = currentVersion();
+        List<UserOrderResponseDTO> buffered = new ArrayList<>();
+        try (Stream<User> users = orderData.streamByOrderDateBetween(start, end)) {
+            Iterator<User> cursor = users.iterator();
+            while (cursor.hasNext()) {
+                buffered.add(mapper.toResponseDTO(cursor.next()));
+                if (buffered.size() > MAX_SHARED_ROWS) {
+                    return null;
+                }
+            }
+        }
+        return new Versioned<>(version, List.copyOf(buffered));
+    }
+
+    private void streamDateRange(
+            LocalDate start,
+            LocalDate end,
+            Consumer<Versioned<Stream<UserOrderResponseDTO>>> reader) {
+        String version = currentVersion();
+        try (Stream<User> users = orderData.streamByOrderDateBetween(start, end)) {
+            reader.accept(new Versioned<>(version, users.map(mapper::toResponseDTO)));
+        }
+    }
+
+    private Set<Long> validBatch(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new InvalidRequestException("Informe ao menos um user_id");
+        }
+        if (userIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("user_ids não pode conter valores nulos");
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        if (ids.size() > MAX_BATCH_GET_SIZE) {
+            throw new InvalidRequestException(
+                    String.format(
+                            "Máximo de %d user_ids por consulta (recebido: %d)",
+                            MAX_BATCH_GET_SIZE, ids.size()));
+        }
+        return ids;
+    }
+
+    private record DateRange(LocalDate start, LocalDate end) {}
 }
@@ -0,0 +1,19 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class ReadOnlyTransaction {
+
+    @Transactional(readOnly = true)
+    public void run(Runnable work) {
+        work.run();
+    }
+
+    @Transactional(readOnly = true)
+    public <T> T call(Supplier<T> work) {
+        return work.get();
+    }
+}
@@ -0,0 +1,118 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import com.luizalabs.orders.domain.dto.ParsedLine;
+import com.luizalabs.orders.domain.entity.User;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.ResumePoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+class SortedUserStream implements Consumer<ParsedLine> {
+
+    @FunctionalInterface
+    interface Committer {
+        void commit(List<User> batch, int committedUsers, ResumePoint resumePoint, int lines);
+    }
+
+    @FunctionalInterface
+    interface Fallback {
+        Consumer<ParsedLine> start(ParsedLine line, boolean committed);
+    }
+
+    private final DataAggregatorService aggregator;
+    private final int batchSize;
+    private final Long lastCommitted;
+    private final Committer committer;
+    private final Fallback fallback;
+    private final int committedBefore;
+    private int committed;
+    private int lines;
+
+    private final List<ParsedLine> current = new ArrayList<>();
+    private final List<User> batch = new ArrayList<>();
+    private Consumer<ParsedLine> unsorted;
+
+    SortedUserStream(
+            DataAggregatorService aggregator,
+            int batchSize,
+            int committedBefore,
+            Long lastCommitted,
+            Committer committer,
+            Fallback fallback) {
+        this.aggregator = aggregator;
+        this.batchSize = batchSize;
+        this.committedBefore = committedBefore;
+        this.committed = committedBefore;
+        this.lastCommitted = lastCommitted;
+        this.committer = committer;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void accept(ParsedLine line) {
+        if (unsorted != null) {
+            unsorted.accept(line);
+            return;
+        }
+
+        if (!current.isEmpty()) {
+            long userId = current.get(0).getUserId();
+
+            if (line.getUserId() < userId) {
+                fallBack(line);
+                return;
+            }
+            if (line.getUserId() != userId) {
+                complete(line);
+            }
+        } else if (lastCommitted != null && line.getUserId() <= lastCommitted) {
+            fallBack(line);
+            return;
+        }
+
+        current.add(line);
+        lines++;
+    }
+
+    boolean isSorted() {
+        return unsorted == null;
+    }
+
+    void finish(ResumePoint end) {
+        if (unsorted != null) {
+            return;
+        }
+
+        if (!current.isEmpty()) {
+            batch.addAll(aggregator.aggregate(current));
+            current.clear();
+        }
+        flush(end);
+    }
+
+    private void complete(ParsedLine next) {
+        batch.addAll(aggregator.aggregate(current));
+        current.clear();
+
+        if (batch.size() >= batchSize) {
+            flush(new ResumePoint(next.getOffset(), next.getLineNumber()));
+        }
+    }
+
+    private void flush(ResumePoint resumePoint) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        committed += batch.size();
+        committer.commit(List.copyOf(batch), committed, resumePoint, lines);
+        batch.clear();
+    }
+
+    private void fallBack(ParsedLine line) {
+        current.clear();
+        batch.clear();
+        unsorted = fallback.start(line, committed > committedBefore);
+        unsorted.accept(line);
+    }
+}
@@ -0,0 +1,140 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import com.luizalabs.orders.domain.exception.UploadRejectedException;
+import com.luizalabs.orders.usecase.config.IngestProperties;
+import com.luizalabs.orders.usecase.port.UploadAdmission;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class UploadAdmissionControl implements UploadAdmission {
+
+    private final IngestProperties.Admission config;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+
+    private final Deque<Object> waiters = new ArrayDeque<>();
+
+    private int active;
+    private long inFlight;
+
+    public UploadAdmissionControl(IngestProperties properties) {
+        this.config = properties.getAdmission();
+    }
+
+    @Override
+    public Permit acquire(long bytes) {
+        long cost = Math.min(Math.max(bytes, 0), config.getMaxInFlightSize().toBytes());
+
+        lock.lock();
+        try {
+            if (!waiters.isEmpty() || !fits(cost)) {
+                if (waiters.size() >= config.getMaxQueueDepth()) {
+                    throw reject("Fila de uploads cheia");
+                }
+                awaitTurn(cost);
+            }
+
+            active++;
+            inFlight += cost;
+            log.debug("Upload admitido: {} bytes (ativos={}, bytes={})", cost, active, inFlight);
+            return new AdmittedPermit(cost);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitTurn(long cost) {
+        Object ticket = new Object();
+        waiters.addLast(ticket);
+        try {
+            long remaining = config.getQueueTimeout().toNanos();
+            while (waiters.peekFirst() != ticket || !fits(cost)) {
+                if (remaining <= 0) {
+                    throw reject("Tempo de espera por capacidade de processamento esgotado");
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("Espera por capacidade de processamento interrompida");
+        } finally {
+            waiters.remove(ticket);
+            released.signalAll();
+        }
+    }
+
+    @Override
+    public int queueDepth() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int activeUploads() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long inFlightBytes() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean fits(long cost) {
+        return active < config.getMaxConcurrentUploads()
+                && inFlight + cost <= config.getMaxInFlightSize().toBytes();
+    }
+
+    private void release(long cost) {
+        lock.lock();
+        try {
+            active--;
+            inFlight -= cost;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private UploadRejectedException reject(String reason) {
+        log.warn("Upload rejeitado: {} (ativos={}, fila={})", reason, active, waiters.size());
+        return new UploadRejectedException(reason, Math.max(config.getRetryAfter().toSeconds(), 1));
+    }
+
+    private final class AdmittedPermit implements Permit {
+
+        private final long cost;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private AdmittedPermit(long cost) {
+            this.cost = cost;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(cost);
+            }
+        }
+    }
+}
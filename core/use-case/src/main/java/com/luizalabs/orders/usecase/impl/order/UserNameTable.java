@@ -0,0 +1,45 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import com.luizalabs.orders.common.util.FixedWidthParser;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class UserNameTable {
+
+    static final int DEFAULT_CAPACITY = 8192;
+
+    private final Map<Long, Entry> entries;
+
+    private Entry last;
+
+    UserNameTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    UserNameTable(int capacity) {
+        this.entries =
+                new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                        return size() > capacity;
+                    }
+                };
+    }
+
+    Entry lookup(Long userId, String line) {
+        if (last != null && last.userId().equals(userId)) {
+            return last;
+        }
+
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            entry = new Entry(userId, FixedWidthParser.extractUserName(line));
+            entries.put(userId, entry);
+        }
+
+        last = entry;
+        return entry;
+    }
+
+    record Entry(Long userId, String name) {}
+}
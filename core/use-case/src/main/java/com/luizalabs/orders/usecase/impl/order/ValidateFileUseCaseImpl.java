@@ -0,0 +1,246 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.luizalabs.orders.common.util.FixedWidthParser;
+import com.luizalabs.orders.common.util.LineErrorCode;
+import com.luizalabs.orders.domain.dto.ValidationResult;
+import com.luizalabs.orders.domain.exception.FileProcessingException;
+import com.luizalabs.orders.usecase.config.IngestProperties;
+import com.luizalabs.orders.usecase.port.ValidateFileUseCase;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ValidateFileUseCaseImpl implements ValidateFileUseCase {
+
+    private final IngestProperties properties;
+
+    @Override
+    public ValidationResult validate(MultipartFile file) {
+        log.info("Validando (dry-run): {}", file.getOriginalFilename());
+
+        FileValidator.validate(file);
+
+        long start = System.nanoTime();
+        Totals totals;
+
+        try (InputStream input = file.getInputStream()) {
+            totals = validate(input);
+        } catch (IOException e) {
+            throw new FileProcessingException("Erro ao ler arquivo: " + e.getMessage(), e);
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        int errorLines = totals.errors.count();
+
+        log.info(
+                "Validado: {} linhas, {} erros, {} bytes em {} ms",
+                totals.lines,
+                errorLines,
+                file.getSize(),
+                elapsedMs);
+
+        return ValidationResult.builder()
+                .fileName(file.getOriginalFilename())
+                .totalLines(totals.lines)
+                .validLines(totals.valid)
+                .errorLines(errorLines)
+                .hasErrors(errorLines > 0)
+                .errorSummary(totals.errors.summary())
+                .errors(totals.errors.details())
+                .sizeBytes(file.getSize())
+                .processingTimeMs(elapsedMs)
+                .build();
+    }
+
+    private Totals validate(InputStream input) throws IOException {
+        int parallelism = parallelism();
+        ChunkReader reader =
+                new ChunkReader(input, (int) properties.getValidation().getChunkSize().toBytes());
+        Semaphore slots = new Semaphore(parallelism);
+        Queue<Future<ChunkResult>> pending = new ArrayDeque<>();
+        Totals totals = new Totals(LineErrorCollector.silent(properties.getErrors()));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Chunk chunk;
+            int nextLine = 1;
+
+            while ((chunk = reader.next()) != null) {
+                slots.acquire();
+                Chunk current = chunk;
+                int firstLine = nextLine;
+                pending.add(
+                        executor.submit(
+                                () -> {
+                                    try {
+                                        return validateChunk(current, firstLine);
+                                    } finally {
+                                        slots.release();
+                                    }
+                                }));
+                nextLine += chunk.lines();
+
+                while (!pending.isEmpty() && pending.peek().isDone()) {
+                    totals.add(pending.poll().get());
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                totals.add(pending.poll().get());
+            }
+            totals.lines = nextLine - 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileProcessingException("Validação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new FileProcessingException("Erro ao validar arquivo", e.getCause());
+        }
+
+        return totals;
+    }
+
+    private ChunkResult validateChunk(Chunk chunk, int firstLine) {
+        LineErrorCollector errors = LineErrorCollector.silent(properties.getErrors());
+        byte[] data = chunk.data();
+        int valid = 0;
+        int number = firstLine;
+        int start = 0;
+
+        while (start < chunk.length()) {
+            int stop = indexOfLineBreak(data, start, chunk.length());
+            int length = stop - start;
+            if (length > 0 && data[stop - 1] == '\r') {
+                length--;
+            }
+
+            String line = new String(data, start, length, UTF_8);
+            if (!line.trim().isEmpty()) {
+                LineErrorCode code = FixedWidthParser.validate(line);
+                if (code == null) {
+                    valid++;
+                } else {
+                    errors.add(number, line, code);
+                }
+            }
+
+            number++;
+            start = stop + 1;
+        }
+
+        return new ChunkResult(valid, errors);
+    }
+
+    private int parallelism() {
+        int configured = properties.getValidation().getParallelism();
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+
+    private static int indexOfLineBreak(byte[] data, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data[i] == '\n') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private record Chunk(byte[] data, int length, int lines) {}
+
+    private record ChunkResult(int valid, LineErrorCollector errors) {}
+
+    private static final class Totals {
+
+        private final LineErrorCollector errors;
+        private int valid;
+        private int lines;
+
+        Totals(LineErrorCollector errors) {
+            this.errors = errors;
+        }
+
+        void add(ChunkResult result) {
+            valid += result.valid();
+            errors.merge(result.errors());
+        }
+    }
+
+    private static final class ChunkReader {
+
+        private final InputStream input;
+        private final int chunkSize;
+        private byte[] carry = new byte[0];
+        private boolean finished;
+
+        ChunkReader(InputStream input, int chunkSize) {
+            this.input = input;
+            this.chunkSize = Math.max(chunkSize, 1);
+        }
+
+        Chunk next() throws IOException {
+            if (finished) {
+                return null;
+            }
+
+            byte[] buffer = Arrays.copyOf(carry, Math.max(chunkSize, carry.length * 2));
+            int length = carry.length;
+            int end;
+
+            while (true) {
+                length += input.readNBytes(buffer, length, buffer.length - length);
+
+                if (length < buffer.length) {
+                    finished = true;
+                    end = length;
+                    break;
+                }
+
+                end = lastLineBreak(buffer, length) + 1;
+                if (end > 0) {
+                    break;
+                }
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+
+            carry = Arrays.copyOfRange(buffer, end, length);
+
+            if (end == 0) {
+                return null;
+            }
+            return new Chunk(buffer, end, countLines(buffer, end));
+        }
+
+        private int countLines(byte[] data, int length) {
+            int lines = 0;
+            for (int i = 0; i < length; i++) {
+                if (data[i] == '\n') {
+                    lines++;
+                }
+            }
+            return finished && data[length - 1] != '\n' ? lines + 1 : lines;
+        }
+
+        private static int lastLineBreak(byte[] data, int length) {
+            for (int i = length - 1; i >= 0; i--) {
+                if (data[i] == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.luizalabs.orders.usecase.impl.stats;
+
+import com.luizalabs.orders.domain.dto.DailyOrderStatsDTO;
+import com.luizalabs.orders.domain.mapper.DomainMapper;
+import com.luizalabs.orders.usecase.port.QueryStatsUseCase;
+import com.luizalabs.orders.usecase.port.data.DailyOrderStatsPort;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueryStatsUseCaseImpl implements QueryStatsUseCase {
+
+    private final DailyOrderStatsPort statsData;
+    private final DomainMapper mapper = new DomainMapper();
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyOrderStatsDTO> findDailyStats(LocalDate start, LocalDate end) {
+        log.info("Buscando estatísticas diárias entre {} e {}", start, end);
+        return mapper.toStatsDTO(statsData.findBetween(start, end));
+    }
+}
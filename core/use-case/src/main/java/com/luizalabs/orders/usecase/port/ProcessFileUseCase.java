@@ -6,4 +6,8 @@ import org.springframework.web.multipart.MultipartFile;
 public interface ProcessFileUseCase {
 
     ProcessingResult execute(MultipartFile file);
+
+    ProcessingResult resume(Long logId, MultipartFile file);
+
+    ProcessingResult recover(Long logId);
 }
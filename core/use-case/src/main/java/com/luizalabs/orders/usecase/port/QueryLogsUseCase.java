@@ -1,14 +1,16 @@
 package com.luizalabs.orders.usecase.port;
 
+import com.luizalabs.orders.domain.dto.CursorPage;
+import com.luizalabs.orders.domain.dto.LineError;
 import com.luizalabs.orders.domain.enums.ProcessingStatus;
 import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogInfo;
-import java.util.List;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogSummary;
 
 public interface QueryLogsUseCase {
 
     LogInfo findById(Long logId);
 
-    List<LogInfo> findAll(int page, int size);
+    CursorPage<LogSummary> findLogs(ProcessingStatus status, String cursor, int size);
 
-    List<LogInfo> findByStatus(ProcessingStatus status, int page, int size);
+    CursorPage<LineError> findErrors(Long logId, Integer afterLine, int size);
 }
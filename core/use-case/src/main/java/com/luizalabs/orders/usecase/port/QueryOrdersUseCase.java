@@ -3,14 +3,28 @@ package com.luizalabs.orders.usecase.port;
 import com.luizalabs.orders.domain.dto.UserOrderResponseDTO;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public interface QueryOrdersUseCase {
 
-    List<UserOrderResponseDTO> findAll();
+    void streamAll(Consumer<Versioned<Stream<UserOrderResponseDTO>>> reader);
 
-    List<UserOrderResponseDTO> findByOrderId(Long orderId);
+    UserOrderResponseDTO findByUserId(Long userId);
 
-    List<UserOrderResponseDTO> findByDateRange(LocalDate startDate, LocalDate endDate);
+    List<UserOrderResponseDTO> findByUserIds(List<Long> userIds);
 
-    List<UserOrderResponseDTO> findByStartDate(LocalDate startDate);
+    Versioned<List<UserOrderResponseDTO>> findByOrderId(Long orderId);
+
+    void streamByDateRange(
+            LocalDate startDate,
+            LocalDate endDate,
+            Consumer<Versioned<Stream<UserOrderResponseDTO>>> reader);
+
+    String currentVersion();
+
+    <T> T atCurrentVersion(Function<String, T> read);
+
+    record Versioned<T>(String version, T value) {}
 }
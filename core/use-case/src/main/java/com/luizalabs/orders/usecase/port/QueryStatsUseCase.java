@@ -0,0 +1,10 @@
+package com.luizalabs.orders.usecase.port;
+
+import com.luizalabs.orders.domain.dto.DailyOrderStatsDTO;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface QueryStatsUseCase {
+
+    List<DailyOrderStatsDTO> findDailyStats(LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,18 @@
+package com.luizalabs.orders.usecase.port;
+
+public interface UploadAdmission {
+
+    Permit acquire(long bytes);
+
+    int queueDepth();
+
+    int activeUploads();
+
+    long inFlightBytes();
+
+    interface Permit extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
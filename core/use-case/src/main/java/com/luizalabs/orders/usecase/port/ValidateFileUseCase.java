@@ -0,0 +1,9 @@
+package com.luizalabs.orders.usecase.port;
+
+import com.luizalabs.orders.domain.dto.ValidationResult;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface ValidateFileUseCase {
+
+    ValidationResult validate(MultipartFile file);
+}
@@ -0,0 +1,12 @@
+package com.luizalabs.orders.usecase.port.data;
+
+import com.luizalabs.orders.domain.dto.DailyOrderStats;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyOrderStatsPort {
+
+    void applyDeltas(List<DailyOrderStats> deltas);
+
+    List<DailyOrderStats> findBetween(LocalDate startDate, LocalDate endDate);
+}
@@ -1,14 +1,17 @@
 package com.luizalabs.orders.usecase.port.data;
 
+import com.luizalabs.orders.domain.dto.ErrorSummary;
 import com.luizalabs.orders.domain.dto.LineError;
 import com.luizalabs.orders.domain.enums.ProcessingStatus;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FileProcessingLogPort {
 
-    Long createLog(String fileName, LocalDateTime uploadedAt);
+    Long createLog(String fileName, LocalDateTime uploadedAt, String ownerNode);
 
     void updateLog(
             Long logId,
@@ -16,13 +19,48 @@ public interface FileProcessingLogPort {
             Integer totalLines,
             Integer processedLines,
             Integer errorLines,
-            List<LineError> errors);
+            ErrorSummary errorSummary);
 
-    Optional<LogInfo> findById(Long logId);
+    void updateProgress(
+            Long logId,
+            String ownerNode,
+            int committedUsers,
+            Long lastCommittedUserId,
+            ResumePoint resumePoint);
+
+    void updateStatus(Long logId, ProcessingStatus status);
+
+    void markFailed(Long logId, String reason);
+
+    void updateSpoolPath(Long logId, String spoolPath);
+
+    Optional<IngestCheckpoint> findCheckpoint(Long logId);
+
+    List<IngestCheckpoint> findInterrupted(String ownerNode, Duration leaseDuration);
+
+    boolean claim(Long logId, String ownerNode, Duration leaseDuration);
 
-    List<LogInfo> findAll(int page, int size);
+    int renewLeases(String ownerNode, Collection<Long> logIds);
 
-    List<LogInfo> findByStatus(ProcessingStatus status, int page, int size);
+    void releaseLease(Long logId, String ownerNode);
+
+    Optional<LogSummary> findById(Long logId);
+
+    List<LogSummary> findPage(ProcessingStatus status, LogCursor after, int limit);
+
+    record LogSummary(
+            Long id,
+            String fileName,
+            LocalDateTime uploadedAt,
+            ProcessingStatus status,
+            Integer totalLines,
+            Integer processedLines,
+            Integer errorLines,
+            ErrorSummary errorSummary,
+            Long processingTimeMs,
+            String failureReason) {}
+
+    record LogCursor(LocalDateTime uploadedAt, Long id) {}
 
     record LogInfo(
             Long id,
@@ -33,5 +71,40 @@ public interface FileProcessingLogPort {
             Integer processedLines,
             Integer errorLines,
             List<LineError> errors,
-            Long processingTimeMs) {}
+            ErrorSummary errorSummary,
+            Long processingTimeMs,
+            String failureReason) {
+
+        public static LogInfo of(LogSummary summary, List<LineError> errors) {
+            return new LogInfo(
+                    summary.id(),
+                    summary.fileName(),
+                    summary.uploadedAt(),
+                    summary.status(),
+                    summary.totalLines(),
+                    summary.processedLines(),
+                    summary.errorLines(),
+                    errors,
+                    summary.errorSummary(),
+                    summary.processingTimeMs(),
+                    summary.failureReason());
+        }
+    }
+
+    record IngestCheckpoint(
+            Long logId,
+            String fileName,
+            ProcessingStatus status,
+            Integer totalLines,
+            Integer processedLines,
+            Integer errorLines,
+            ErrorSummary errorSummary,
+            int committedUsers,
+            Long lastCommittedUserId,
+            ResumePoint resumePoint,
+            String spoolPath) {}
+
+    record ResumePoint(long offset, int line) {
+        public static final ResumePoint START = new ResumePoint(0, 1);
+    }
 }
@@ -0,0 +1,16 @@
+package com.luizalabs.orders.usecase.port.data;
+
+import com.luizalabs.orders.common.util.LineErrorCode;
+import com.luizalabs.orders.domain.dto.LineError;
+import java.util.List;
+
+public interface LineErrorPort {
+
+    void saveAll(Long logId, List<StoredError> errors);
+
+    void deleteByLogId(Long logId);
+
+    List<LineError> findPage(Long logId, int afterLine, int limit);
+
+    record StoredError(int lineNumber, LineErrorCode code, int lineLength, String lineContent) {}
+}
@@ -0,0 +1,16 @@
+package com.luizalabs.orders.usecase.port.data;
+
+import java.time.LocalDateTime;
+
+public interface LogRetentionPort {
+
+    int deleteLogsUploadedBefore(LocalDateTime cutoff, int limit);
+
+    int deleteLineErrorsUploadedBefore(LocalDateTime cutoff, int limit);
+
+    int stripLegacyErrorsUploadedBefore(LocalDateTime cutoff, int limit);
+
+    long storageSize();
+
+    long deadTuples();
+}
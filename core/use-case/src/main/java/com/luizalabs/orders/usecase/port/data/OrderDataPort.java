@@ -2,17 +2,36 @@ package com.luizalabs.orders.usecase.port.data;
 
 import com.luizalabs.orders.domain.entity.User;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderDataPort {
 
     void saveAll(List<User> users);
 
-    List<User> findAll();
+    Stream<User> streamAll();
+
+    Optional<User> findByUserId(Long userId);
+
+    List<User> findByUserIds(Collection<Long> userIds);
+
+    List<User> lockByUserIds(Collection<Long> userIds);
 
     List<User> findByOrderId(Long orderId);
 
-    List<User> findByOrderDateBetween(LocalDate startDate, LocalDate endDate);
+    Optional<User> findUserOrder(Long userId, Long orderId);
+
+    Stream<User> streamByOrderDateBetween(LocalDate startDate, LocalDate endDate);
+
+    List<OrderKey> findOrderKeys(Long afterUserId, int userLimit);
+
+    DataVersion currentVersion();
+
+    void advanceVersion();
+
+    record OrderKey(Long userId, Long orderId) {}
 
-    List<User> findByOrderStartDate(LocalDate startDate);
+    record DataVersion(long generation, long lastUpdated) {}
 }
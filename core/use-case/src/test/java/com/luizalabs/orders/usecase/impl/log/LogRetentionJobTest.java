@@ -0,0 +1,125 @@
+package com.luizalabs.orders.usecase.impl.log;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.luizalabs.orders.usecase.config.RetentionProperties;
+import com.luizalabs.orders.usecase.impl.log.LogRetentionJob.RetentionReport;
+import com.luizalabs.orders.usecase.port.data.LogRetentionPort;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogRetentionJob - Testes Unitários")
+class LogRetentionJobTest {
+
+    @Mock private LogRetentionPort retentionData;
+
+    private RetentionProperties properties;
+
+    private LogRetentionJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RetentionProperties();
+        properties.setBatchSize(2);
+        properties.setMaxAge(Duration.ofDays(90));
+        properties.setErrorDetailsMaxAge(Duration.ofDays(7));
+        job = new LogRetentionJob(retentionData, properties);
+    }
+
+    @Test
+    @DisplayName("Deve remover em lotes até um lote incompleto e reportar linhas removidas")
+    void shouldPurgeInBatchesAndReportRemovedRows() {
+        when(retentionData.storageSize()).thenReturn(10_000L);
+        when(retentionData.deadTuples()).thenReturn(7L);
+        when(retentionData.deleteLineErrorsUploadedBefore(any(), eq(2))).thenReturn(2, 1);
+        when(retentionData.deleteLogsUploadedBefore(any(), eq(2))).thenReturn(2, 2, 1);
+        when(retentionData.stripLegacyErrorsUploadedBefore(any(), eq(2))).thenReturn(2, 0);
+
+        RetentionReport report = job.run();
+
+        assertThat(report.purgedLogs()).isEqualTo(5);
+        assertThat(report.deletedLineErrors()).isEqualTo(3);
+        assertThat(report.strippedLogs()).isEqualTo(2);
+        assertThat(report.removedRows()).isEqualTo(8);
+        assertThat(report.deadTuples()).isEqualTo(7L);
+        assertThat(job.lastStorageSize()).isEqualTo(10_000L);
+        assertThat(job.lastDeadTuples()).isEqualTo(7L);
+        verify(retentionData, times(3)).deleteLogsUploadedBefore(any(), anyInt());
+        verify(retentionData, times(2)).stripLegacyErrorsUploadedBefore(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve usar as idades configuradas como corte")
+    void shouldUseConfiguredAgesAsCutoff() {
+        when(retentionData.storageSize()).thenReturn(0L);
+        LocalDateTime before = LocalDateTime.now();
+
+        job.run();
+
+        ArgumentCaptor<LocalDateTime> expired = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> details = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(retentionData).deleteLogsUploadedBefore(expired.capture(), eq(2));
+        verify(retentionData).deleteLineErrorsUploadedBefore(details.capture(), eq(2));
+
+        assertThat(expired.getValue())
+                .isBetween(before.minusDays(90), LocalDateTime.now().minusDays(90));
+        assertThat(details.getValue())
+                .isBetween(before.minusDays(7), LocalDateTime.now().minusDays(7));
+    }
+
+    @Test
+    @DisplayName("Deve remover os erros de linha dos logs expirados antes dos próprios logs")
+    void shouldDeleteLineErrorsOfExpiredLogsBeforeLogs() {
+        properties.setErrorDetailsMaxAge(Duration.ofDays(400));
+        when(retentionData.storageSize()).thenReturn(0L);
+        LocalDateTime before = LocalDateTime.now();
+
+        job.run();
+
+        ArgumentCaptor<LocalDateTime> expired = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> details = ArgumentCaptor.forClass(LocalDateTime.class);
+        InOrder inOrder = inOrder(retentionData);
+        inOrder.verify(retentionData).deleteLineErrorsUploadedBefore(details.capture(), eq(2));
+        inOrder.verify(retentionData).deleteLogsUploadedBefore(expired.capture(), eq(2));
+
+        assertThat(details.getValue())
+                .isEqualTo(expired.getValue())
+                .isBetween(before.minusDays(90), LocalDateTime.now().minusDays(90));
+    }
+
+    @Test
+    @DisplayName("Deve limitar a quantidade de lotes por execução")
+    void shouldLimitBatchesPerRun() {
+        properties.setMaxBatchesPerRun(3);
+        when(retentionData.storageSize()).thenReturn(0L);
+        when(retentionData.deleteLogsUploadedBefore(any(), anyInt())).thenReturn(2);
+
+        RetentionReport report = job.run();
+
+        assertThat(report.purgedLogs()).isEqualTo(6);
+        verify(retentionData, times(3)).deleteLogsUploadedBefore(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Não deve executar quando a retenção está desabilitada")
+    void shouldSkipWhenDisabled() {
+        properties.setEnabled(false);
+
+        job.scheduledRun();
+
+        verifyNoInteractions(retentionData);
+    }
+}
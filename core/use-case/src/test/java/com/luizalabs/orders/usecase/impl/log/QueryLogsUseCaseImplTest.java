@@ -5,15 +5,23 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.luizalabs.orders.domain.dto.CursorPage;
 import com.luizalabs.orders.domain.dto.LineError;
 import com.luizalabs.orders.domain.enums.ProcessingStatus;
+import com.luizalabs.orders.domain.exception.InvalidCursorException;
 import com.luizalabs.orders.domain.exception.NotFoundException;
+import com.luizalabs.orders.usecase.config.IngestProperties;
 import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogCursor;
 import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogInfo;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.LogSummary;
+import com.luizalabs.orders.usecase.port.data.LineErrorPort;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,14 +40,18 @@ class QueryLogsUseCaseImplTest {
 
     @Mock private FileProcessingLogPort logData;
 
+    @Mock private LineErrorPort lineErrorData;
+
+    @Spy private IngestProperties properties = new IngestProperties();
+
     @InjectMocks private QueryLogsUseCaseImpl queryLogsUseCase;
 
-    private LogInfo mockLogInfo;
+    private LogSummary mockLogSummary;
 
     @BeforeEach
     void setUp() {
-        mockLogInfo =
-                new LogInfo(
+        mockLogSummary =
+                new LogSummary(
                         1L,
                         "test.txt",
                         LocalDateTime.now(),
@@ -46,14 +59,15 @@ class QueryLogsUseCaseImplTest {
                         10,
                         10,
                         0,
-                        List.of(),
-                        1000L);
+                        null,
+                        1000L,
+                        null);
     }
 
     @Test
     @DisplayName("Deve buscar log por ID com sucesso")
     void shouldFindLogById() {
-        when(logData.findById(anyLong())).thenReturn(Optional.of(mockLogInfo));
+        when(logData.findById(anyLong())).thenReturn(Optional.of(mockLogSummary));
 
         LogInfo result = queryLogsUseCase.findById(1L);
 
@@ -65,8 +79,36 @@ class QueryLogsUseCaseImplTest {
         assertThat(result.processedLines()).isEqualTo(10);
         assertThat(result.errorLines()).isEqualTo(0);
         assertThat(result.processingTimeMs()).isEqualTo(1000L);
+        assertThat(result.errors()).isEmpty();
 
         verify(logData, times(1)).findById(1L);
+        verifyNoInteractions(lineErrorData);
+    }
+
+    @Test
+    @DisplayName("Deve buscar amostra de erros da tabela de erros de linha")
+    void shouldFindLogByIdWithErrorSample() {
+        LogSummary partial =
+                new LogSummary(
+                        2L,
+                        "partial.txt",
+                        LocalDateTime.now(),
+                        ProcessingStatus.PARTIAL_SUCCESS,
+                        10,
+                        8,
+                        2,
+                        null,
+                        800L,
+                        null);
+        List<LineError> errors = List.of(lineError(3), lineError(7));
+
+        when(logData.findById(2L)).thenReturn(Optional.of(partial));
+        when(lineErrorData.findPage(2L, 0, 100)).thenReturn(errors);
+
+        LogInfo result = queryLogsUseCase.findById(2L);
+
+        assertThat(result.errorLines()).isEqualTo(2);
+        assertThat(result.errors()).isEqualTo(errors);
     }
 
     @Test
@@ -84,8 +126,8 @@ class QueryLogsUseCaseImplTest {
     @Test
     @DisplayName("Deve buscar todos os logs com paginação")
     void shouldFindAllLogsWithPagination() {
-        LogInfo log1 =
-                new LogInfo(
+        LogSummary log1 =
+                new LogSummary(
                         1L,
                         "file1.txt",
                         LocalDateTime.now(),
@@ -93,11 +135,12 @@ class QueryLogsUseCaseImplTest {
                         10,
                         10,
                         0,
-                        List.of(),
-                        1000L);
+                        null,
+                        1000L,
+                        null);
 
-        LogInfo log2 =
-                new LogInfo(
+        LogSummary log2 =
+                new LogSummary(
                         2L,
                         "file2.txt",
                         LocalDateTime.now(),
@@ -105,38 +148,40 @@ class QueryLogsUseCaseImplTest {
                         5,
                         4,
                         1,
-                        List.of(new LineError(3, "invalid", "Error")),
-                        500L);
+                        null,
+                        500L,
+                        null);
 
-        when(logData.findAll(anyInt(), anyInt())).thenReturn(List.of(log1, log2));
+        when(logData.findPage(isNull(), isNull(), anyInt())).thenReturn(List.of(log1, log2));
 
-        List<LogInfo> result = queryLogsUseCase.findAll(0, 20);
+        CursorPage<LogSummary> result = queryLogsUseCase.findLogs(null, null, 20);
 
-        assertThat(result).isNotNull().hasSize(2);
-        assertThat(result.get(0).id()).isEqualTo(1L);
-        assertThat(result.get(1).id()).isEqualTo(2L);
-        assertThat(result.get(1).errorLines()).isEqualTo(1);
-        assertThat(result.get(1).errors()).hasSize(1);
+        assertThat(result.getItems()).isNotNull().hasSize(2);
+        assertThat(result.getItems().get(0).id()).isEqualTo(1L);
+        assertThat(result.getItems().get(1).id()).isEqualTo(2L);
+        assertThat(result.getItems().get(1).errorLines()).isEqualTo(1);
+        assertThat(result.getNextCursor()).isNull();
 
-        verify(logData, times(1)).findAll(0, 20);
+        verify(logData, times(1)).findPage(null, null, 21);
     }
 
     @Test
     @DisplayName("Deve retornar lista vazia quando não há logs")
     void shouldReturnEmptyListWhenNoLogs() {
-        when(logData.findAll(anyInt(), anyInt())).thenReturn(List.of());
+        when(logData.findPage(isNull(), isNull(), anyInt())).thenReturn(List.of());
 
-        List<LogInfo> result = queryLogsUseCase.findAll(0, 20);
+        CursorPage<LogSummary> result = queryLogsUseCase.findLogs(null, null, 20);
 
-        assertThat(result).isNotNull().isEmpty();
-        verify(logData, times(1)).findAll(0, 20);
+        assertThat(result.getItems()).isNotNull().isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+        verify(logData, times(1)).findPage(null, null, 21);
     }
 
     @Test
     @DisplayName("Deve buscar logs por status SUCCESS")
     void shouldFindLogsByStatusSuccess() {
-        LogInfo successLog =
-                new LogInfo(
+        LogSummary successLog =
+                new LogSummary(
                         1L,
                         "success.txt",
                         LocalDateTime.now(),
@@ -144,26 +189,28 @@ class QueryLogsUseCaseImplTest {
                         10,
                         10,
                         0,
-                        List.of(),
-                        1000L);
+                        null,
+                        1000L,
+                        null);
 
-        when(logData.findByStatus(any(ProcessingStatus.class), anyInt(), anyInt()))
+        when(logData.findPage(any(ProcessingStatus.class), isNull(), anyInt()))
                 .thenReturn(List.of(successLog));
 
-        List<LogInfo> result = queryLogsUseCase.findByStatus(ProcessingStatus.SUCCESS, 0, 20);
+        List<LogSummary> result =
+                queryLogsUseCase.findLogs(ProcessingStatus.SUCCESS, null, 20).getItems();
 
         assertThat(result).isNotNull().hasSize(1);
         assertThat(result.get(0).status()).isEqualTo(ProcessingStatus.SUCCESS);
         assertThat(result.get(0).errorLines()).isZero();
 
-        verify(logData, times(1)).findByStatus(ProcessingStatus.SUCCESS, 0, 20);
+        verify(logData, times(1)).findPage(ProcessingStatus.SUCCESS, null, 21);
     }
 
     @Test
     @DisplayName("Deve buscar logs por status FAILED")
     void shouldFindLogsByStatusFailed() {
-        LogInfo failedLog =
-                new LogInfo(
+        LogSummary failedLog =
+                new LogSummary(
                         2L,
                         "failed.txt",
                         LocalDateTime.now(),
@@ -171,30 +218,29 @@ class QueryLogsUseCaseImplTest {
                         5,
                         0,
                         5,
-                        List.of(
-                                new LineError(1, "line1", "Error 1"),
-                                new LineError(2, "line2", "Error 2")),
-                        200L);
+                        null,
+                        200L,
+                        null);
 
-        when(logData.findByStatus(eq(ProcessingStatus.FAILED), anyInt(), anyInt()))
+        when(logData.findPage(eq(ProcessingStatus.FAILED), isNull(), anyInt()))
                 .thenReturn(List.of(failedLog));
 
-        List<LogInfo> result = queryLogsUseCase.findByStatus(ProcessingStatus.FAILED, 0, 10);
+        List<LogSummary> result =
+                queryLogsUseCase.findLogs(ProcessingStatus.FAILED, null, 10).getItems();
 
         assertThat(result).isNotNull().hasSize(1);
         assertThat(result.get(0).status()).isEqualTo(ProcessingStatus.FAILED);
         assertThat(result.get(0).errorLines()).isEqualTo(5);
         assertThat(result.get(0).processedLines()).isZero();
-        assertThat(result.get(0).errors()).hasSize(2);
 
-        verify(logData, times(1)).findByStatus(ProcessingStatus.FAILED, 0, 10);
+        verify(logData, times(1)).findPage(ProcessingStatus.FAILED, null, 11);
     }
 
     @Test
     @DisplayName("Deve buscar logs por status PARTIAL_SUCCESS")
     void shouldFindLogsByStatusPartialSuccess() {
-        LogInfo partialLog =
-                new LogInfo(
+        LogSummary partialLog =
+                new LogSummary(
                         3L,
                         "partial.txt",
                         LocalDateTime.now(),
@@ -202,62 +248,161 @@ class QueryLogsUseCaseImplTest {
                         10,
                         8,
                         2,
-                        List.of(new LineError(5, "invalid line", "Parse error")),
-                        800L);
+                        null,
+                        800L,
+                        null);
 
-        when(logData.findByStatus(eq(ProcessingStatus.PARTIAL_SUCCESS), anyInt(), anyInt()))
+        when(logData.findPage(eq(ProcessingStatus.PARTIAL_SUCCESS), isNull(), anyInt()))
                 .thenReturn(List.of(partialLog));
 
-        List<LogInfo> result =
-                queryLogsUseCase.findByStatus(ProcessingStatus.PARTIAL_SUCCESS, 0, 20);
+        List<LogSummary> result =
+                queryLogsUseCase.findLogs(ProcessingStatus.PARTIAL_SUCCESS, null, 20).getItems();
 
         assertThat(result).isNotNull().hasSize(1);
         assertThat(result.get(0).status()).isEqualTo(ProcessingStatus.PARTIAL_SUCCESS);
         assertThat(result.get(0).errorLines()).isEqualTo(2);
         assertThat(result.get(0).processedLines()).isEqualTo(8);
 
-        verify(logData, times(1)).findByStatus(ProcessingStatus.PARTIAL_SUCCESS, 0, 20);
+        verify(logData, times(1)).findPage(ProcessingStatus.PARTIAL_SUCCESS, null, 21);
     }
 
     @Test
     @DisplayName("Deve retornar lista vazia quando não há logs com status específico")
     void shouldReturnEmptyListWhenNoLogsWithStatus() {
-        when(logData.findByStatus(any(ProcessingStatus.class), anyInt(), anyInt()))
+        when(logData.findPage(any(ProcessingStatus.class), isNull(), anyInt()))
                 .thenReturn(List.of());
 
-        List<LogInfo> result = queryLogsUseCase.findByStatus(ProcessingStatus.PROCESSING, 0, 20);
+        List<LogSummary> result =
+                queryLogsUseCase.findLogs(ProcessingStatus.PROCESSING, null, 20).getItems();
 
         assertThat(result).isNotNull().isEmpty();
-        verify(logData, times(1)).findByStatus(ProcessingStatus.PROCESSING, 0, 20);
+        verify(logData, times(1)).findPage(ProcessingStatus.PROCESSING, null, 21);
     }
 
     @Test
-    @DisplayName("Deve buscar logs com diferentes tamanhos de página")
+    @DisplayName("Deve buscar logs com diferentes tamanhos de página limitados ao máximo")
     void shouldFindLogsWithDifferentPageSizes() {
-        when(logData.findAll(anyInt(), anyInt())).thenReturn(List.of(mockLogInfo));
+        when(logData.findPage(isNull(), isNull(), anyInt())).thenReturn(List.of(mockLogSummary));
 
-        List<LogInfo> result1 = queryLogsUseCase.findAll(0, 10);
-        List<LogInfo> result2 = queryLogsUseCase.findAll(1, 50);
-        List<LogInfo> result3 = queryLogsUseCase.findAll(2, 100);
+        CursorPage<LogSummary> result1 = queryLogsUseCase.findLogs(null, null, 10);
+        CursorPage<LogSummary> result2 = queryLogsUseCase.findLogs(null, null, 50);
+        CursorPage<LogSummary> result3 = queryLogsUseCase.findLogs(null, null, 10_000);
 
-        assertThat(result1).isNotNull();
-        assertThat(result2).isNotNull();
-        assertThat(result3).isNotNull();
+        assertThat(result1.getItems()).isNotNull();
+        assertThat(result2.getItems()).isNotNull();
+        assertThat(result3.getItems()).isNotNull();
 
-        verify(logData, times(1)).findAll(0, 10);
-        verify(logData, times(1)).findAll(1, 50);
-        verify(logData, times(1)).findAll(2, 100);
+        verify(logData, times(1)).findPage(null, null, 11);
+        verify(logData, times(1)).findPage(null, null, 51);
+        verify(logData, times(1)).findPage(null, null, QueryLogsUseCaseImpl.MAX_LOGS_PAGE_SIZE + 1);
     }
 
     @Test
-    @DisplayName("Deve buscar logs por status com paginação customizada")
-    void shouldFindLogsByStatusWithCustomPagination() {
-        when(logData.findByStatus(any(ProcessingStatus.class), anyInt(), anyInt()))
-                .thenReturn(List.of(mockLogInfo));
+    @DisplayName("Deve buscar logs por status a partir do cursor informado")
+    void shouldFindLogsByStatusAfterCursor() {
+        LocalDateTime uploadedAt = LocalDateTime.of(2025, 11, 30, 12, 0, 15);
+        LogSummary last =
+                new LogSummary(
+                        42L,
+                        "last.txt",
+                        uploadedAt,
+                        ProcessingStatus.SUCCESS,
+                        10,
+                        10,
+                        0,
+                        null,
+                        1000L,
+                        null);
+        when(logData.findPage(any(ProcessingStatus.class), any(LogCursor.class), anyInt()))
+                .thenReturn(List.of(mockLogSummary));
+
+        CursorPage<LogSummary> result =
+                queryLogsUseCase.findLogs(ProcessingStatus.SUCCESS, LogCursorCodec.encode(last), 5);
+
+        assertThat(result.getItems()).containsExactly(mockLogSummary);
+        verify(logData, times(1))
+                .findPage(ProcessingStatus.SUCCESS, new LogCursor(uploadedAt, 42L), 6);
+    }
 
-        List<LogInfo> result = queryLogsUseCase.findByStatus(ProcessingStatus.SUCCESS, 2, 5);
+    @Test
+    @DisplayName("Deve retornar cursor do último item quando há mais logs")
+    void shouldReturnNextCursorWhenMoreLogsExist() {
+        LogSummary first = logAt(3L, LocalDateTime.of(2025, 11, 30, 13, 0));
+        LogSummary second = logAt(2L, LocalDateTime.of(2025, 11, 30, 12, 0));
+        LogSummary third = logAt(1L, LocalDateTime.of(2025, 11, 30, 12, 0));
+        when(logData.findPage(null, null, 3)).thenReturn(List.of(first, second, third));
+
+        CursorPage<LogSummary> result = queryLogsUseCase.findLogs(null, null, 2);
+
+        assertThat(result.getItems()).containsExactly(first, second);
+        assertThat(result.getNextCursor()).isEqualTo(LogCursorCodec.encode(second));
+        assertThat(LogCursorCodec.decode(result.getNextCursor()))
+                .isEqualTo(new LogCursor(second.uploadedAt(), 2L));
+    }
 
-        assertThat(result).isNotNull();
-        verify(logData, times(1)).findByStatus(ProcessingStatus.SUCCESS, 2, 5);
+    @Test
+    @DisplayName("Deve lançar InvalidCursorException para cursor inválido")
+    void shouldThrowInvalidCursorExceptionForMalformedCursor() {
+        assertThatThrownBy(() -> queryLogsUseCase.findLogs(null, "nao-e-um-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("Cursor de paginação inválido");
+
+        verifyNoInteractions(logData);
+    }
+
+    @Test
+    @DisplayName("Deve paginar erros por cursor de número de linha")
+    void shouldPaginateErrorsByLineCursor() {
+        when(logData.findById(1L)).thenReturn(Optional.of(mockLogSummary));
+        when(lineErrorData.findPage(1L, 10, 3))
+                .thenReturn(List.of(lineError(11), lineError(15), lineError(20)));
+
+        CursorPage<LineError> page = queryLogsUseCase.findErrors(1L, 10, 2);
+
+        assertThat(page.getItems()).extracting(LineError::getLineNumber).containsExactly(11, 15);
+        assertThat(page.getNextCursor()).isEqualTo("15");
+    }
+
+    @Test
+    @DisplayName("Deve retornar cursor nulo na última página de erros")
+    void shouldReturnNullCursorOnLastErrorsPage() {
+        when(logData.findById(1L)).thenReturn(Optional.of(mockLogSummary));
+        when(lineErrorData.findPage(1L, 0, 101)).thenReturn(List.of(lineError(4)));
+
+        CursorPage<LineError> page = queryLogsUseCase.findErrors(1L, null, 100);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página de erros")
+    void shouldCapErrorsPageSize() {
+        when(logData.findById(1L)).thenReturn(Optional.of(mockLogSummary));
+        when(lineErrorData.findPage(anyLong(), anyInt(), anyInt())).thenReturn(List.of());
+
+        queryLogsUseCase.findErrors(1L, 0, 1_000_000);
+
+        verify(lineErrorData).findPage(1L, 0, QueryLogsUseCaseImpl.MAX_ERRORS_PAGE_SIZE + 1);
+    }
+
+    @Test
+    @DisplayName("Deve lançar NotFoundException ao buscar erros de log inexistente")
+    void shouldThrowNotFoundWhenListingErrorsOfMissingLog() {
+        when(logData.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> queryLogsUseCase.findErrors(999L, null, 100))
+                .isInstanceOf(NotFoundException.class);
+
+        verifyNoInteractions(lineErrorData);
+    }
+
+    private LogSummary logAt(Long id, LocalDateTime uploadedAt) {
+        return new LogSummary(
+                id, "file.txt", uploadedAt, ProcessingStatus.SUCCESS, 1, 1, 0, null, 10L, null);
+    }
+
+    private LineError lineError(int lineNumber) {
+        return new LineError(lineNumber, "invalid", "Erro", "INVALID_LENGTH");
     }
 }
@@ -2,11 +2,12 @@ package com.luizalabs.orders.usecase.impl.order;
 
 import static org.assertj.core.api.Assertions.*;
 
+import com.luizalabs.orders.common.util.Money;
+import com.luizalabs.orders.domain.dto.DailyOrderStats;
 import com.luizalabs.orders.domain.dto.ParsedLine;
 import com.luizalabs.orders.domain.entity.Order;
 import com.luizalabs.orders.domain.entity.Product;
 import com.luizalabs.orders.domain.entity.User;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +17,9 @@ import org.junit.jupiter.api.Test;
 @DisplayName("DataAggregatorService - Testes Unitários")
 class DataAggregatorServiceTest {
 
+    private static final LocalDate DAY_ONE = LocalDate.of(2021, 12, 1);
+    private static final LocalDate DAY_TWO = LocalDate.of(2021, 12, 2);
+
     private DataAggregatorService service;
 
     @BeforeEach
@@ -46,7 +50,7 @@ class DataAggregatorServiceTest {
                         .userName("Zarelli")
                         .orderId(123L)
                         .productId(111L)
-                        .value(new BigDecimal("512.24"))
+                        .valueCents(51224L)
                         .date(LocalDate.of(2021, 12, 1))
                         .build();
 
@@ -63,11 +67,11 @@ class DataAggregatorServiceTest {
         assertThat(order.getOrderId()).isEqualTo(123L);
         assertThat(order.getDate()).isEqualTo(LocalDate.of(2021, 12, 1));
         assertThat(order.getProducts()).hasSize(1);
-        assertThat(order.getTotal()).isEqualByComparingTo("512.24");
+        assertThat(order.getTotalCents()).isEqualTo(51224L);
 
         Product product = order.getProducts().get(0);
         assertThat(product.getProductId()).isEqualTo(111L);
-        assertThat(product.getValue()).isEqualByComparingTo("512.24");
+        assertThat(product.getValueCents()).isEqualTo(51224L);
     }
 
     @Test
@@ -85,7 +89,7 @@ class DataAggregatorServiceTest {
 
         Order order = result.get(0).getOrders().get(0);
         assertThat(order.getProducts()).hasSize(2);
-        assertThat(order.getTotal()).isEqualByComparingTo("768.36");
+        assertThat(order.getTotalCents()).isEqualTo(76836L);
     }
 
     @Test
@@ -140,7 +144,7 @@ class DataAggregatorServiceTest {
                         .findFirst()
                         .orElseThrow();
         assertThat(order1.getProducts()).hasSize(2);
-        assertThat(order1.getTotal()).isEqualByComparingTo("768.36");
+        assertThat(order1.getTotalCents()).isEqualTo(76836L);
 
         Order order2 =
                 user1.getOrders().stream()
@@ -148,13 +152,63 @@ class DataAggregatorServiceTest {
                         .findFirst()
                         .orElseThrow();
         assertThat(order2.getProducts()).hasSize(1);
-        assertThat(order2.getTotal()).isEqualByComparingTo("100.00");
+        assertThat(order2.getTotalCents()).isEqualTo(10000L);
 
         User user2 =
                 result.stream().filter(u -> u.getUserId().equals(2L)).findFirst().orElseThrow();
         assertThat(user2.getOrders()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("Deve consolidar estatísticas diárias dos pedidos agregados")
+    void shouldSummarizeDailyStats() {
+        List<ParsedLine> lines =
+                List.of(
+                        createLine(1L, "Zarelli", 123L, 111L, "512.24", LocalDate.of(2021, 12, 1)),
+                        createLine(1L, "Zarelli", 123L, 122L, "256.12", LocalDate.of(2021, 12, 1)),
+                        createLine(2L, "Medeiros", 789L, 444L, "50.50", LocalDate.of(2021, 12, 1)),
+                        createLine(2L, "Medeiros", 790L, 445L, "10.00", LocalDate.of(2021, 12, 2)));
+
+        List<User> users = service.aggregate(lines);
+        List<DailyOrderStats> result = service.dailyDelta(users, List.of());
+
+        assertThat(result).hasSize(2);
+
+        DailyOrderStats first = result.get(0);
+        assertThat(first.getDate()).isEqualTo(LocalDate.of(2021, 12, 1));
+        assertThat(first.getOrderCount()).isEqualTo(2L);
+        assertThat(first.getProductCount()).isEqualTo(3L);
+        assertThat(first.getRevenueCents()).isEqualTo(81886L);
+
+        DailyOrderStats second = result.get(1);
+        assertThat(second.getDate()).isEqualTo(LocalDate.of(2021, 12, 2));
+        assertThat(second.getOrderCount()).isEqualTo(1L);
+        assertThat(second.getRevenueCents()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("Deve descontar pedidos substituídos e omitir datas sem variação")
+    void shouldSubtractReplacedOrdersFromDailyStats() {
+        List<User> previous =
+                service.aggregate(
+                        List.of(
+                                createLine(1L, "Zarelli", 123L, 111L, "512.24", DAY_ONE),
+                                createLine(1L, "Zarelli", 456L, 333L, "100.00", DAY_TWO)));
+        List<User> incoming =
+                service.aggregate(
+                        List.of(
+                                createLine(1L, "Zarelli", 123L, 111L, "512.24", DAY_ONE),
+                                createLine(1L, "Zarelli", 456L, 333L, "150.00", DAY_TWO)));
+
+        List<DailyOrderStats> result = service.dailyDelta(incoming, previous);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getDate()).isEqualTo(DAY_TWO);
+        assertThat(result.get(0).getOrderCount()).isZero();
+        assertThat(result.get(0).getProductCount()).isZero();
+        assertThat(result.get(0).getRevenueCents()).isEqualTo(5000L);
+    }
+
     private ParsedLine createLine(
             Long userId,
             String userName,
@@ -167,7 +221,7 @@ class DataAggregatorServiceTest {
                 .userName(userName)
                 .orderId(orderId)
                 .productId(productId)
-                .value(new BigDecimal(value))
+                .valueCents(Money.parseCents(value, 0, value.length()))
                 .date(date)
                 .build();
     }
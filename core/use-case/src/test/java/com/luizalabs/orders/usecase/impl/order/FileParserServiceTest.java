@@ -6,12 +6,18 @@ import static org.mockito.Mockito.*;
 import com.luizalabs.orders.domain.dto.LineError;
 import com.luizalabs.orders.domain.dto.ParsedLine;
 import com.luizalabs.orders.domain.exception.FileProcessingException;
+import com.luizalabs.orders.usecase.config.IngestProperties;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.web.multipart.MultipartFile;
 
 @DisplayName("FileParserService - Testes Unitários")
@@ -45,7 +51,7 @@ class FileParserServiceTest {
         assertThat(line.getUserName()).isEqualTo("Palmer Prosacco");
         assertThat(line.getOrderId()).isEqualTo(753L);
         assertThat(line.getProductId()).isEqualTo(3L);
-        assertThat(line.getValue()).isEqualByComparingTo("183674.00");
+        assertThat(line.getValueCents()).isEqualTo(18367400L);
         assertThat(line.getDate()).isEqualTo(LocalDate.of(2021, 3, 8));
     }
 
@@ -92,6 +98,20 @@ class FileParserServiceTest {
         assertThat(error.getErrorMessage()).isNotBlank();
     }
 
+    @Test
+    @DisplayName("Deve indicar campo e posições no erro de linha")
+    void shouldReportFieldAndPositionsInLineError() throws IOException {
+        String invalidValue =
+                VALID_LINE.substring(0, 75) + "ABCDEFGHIJKL" + VALID_LINE.substring(87);
+        MultipartFile file = createFile(invalidValue);
+
+        FileParserService.ParseResult result = service.parse(file);
+
+        assertThat(result.validLines()).isEmpty();
+        assertThat(result.errors()).hasSize(1);
+        assertThat(result.errors().get(0).getErrorMessage()).contains("'value'", "76-87");
+    }
+
     @Test
     @DisplayName("Deve truncar conteúdo de linha longa no erro")
     void shouldTruncateLongLineContentInError() throws IOException {
@@ -127,6 +147,68 @@ class FileParserServiceTest {
         assertThat(result.totalLines()).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("Deve parsear arquivo a partir de um offset preservando a numeração das linhas")
+    void shouldParseFromOffsetKeepingLineNumbers(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("data.txt");
+        Files.writeString(file, VALID_LINE + "\r\n" + VALID_LINE + "\n" + VALID_LINE);
+        long secondLine = VALID_LINE.length() + 2;
+
+        LineErrorCollector errors = new LineErrorCollector(new IngestProperties.Errors(), null);
+
+        FileParserService.ParseResult result = service.parse(file, secondLine, 2, errors);
+
+        assertThat(result.validLines()).hasSize(2);
+        assertThat(result.validLines().get(0).getLineNumber()).isEqualTo(2);
+        assertThat(result.validLines().get(0).getOffset()).isEqualTo(secondLine);
+        assertThat(result.validLines().get(1).getLineNumber()).isEqualTo(3);
+        assertThat(result.validLines().get(1).getOffset()).isEqualTo(secondLine + 96);
+        assertThat(result.totalLines()).isEqualTo(3);
+        assertThat(result.endOffset()).isEqualTo(Files.size(file));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar nome e id do primeiro registro de cada usuário")
+    void shouldReuseNameAndIdFromFirstLineOfEachUser() throws IOException {
+        String renamed = VALID_LINE.substring(0, 10) + "Other Name".repeat(4) + "     ";
+        String otherUser = "0000000071" + VALID_LINE.substring(10);
+        MultipartFile file =
+                createFile(
+                        String.join(
+                                "\n",
+                                VALID_LINE,
+                                otherUser,
+                                renamed + VALID_LINE.substring(55),
+                                VALID_LINE));
+
+        FileParserService.ParseResult result = service.parse(file);
+
+        ParsedLine first = result.validLines().get(0);
+        assertThat(result.validLines())
+                .extracting(ParsedLine::getUserName)
+                .containsExactly(
+                        "Palmer Prosacco", "Palmer Prosacco", "Palmer Prosacco", "Palmer Prosacco");
+        assertThat(result.validLines().get(2).getUserName()).isSameAs(first.getUserName());
+        assertThat(result.validLines().get(3).getUserId()).isSameAs(first.getUserId());
+        assertThat(result.validLines().get(1).getUserId()).isEqualTo(71L);
+    }
+
+    @Test
+    @DisplayName("Deve reler apenas as linhas válidas entre o offset e o limite informado")
+    void shouldReplayValidLinesUpToLimit(@TempDir Path dir) throws IOException {
+        String lower = "0000000069" + VALID_LINE.substring(10);
+        String higher = "0000000071" + VALID_LINE.substring(10);
+        Path file = dir.resolve("orders.txt");
+        Files.writeString(file, String.join("\n", VALID_LINE, lower, "INVALID", higher, lower));
+        List<ParsedLine> replayed = new ArrayList<>();
+
+        service.replay(file, 96, 2, 3 * 96 + 8, replayed::add);
+
+        assertThat(replayed)
+                .extracting(ParsedLine::getUserId, ParsedLine::getLineNumber)
+                .containsExactly(tuple(69L, 2), tuple(71L, 4));
+    }
+
     private MultipartFile createFile(String content) throws IOException {
         MultipartFile file = mock(MultipartFile.class);
         when(file.getInputStream()).thenReturn(new ByteArrayInputStream(content.getBytes()));
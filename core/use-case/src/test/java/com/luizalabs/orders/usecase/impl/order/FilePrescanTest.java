@@ -0,0 +1,96 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.luizalabs.orders.domain.exception.InvalidFileFormatException;
+import com.luizalabs.orders.usecase.config.IngestProperties;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+@DisplayName("FilePrescan - Testes Unitários")
+class FilePrescanTest {
+
+    private static final String VALID_LINE =
+            "0000000070                              Palmer"
+                    + " Prosacco0000000753000000000300000018367420210308";
+
+    private IngestProperties properties;
+    private FilePrescan prescan;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IngestProperties();
+        properties.getPrescan().setWindowSize(DataSize.ofBytes(1024));
+        properties.getPrescan().setLinesPerWindow(5);
+        properties.getPrescan().setMinSampledLines(5);
+        prescan = new FilePrescan(properties);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar arquivo com layout correto")
+    void shouldAcceptValidLayout() throws IOException {
+        MultipartFile file = createFile((VALID_LINE + "\n").repeat(100));
+
+        assertThatCode(() -> prescan.check(file)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivo com layout diferente do esperado")
+    void shouldRejectWrongLayout() throws IOException {
+        MultipartFile file = createFile((VALID_LINE.substring(5) + "\n").repeat(100));
+
+        assertThatThrownBy(() -> prescan.check(file))
+                .isInstanceOf(InvalidFileFormatException.class)
+                .hasMessageContaining("15 de 15 linhas amostradas")
+                .hasMessageContaining("INVALID_LENGTH=15");
+    }
+
+    @Test
+    @DisplayName("Deve amostrar o fim do arquivo além do início")
+    void shouldSampleEndOfFile() throws IOException {
+        String content = (VALID_LINE + "\n").repeat(9) + "x".repeat(VALID_LINE.length()) + "\n";
+        properties.getPrescan().setWindowSize(DataSize.ofBytes(100));
+        properties.getPrescan().setLinesPerWindow(1);
+        properties.getPrescan().setMinSampledLines(1);
+        properties.getPrescan().setMaxErrorRate(0.3);
+
+        assertThatThrownBy(() -> prescan.check(createFile(content)))
+                .isInstanceOf(InvalidFileFormatException.class)
+                .hasMessageContaining("1 de 3 linhas amostradas");
+    }
+
+    @Test
+    @DisplayName("Deve aceitar arquivo com erros abaixo do limite")
+    void shouldAcceptErrorsBelowThreshold() throws IOException {
+        MultipartFile file = createFile(VALID_LINE + "\ninvalid\n" + VALID_LINE + "\n");
+        properties.getPrescan().setMinSampledLines(1);
+
+        assertThatCode(() -> prescan.check(file)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Não deve ler o arquivo quando desabilitado")
+    void shouldSkipWhenDisabled() throws IOException {
+        properties.getPrescan().setEnabled(false);
+        MultipartFile file = mock(MultipartFile.class);
+
+        prescan.check(file);
+
+        verify(file, never()).getInputStream();
+    }
+
+    private MultipartFile createFile(String content) throws IOException {
+        byte[] bytes = content.getBytes();
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(bytes));
+        when(file.getOriginalFilename()).thenReturn("test.txt");
+        when(file.getSize()).thenReturn((long) bytes.length);
+        return file;
+    }
+}
@@ -0,0 +1,116 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import static org.mockito.Mockito.*;
+
+import com.luizalabs.orders.domain.dto.DailyOrderStats;
+import com.luizalabs.orders.domain.dto.ErrorSummary;
+import com.luizalabs.orders.domain.entity.User;
+import com.luizalabs.orders.domain.enums.ProcessingStatus;
+import com.luizalabs.orders.usecase.impl.order.IngestBatchWriter.LineCounts;
+import com.luizalabs.orders.usecase.port.data.DailyOrderStatsPort;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.ResumePoint;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IngestBatchWriter - Testes Unitários")
+class IngestBatchWriterTest {
+
+    @Mock private DataAggregatorService aggregator;
+
+    @Mock private OrderDataPort orderData;
+
+    @Mock private DailyOrderStatsPort statsData;
+
+    @Mock private FileProcessingLogPort logData;
+
+    @Mock private OrderIdIndex orderIndex;
+
+    @Mock private IngestLease lease;
+
+    private IngestBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer =
+                new IngestBatchWriter(
+                        aggregator, orderData, statsData, logData, orderIndex, lease);
+    }
+
+    @Test
+    @DisplayName("Deve gravar lote, aplicar estatísticas e registrar progresso")
+    void shouldCommitBatchWithStatsAndProgress() {
+        User first = User.builder().userId(1L).name("Test").build();
+        User second = User.builder().userId(2L).name("Other").build();
+        User previous = User.builder().userId(1L).name("Test").build();
+        DailyOrderStats delta =
+                DailyOrderStats.builder()
+                        .date(LocalDate.of(2021, 3, 8))
+                        .orderCount(1L)
+                        .productCount(1L)
+                        .revenueCents(10000L)
+                        .build();
+
+        when(orderData.lockByUserIds(List.of(1L, 2L))).thenReturn(List.of(previous));
+        when(aggregator.dailyDelta(List.of(first, second), List.of(previous)))
+                .thenReturn(List.of(delta));
+
+        when(lease.nodeId()).thenReturn("node-a");
+        ResumePoint resumePoint = new ResumePoint(950L, 11);
+
+        writer.commit(5L, List.of(first, second), 12, resumePoint);
+
+        InOrder inOrder = inOrder(orderData, orderIndex, statsData, logData);
+        inOrder.verify(orderData).lockByUserIds(List.of(1L, 2L));
+        inOrder.verify(orderData).saveAll(List.of(first, second));
+        inOrder.verify(orderIndex).addAll(List.of(first, second));
+        inOrder.verify(statsData).applyDeltas(List.of(delta));
+        inOrder.verify(logData).updateProgress(5L, "node-a", 12, 2L, resumePoint);
+        verify(orderData, never()).advanceVersion();
+    }
+
+    @Test
+    @DisplayName("Deve gravar as contagens parciais junto com o checkpoint do lote")
+    void shouldStoreLineCountsWithBatchCheckpoint() {
+        User user = User.builder().userId(3L).name("Test").build();
+        ErrorSummary summary = ErrorSummary.builder().totalErrors(2).build();
+        ResumePoint resumePoint = new ResumePoint(950L, 11);
+
+        when(lease.nodeId()).thenReturn("node-a");
+
+        writer.commit(5L, List.of(user), 4, resumePoint, new LineCounts(10, 8, 2, summary));
+
+        InOrder inOrder = inOrder(logData);
+        inOrder.verify(logData).updateLog(5L, ProcessingStatus.PROCESSING, 10, 8, 2, summary);
+        inOrder.verify(logData).updateProgress(5L, "node-a", 4, 3L, resumePoint);
+    }
+
+    @Test
+    @DisplayName("Deve voltar o checkpoint sem gravar usuários")
+    void shouldRewindCheckpointWithoutWritingUsers() {
+        when(lease.nodeId()).thenReturn("node-a");
+
+        writer.rewind(5L, 0, null, ResumePoint.START);
+
+        verify(logData).updateProgress(5L, "node-a", 0, null, ResumePoint.START);
+        verifyNoInteractions(orderData, statsData, orderIndex);
+    }
+
+    @Test
+    @DisplayName("Deve avançar a versão dos dados uma única vez ao publicar o arquivo")
+    void shouldAdvanceVersionOnceOnPublish() {
+        writer.publish(5L);
+
+        verify(orderData).advanceVersion();
+        verifyNoMoreInteractions(orderData, statsData, logData, orderIndex);
+    }
+}
@@ -0,0 +1,67 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.luizalabs.orders.usecase.config.IngestProperties;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IngestLease - Testes Unitários")
+class IngestLeaseTest {
+
+    @Mock private FileProcessingLogPort logData;
+
+    private IngestLease lease;
+
+    @BeforeEach
+    void setUp() {
+        IngestProperties properties = new IngestProperties();
+        properties.getRecovery().setNodeId("node-a");
+        properties.getRecovery().setLeaseDuration(Duration.ofMinutes(3));
+        lease = new IngestLease(logData, properties);
+    }
+
+    @Test
+    @DisplayName("Deve manter o lease apenas quando o banco confirma a posse")
+    void shouldHoldLeaseOnlyWhenClaimed() {
+        when(logData.claim(7L, "node-a", Duration.ofMinutes(3))).thenReturn(true);
+        when(logData.claim(8L, "node-a", Duration.ofMinutes(3))).thenReturn(false);
+
+        assertThat(lease.acquire(7L)).isTrue();
+        assertThat(lease.acquire(8L)).isFalse();
+
+        assertThat(lease.isHeld(7L)).isTrue();
+        assertThat(lease.isHeld(8L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve renovar apenas os leases mantidos por este nó")
+    void shouldRenewHeldLeases() {
+        lease.hold(7L);
+        lease.hold(9L);
+        lease.release(9L);
+        when(logData.renewLeases("node-a", List.of(7L))).thenReturn(1);
+
+        lease.renew();
+
+        verify(logData).releaseLease(9L, "node-a");
+        verify(logData).renewLeases("node-a", List.of(7L));
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o banco quando nenhum lease é mantido")
+    void shouldNotRenewWithoutHeldLeases() {
+        lease.renew();
+
+        verifyNoInteractions(logData);
+    }
+}
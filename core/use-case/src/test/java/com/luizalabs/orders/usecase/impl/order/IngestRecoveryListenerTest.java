@@ -0,0 +1,129 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.luizalabs.orders.domain.enums.ProcessingStatus;
+import com.luizalabs.orders.usecase.port.ProcessFileUseCase;
+import com.luizalabs.orders.usecase.port.UploadAdmission;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.IngestCheckpoint;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.ResumePoint;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IngestRecoveryListener - Testes Unitários")
+class IngestRecoveryListenerTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @Mock private FileProcessingLogPort logData;
+
+    @Mock private ProcessFileUseCase processFileUseCase;
+
+    @Mock private UploadAdmission uploadAdmission;
+
+    @Mock private IngestSpool spool;
+
+    @Mock private IngestLease lease;
+
+    private IngestRecoveryListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener =
+                new IngestRecoveryListener(
+                        logData, processFileUseCase, uploadAdmission, spool, lease);
+        lenient().when(lease.nodeId()).thenReturn("node-a");
+        lenient().when(lease.duration()).thenReturn(LEASE);
+    }
+
+    @Test
+    @DisplayName("Deve marcar como FAILED o processamento interrompido sem arquivo de spool")
+    void shouldFailInterruptedLogWithoutSpool() {
+        when(logData.findInterrupted("node-a", LEASE))
+                .thenReturn(List.of(checkpoint("/spool/7.txt")));
+        when(lease.acquire(7L)).thenReturn(true);
+        when(spool.exists("/spool/7.txt")).thenReturn(false);
+
+        listener.recoverInterrupted();
+
+        verify(logData).markFailed(eq(7L), contains("spool ausente"));
+        verify(lease).release(7L);
+        verifyNoInteractions(processFileUseCase, uploadAdmission);
+    }
+
+    @Test
+    @DisplayName("Deve marcar como FAILED o processamento interrompido antes de gravar o spool")
+    void shouldFailInterruptedLogThatWasNeverSpooled() {
+        when(logData.findInterrupted("node-a", LEASE)).thenReturn(List.of(checkpoint(null)));
+        when(lease.acquire(7L)).thenReturn(true);
+
+        listener.recoverInterrupted();
+
+        verify(logData).markFailed(eq(7L), contains("antes de gravar o spool"));
+        verify(lease).release(7L);
+        verifyNoInteractions(processFileUseCase, uploadAdmission, spool);
+    }
+
+    @Test
+    @DisplayName("Não deve tocar logs cujo lease foi renovado por outro nó")
+    void shouldSkipLogClaimedByAnotherNode() {
+        when(logData.findInterrupted("node-a", LEASE))
+                .thenReturn(List.of(checkpoint("/spool/7.txt")));
+        when(lease.acquire(7L)).thenReturn(false);
+
+        listener.recoverInterrupted();
+
+        verify(logData, never()).markFailed(anyLong(), anyString());
+        verify(lease, never()).release(anyLong());
+        verifyNoInteractions(processFileUseCase, uploadAdmission, spool);
+    }
+
+    @Test
+    @DisplayName("Não deve recuperar logs que este nó ainda está processando")
+    void shouldSkipLogStillProcessedByThisNode() {
+        when(logData.findInterrupted("node-a", LEASE))
+                .thenReturn(List.of(checkpoint("/spool/7.txt")));
+        when(lease.isHeld(7L)).thenReturn(true);
+
+        listener.recoverInterrupted();
+
+        verify(lease, never()).acquire(anyLong());
+        verify(logData, never()).markFailed(anyLong(), anyString());
+        verifyNoInteractions(processFileUseCase, uploadAdmission, spool);
+    }
+
+    @Test
+    @DisplayName("Não deve alterar logs quando não há processamentos interrompidos")
+    void shouldDoNothingWithoutInterruptedLogs() {
+        when(logData.findInterrupted("node-a", LEASE)).thenReturn(List.of());
+
+        listener.recoverInterrupted();
+
+        verify(logData, never()).markFailed(anyLong(), anyString());
+        verifyNoInteractions(processFileUseCase, uploadAdmission, spool);
+    }
+
+    private IngestCheckpoint checkpoint(String spoolPath) {
+        return new IngestCheckpoint(
+                7L,
+                "test.txt",
+                ProcessingStatus.PROCESSING,
+                4,
+                4,
+                0,
+                null,
+                2,
+                2L,
+                ResumePoint.START,
+                spoolPath);
+    }
+}
@@ -0,0 +1,146 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.luizalabs.orders.common.util.LineErrorCode;
+import com.luizalabs.orders.domain.dto.ErrorSummary;
+import com.luizalabs.orders.usecase.config.IngestProperties;
+import com.luizalabs.orders.usecase.port.data.LineErrorPort.StoredError;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LineErrorCollector - Testes Unitários")
+class LineErrorCollectorTest {
+
+    private IngestProperties.Errors config;
+
+    @BeforeEach
+    void setUp() {
+        config = new IngestProperties.Errors();
+        config.setMaxDetailed(2);
+        config.setLogLimit(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter apenas os primeiros erros detalhados e contar todos")
+    void shouldKeepFirstErrorsAndCountAll() {
+        LineErrorCollector collector = new LineErrorCollector(config, null);
+
+        collector.add(1, "abc", LineErrorCode.INVALID_LENGTH);
+        collector.add(2, "x".repeat(95), LineErrorCode.INVALID_VALUE);
+        collector.add(3, "x".repeat(95), LineErrorCode.INVALID_VALUE);
+        collector.add(4, "x".repeat(95), LineErrorCode.INVALID_DATE);
+        collector.finish();
+
+        assertThat(collector.count()).isEqualTo(4);
+        assertThat(collector.details()).hasSize(2);
+        assertThat(collector.details().get(0).getLineNumber()).isEqualTo(1);
+        assertThat(collector.details().get(0).getErrorCode()).isEqualTo("INVALID_LENGTH");
+        assertThat(collector.details().get(1).getLineContent()).hasSize(53);
+
+        ErrorSummary summary = collector.summary();
+        assertThat(summary.getTotalErrors()).isEqualTo(4);
+        assertThat(summary.getDetailedErrors()).isEqualTo(2);
+        assertThat(summary.getTruncated()).isTrue();
+        assertThat(summary.getByCode())
+                .containsExactly(
+                        Map.entry("INVALID_LENGTH", 1),
+                        Map.entry("INVALID_VALUE", 2),
+                        Map.entry("INVALID_DATE", 1));
+        assertThat(summary.getByField())
+                .containsExactly(
+                        Map.entry("line", 1), Map.entry("value", 2), Map.entry("date", 1));
+    }
+
+    @Test
+    @DisplayName("Deve despejar todos os erros em lotes quando houver destino")
+    void shouldSpillAllErrorsInBatches() {
+        config.setBatchSize(3);
+        List<List<StoredError>> spilled = new ArrayList<>();
+        LineErrorCollector collector = new LineErrorCollector(config, spilled::add);
+
+        for (int line = 1; line <= 7; line++) {
+            collector.add(line, "abc", LineErrorCode.INVALID_LENGTH);
+        }
+        collector.finish();
+
+        assertThat(spilled).extracting(List::size).containsExactly(3, 3, 1);
+        assertThat(spilled.get(2).get(0).lineNumber()).isEqualTo(7);
+        assertThat(collector.details()).hasSize(2);
+        assertThat(collector.summary().getDetailedErrors()).isEqualTo(7);
+        assertThat(collector.summary().getTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve despejar apenas código e tamanho além dos primeiros erros detalhados")
+    void shouldSpillContentOnlyForFirstDetailedErrors() {
+        List<List<StoredError>> spilled = new ArrayList<>();
+        LineErrorCollector collector = new LineErrorCollector(config, spilled::add);
+
+        for (int line = 1; line <= 3; line++) {
+            collector.add(line, "abc", LineErrorCode.INVALID_LENGTH);
+        }
+        collector.finish();
+
+        assertThat(spilled.get(0))
+                .containsExactly(
+                        new StoredError(1, LineErrorCode.INVALID_LENGTH, 3, "abc"),
+                        new StoredError(2, LineErrorCode.INVALID_LENGTH, 3, "abc"),
+                        new StoredError(3, LineErrorCode.INVALID_LENGTH, 3, null));
+    }
+
+    @Test
+    @DisplayName("Deve despejar o conteúdo de todas as linhas quando habilitado")
+    void shouldSpillContentOfAllLinesWhenEnabled() {
+        config.setStoreAllContent(true);
+        List<List<StoredError>> spilled = new ArrayList<>();
+        LineErrorCollector collector = new LineErrorCollector(config, spilled::add);
+
+        for (int line = 1; line <= 3; line++) {
+            collector.add(line, "x".repeat(95), LineErrorCode.INVALID_DATE);
+        }
+        collector.finish();
+
+        assertThat(spilled.get(0))
+                .extracting(StoredError::lineContent)
+                .containsOnly("x".repeat(50) + "...");
+    }
+
+    @Test
+    @DisplayName("Deve retornar resumo vazio quando não há erros")
+    void shouldReturnEmptySummaryWithoutErrors() {
+        LineErrorCollector collector = new LineErrorCollector(config, null);
+        collector.finish();
+
+        ErrorSummary summary = collector.summary();
+
+        assertThat(summary.getTotalErrors()).isZero();
+        assertThat(summary.getTruncated()).isFalse();
+        assertThat(summary.getByCode()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve continuar a contagem a partir do resumo gravado no checkpoint")
+    void shouldContinueCountingFromStoredSummary() {
+        List<List<StoredError>> spilled = new ArrayList<>();
+        LineErrorCollector collector = new LineErrorCollector(config, spilled::add);
+        collector.resumeFrom(
+                ErrorSummary.builder()
+                        .totalErrors(3)
+                        .byCode(Map.of("INVALID_LENGTH", 2, "INVALID_DATE", 1))
+                        .build());
+
+        collector.add(9, "abc", LineErrorCode.INVALID_LENGTH);
+        collector.flush();
+
+        assertThat(spilled).hasSize(1);
+        assertThat(collector.count()).isEqualTo(4);
+        assertThat(collector.summary().getDetailedErrors()).isEqualTo(4);
+        assertThat(collector.summary().getByCode())
+                .containsExactly(Map.entry("INVALID_LENGTH", 3), Map.entry("INVALID_DATE", 1));
+    }
+}
@@ -0,0 +1,110 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.luizalabs.orders.domain.entity.Order;
+import com.luizalabs.orders.domain.entity.User;
+import com.luizalabs.orders.usecase.config.OrderIndexProperties;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort.OrderKey;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderIdIndex - Testes Unitários")
+class OrderIdIndexTest {
+
+    @Mock private OrderDataPort orderData;
+
+    private OrderIndexProperties properties;
+
+    private OrderIdIndex index;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OrderIndexProperties();
+        properties.setEnabled(true);
+        properties.setExpectedOrders(4);
+        properties.setLoadBatchSize(2);
+        index = new OrderIdIndex(orderData, properties);
+    }
+
+    @Test
+    @DisplayName("Deve carregar o índice em lotes de usuários a partir do banco")
+    void shouldLoadIndexInUserBatches() {
+        when(orderData.findOrderKeys(Long.MIN_VALUE, 2))
+                .thenReturn(
+                        List.of(
+                                new OrderKey(1L, 10L),
+                                new OrderKey(1L, 11L),
+                                new OrderKey(2L, null)));
+        when(orderData.findOrderKeys(2L, 2)).thenReturn(List.of(new OrderKey(3L, 30L)));
+        when(orderData.findOrderKeys(3L, 2)).thenReturn(List.of());
+
+        assertThat(index.lookup(10L)).isEqualTo(OrderIdIndex.UNKNOWN);
+
+        index.load();
+
+        assertThat(index.lookup(10L)).isEqualTo(1L);
+        assertThat(index.lookup(11L)).isEqualTo(1L);
+        assertThat(index.lookup(30L)).isEqualTo(3L);
+        assertThat(index.lookup(99L)).isEqualTo(OrderIdIndex.MISSING);
+    }
+
+    @Test
+    @DisplayName("Deve incluir pedidos gravados e crescer além da capacidade esperada")
+    void shouldAddSavedOrdersAndGrowBeyondExpectedCapacity() {
+        when(orderData.findOrderKeys(anyLong(), anyInt())).thenReturn(List.of());
+        index.load();
+
+        List<User> users = new ArrayList<>();
+        for (long userId = 1; userId <= 100; userId++) {
+            users.add(createUser(userId, userId * 1000, userId * 1000 + 1));
+        }
+        index.addAll(users);
+
+        for (long userId = 1; userId <= 100; userId++) {
+            assertThat(index.lookup(userId * 1000)).isEqualTo(userId);
+            assertThat(index.lookup(userId * 1000 + 1)).isEqualTo(userId);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve marcar como desconhecido o order_id compartilhado por usuários")
+    void shouldMarkSharedOrderIdAsUnknown() {
+        when(orderData.findOrderKeys(anyLong(), anyInt())).thenReturn(List.of());
+        index.load();
+
+        index.addAll(List.of(createUser(1L, 10L), createUser(1L, 10L)));
+        assertThat(index.lookup(10L)).isEqualTo(1L);
+
+        index.addAll(List.of(createUser(2L, 10L)));
+        assertThat(index.lookup(10L)).isEqualTo(OrderIdIndex.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("Deve manter o índice indisponível quando a carga falha")
+    void shouldStayUnavailableWhenLoadFails() {
+        when(orderData.findOrderKeys(anyLong(), anyInt()))
+                .thenThrow(new RuntimeException("Conexão recusada"));
+
+        index.load();
+
+        assertThat(index.lookup(10L)).isEqualTo(OrderIdIndex.UNKNOWN);
+    }
+
+    private User createUser(Long userId, Long... orderIds) {
+        List<Order> orders = new ArrayList<>();
+        for (Long orderId : orderIds) {
+            orders.add(Order.builder().orderId(orderId).products(List.of()).build());
+        }
+        return User.builder().userId(userId).name("User " + userId).orders(orders).build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.luizalabs.orders.domain.dto.ParsedLine;
+import com.luizalabs.orders.domain.entity.User;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.ResumePoint;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("ParsedLineRuns - Testes Unitários")
+class ParsedLineRunsTest {
+
+    private static final long LINE_BYTES = 96;
+
+    private final DataAggregatorService aggregator = new DataAggregatorService();
+
+    @TempDir private Path dir;
+
+    @Test
+    @DisplayName("Deve agregar em disco com o mesmo resultado da agregação em memória")
+    void shouldAggregateFromRunsLikeInMemory() {
+        List<ParsedLine> lines = lines(40);
+        List<User> aggregated = new ArrayList<>();
+
+        try (ParsedLineRuns runs = new ParsedLineRuns(dir, "1-", 7)) {
+            lines.forEach(runs);
+            Iterator<List<ParsedLine>> users = runs.users();
+            while (users.hasNext()) {
+                aggregated.addAll(aggregator.aggregate(users.next()));
+            }
+
+            assertThat(runs.runCount()).isEqualTo(6);
+        }
+
+        assertThat(aggregated).isEqualTo(aggregator.aggregate(lines));
+    }
+
+    @Test
+    @DisplayName("Deve informar o menor offset ainda necessário após cada usuário")
+    void shouldReportSmallestPendingOffsetAfterEachUser() {
+        List<ParsedLine> lines = lines(25);
+        ResumePoint end = new ResumePoint(lines.size() * LINE_BYTES, lines.size() + 1);
+
+        try (ParsedLineRuns runs = new ParsedLineRuns(dir, "1-", 4)) {
+            lines.forEach(runs);
+            Iterator<List<ParsedLine>> users = runs.users();
+
+            while (users.hasNext()) {
+                long userId = users.next().get(0).getUserId();
+                ParsedLine expected =
+                        lines.stream()
+                                .filter(line -> line.getUserId() > userId)
+                                .findFirst()
+                                .orElse(null);
+
+                assertThat(runs.resumePoint(end))
+                        .isEqualTo(
+                                expected != null
+                                        ? new ResumePoint(
+                                                expected.getOffset(), expected.getLineNumber())
+                                        : end);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve remover os arquivos temporários ao fechar")
+    void shouldDeleteRunFilesOnClose() throws IOException {
+        ParsedLineRuns runs = new ParsedLineRuns(dir, "1-", 2);
+        lines(5).forEach(runs);
+        runs.users().next();
+
+        runs.close();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve usar disco apenas quando o arquivo excede o orçamento de memória")
+    void shouldExceedBudgetOnlyForLargeFiles() {
+        DataSize budget = DataSize.ofMegabytes(1);
+
+        assertThat(ParsedLineRuns.exceeds(LINE_BYTES * 4096, budget)).isFalse();
+        assertThat(ParsedLineRuns.exceeds(LINE_BYTES * 4097, budget)).isTrue();
+        assertThat(ParsedLineRuns.capacity(budget)).isEqualTo(4096);
+    }
+
+    private List<ParsedLine> lines(int count) {
+        List<ParsedLine> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long userId = (i * 7L) % 9;
+            lines.add(
+                    ParsedLine.builder()
+                            .userId(userId)
+                            .userName("User " + userId + (i > 9 ? " (renomeado)" : ""))
+                            .orderId(100 + (i * 3L) % 5)
+                            .productId((long) i)
+                            .valueCents(1000L + i)
+                            .date(LocalDate.of(2021, 3, 1 + i % 3))
+                            .lineNumber(i + 1)
+                            .offset(i * LINE_BYTES)
+                            .build());
+        }
+        return lines;
+    }
+}
@@ -4,63 +4,99 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import com.luizalabs.orders.common.util.LineErrorCode;
+import com.luizalabs.orders.domain.dto.ErrorSummary;
 import com.luizalabs.orders.domain.dto.LineError;
 import com.luizalabs.orders.domain.dto.ParsedLine;
 import com.luizalabs.orders.domain.dto.ProcessingResult;
-import com.luizalabs.orders.domain.dto.UserOrderResponseDTO;
 import com.luizalabs.orders.domain.entity.User;
 import com.luizalabs.orders.domain.enums.ProcessingStatus;
 import com.luizalabs.orders.domain.exception.EmptyFileException;
+import com.luizalabs.orders.domain.exception.FileProcessingException;
+import com.luizalabs.orders.domain.exception.InvalidFileFormatException;
+import com.luizalabs.orders.domain.exception.InvalidProcessingStateException;
+import com.luizalabs.orders.usecase.config.IngestProperties;
 import com.luizalabs.orders.usecase.impl.order.FileParserService.ParseResult;
 import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort;
-import com.luizalabs.orders.usecase.port.data.OrderDataPort;
-import java.math.BigDecimal;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.IngestCheckpoint;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.ResumePoint;
+import com.luizalabs.orders.usecase.port.data.LineErrorPort;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProcessFileUseCaseImpl - Testes Unitários")
 class ProcessFileUseCaseImplTest {
 
+    private static final Path SPOOLED = Path.of("spool", "1.dat");
+    private static final long LINE_BYTES = 96;
+
+    @Mock private FilePrescan prescan;
+
     @Mock private FileParserService parser;
 
     @Mock private DataAggregatorService aggregator;
 
-    @Mock private OrderDataPort orderData;
+    @Mock private IngestBatchWriter batchWriter;
+
+    @Mock private IngestSpool spool;
 
     @Mock private FileProcessingLogPort logData;
 
+    @Mock private LineErrorPort lineErrorData;
+
+    @Mock private IngestLease lease;
+
     @Mock private MultipartFile file;
 
+    private IngestProperties properties;
+
     private ProcessFileUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new ProcessFileUseCaseImpl(parser, aggregator, orderData, logData);
+        properties = new IngestProperties();
+        useCase =
+                new ProcessFileUseCaseImpl(
+                        prescan,
+                        parser,
+                        aggregator,
+                        batchWriter,
+                        spool,
+                        lease,
+                        logData,
+                        lineErrorData,
+                        properties);
     }
 
     @Test
     @DisplayName("Deve processar arquivo com sucesso (sem erros)")
     void shouldProcessFileSuccessfully() {
         Long logId = 1L;
-        ParsedLine parsedLine = createParsedLine();
-        User user = mock(User.class);
-        UserOrderResponseDTO responseDTO = mock(UserOrderResponseDTO.class);
+        ParsedLine parsedLine = createParsedLine(1L, 1);
+        User user = createUser(1L);
 
-        ParseResult parseResult = new ParseResult(List.of(parsedLine), List.of(), 1);
+        ParseResult parseResult = parseResult(List.of(parsedLine), List.of(), 1, LINE_BYTES);
 
-        when(file.isEmpty()).thenReturn(false);
-        when(file.getOriginalFilename()).thenReturn("test.txt");
-
-        when(logData.createLog(anyString(), any())).thenReturn(logId);
-        when(parser.parse(file)).thenReturn(parseResult);
+        mockUpload(logId);
+        when(parser.parse(eq(SPOOLED), eq(0L), eq(1), any())).thenReturn(parseResult);
         when(aggregator.aggregate(anyList())).thenReturn(List.of(user));
 
         ProcessingResult result = useCase.execute(file);
@@ -73,16 +109,22 @@ class ProcessFileUseCaseImplTest {
         assertThat(result.getHasErrors()).isFalse();
         assertThat(result.getData()).isNotEmpty();
 
-        verify(orderData).saveAll(anyList());
+        verify(batchWriter).commit(logId, List.of(user), 1, new ResumePoint(LINE_BYTES, 2));
+        verify(batchWriter).publish(logId);
         verify(logData)
-                .updateLog(eq(logId), eq(ProcessingStatus.SUCCESS), eq(1), eq(1), eq(0), anyList());
+                .updateLog(eq(logId), eq(ProcessingStatus.SUCCESS), eq(1), eq(1), eq(0), any());
+        verify(logData).updateSpoolPath(logId, SPOOLED.toString());
+        verify(spool).delete(SPOOLED);
+        verify(logData).updateSpoolPath(logId, null);
+        verify(lease).hold(logId);
+        verify(lease).release(logId);
     }
 
     @Test
     @DisplayName("Deve processar arquivo com sucesso parcial (com erros)")
     void shouldProcessFilePartially() {
         Long logId = 1L;
-        ParsedLine parsedLine = createParsedLine();
+        ParsedLine parsedLine = createParsedLine(1L, 1);
         LineError error =
                 LineError.builder()
                         .lineNumber(2)
@@ -90,14 +132,12 @@ class ProcessFileUseCaseImplTest {
                         .errorMessage("Erro")
                         .build();
 
-        ParseResult parseResult = new ParseResult(List.of(parsedLine), List.of(error), 2);
-
-        when(file.isEmpty()).thenReturn(false);
-        when(file.getOriginalFilename()).thenReturn("test.txt");
+        ParseResult parseResult =
+                parseResult(List.of(parsedLine), List.of(error), 2, LINE_BYTES + 8);
 
-        when(logData.createLog(anyString(), any())).thenReturn(logId);
-        when(parser.parse(file)).thenReturn(parseResult);
-        when(aggregator.aggregate(anyList())).thenReturn(List.of(mock(User.class)));
+        mockUpload(logId);
+        when(parser.parse(eq(SPOOLED), eq(0L), eq(1), any())).thenReturn(parseResult);
+        when(aggregator.aggregate(anyList())).thenReturn(List.of(createUser(1L)));
 
         ProcessingResult result = useCase.execute(file);
 
@@ -106,6 +146,14 @@ class ProcessFileUseCaseImplTest {
         assertThat(result.getErrorLines()).isEqualTo(1);
         assertThat(result.getHasErrors()).isTrue();
 
+        verify(logData)
+                .updateLog(
+                        eq(logId),
+                        eq(ProcessingStatus.PROCESSING),
+                        eq(2),
+                        eq(1),
+                        eq(1),
+                        any(ErrorSummary.class));
         verify(logData)
                 .updateLog(
                         eq(logId),
@@ -113,7 +161,7 @@ class ProcessFileUseCaseImplTest {
                         eq(2),
                         eq(1),
                         eq(1),
-                        anyList());
+                        any());
     }
 
     @Test
@@ -126,13 +174,10 @@ class ProcessFileUseCaseImplTest {
                         .lineContent("invalid")
                         .errorMessage("Erro")
                         .build();
-        ParseResult parseResult = new ParseResult(List.of(), List.of(error), 1);
+        ParseResult parseResult = parseResult(List.of(), List.of(error), 1, 8);
 
-        when(file.isEmpty()).thenReturn(false);
-        when(file.getOriginalFilename()).thenReturn("test.txt");
-
-        when(logData.createLog(anyString(), any())).thenReturn(logId);
-        when(parser.parse(file)).thenReturn(parseResult);
+        mockUpload(logId);
+        when(parser.parse(eq(SPOOLED), eq(0L), eq(1), any())).thenReturn(parseResult);
 
         ProcessingResult result = useCase.execute(file);
 
@@ -140,9 +185,34 @@ class ProcessFileUseCaseImplTest {
         assertThat(result.getProcessedLines()).isEqualTo(0);
         assertThat(result.getData()).isEmpty();
 
-        verify(orderData, never()).saveAll(anyList());
+        verify(batchWriter, never()).commit(anyLong(), anyList(), anyInt(), any());
         verify(logData)
-                .updateLog(eq(logId), eq(ProcessingStatus.FAILED), eq(1), eq(0), eq(1), anyList());
+                .updateLog(eq(logId), eq(ProcessingStatus.FAILED), eq(1), eq(0), eq(1), any());
+    }
+
+    @Test
+    @DisplayName("Deve gravar todos os erros na tabela de erros de linha em lotes")
+    void shouldStoreAllErrorsInLineErrorsTable() {
+        properties.getErrors().setBatchSize(2);
+
+        mockUpload(1L);
+        when(parser.parse(eq(SPOOLED), eq(0L), eq(1), any()))
+                .thenAnswer(
+                        invocation -> {
+                            LineErrorCollector errors = invocation.getArgument(3);
+                            for (int line = 1; line <= 3; line++) {
+                                errors.add(line, "invalid", LineErrorCode.INVALID_LENGTH);
+                            }
+                            errors.finish();
+                            return parseResult(List.of(), errors.details(), 3, 24);
+                        });
+
+        useCase.execute(file);
+
+        InOrder inOrder = inOrder(lineErrorData);
+        inOrder.verify(lineErrorData).deleteByLogId(1L);
+        inOrder.verify(lineErrorData).saveAll(eq(1L), argThat(errors -> errors.size() == 2));
+        inOrder.verify(lineErrorData).saveAll(eq(1L), argThat(errors -> errors.size() == 1));
     }
 
     @Test
@@ -154,17 +224,512 @@ class ProcessFileUseCaseImplTest {
         assertThatThrownBy(() -> useCase.execute(invalidFile))
                 .isInstanceOf(EmptyFileException.class);
 
-        verify(parser, never()).parse(any());
+        verify(parser, never()).parse(any(Path.class), anyLong(), anyInt(), any());
+        verify(spool, never()).store(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivo na pré-validação sem criar log")
+    void shouldRejectFileOnPrescanWithoutCreatingLog() {
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("test.txt");
+        doThrow(new InvalidFileFormatException("Layout do arquivo inválido"))
+                .when(prescan)
+                .check(file);
+
+        assertThatThrownBy(() -> useCase.execute(file))
+                .isInstanceOf(InvalidFileFormatException.class);
+
+        verify(logData, never()).createLog(anyString(), any(), any());
+        verify(spool, never()).store(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Deve gravar lotes com o menor offset ainda necessário como checkpoint")
+    void shouldCommitBatchesWithResumeOffsets() {
+        properties.setCommitBatchSize(2);
+        List<ParsedLine> lines =
+                List.of(
+                        createParsedLine(1L, 1),
+                        createParsedLine(3L, 2),
+                        createParsedLine(2L, 3),
+                        createParsedLine(1L, 4));
+        List<User> users = List.of(createUser(1L), createUser(2L), createUser(3L));
+
+        mockUpload(1L);
+        when(parser.parse(eq(SPOOLED), eq(0L), eq(1), any()))
+                .thenReturn(parseResult(lines, List.of(), 4, 4 * LINE_BYTES));
+        when(aggregator.aggregate(lines)).thenReturn(users);
+
+        useCase.execute(file);
+
+        verify(batchWriter).commit(1L, users.subList(0, 2), 2, new ResumePoint(LINE_BYTES, 2));
+        verify(batchWriter).commit(1L, users.subList(2, 3), 3, new ResumePoint(4 * LINE_BYTES, 5));
+    }
+
+    @Test
+    @DisplayName("Deve agregar em disco quando o arquivo excede o orçamento de memória")
+    void shouldAggregateOnDiskWhenFileExceedsHeapBudget(@TempDir Path dir) throws IOException {
+        properties.setCommitBatchSize(2);
+        properties.setSpoolDir(dir.toString());
+        properties.getAggregation().setHeapBudget(DataSize.ofBytes(512));
+        properties.getAggregation().setDetectSorted(false);
+        List<ParsedLine> lines =
+                List.of(
+                        createParsedLine(1L, 1),
+                        createParsedLine(3L, 2),
+                        createParsedLine(2L, 3),
+                        createParsedLine(1L, 4));
+        DataAggregatorService realAggregator = new DataAggregatorService();
+
+        mockUpload(1L);
+        when(spool.size(SPOOLED)).thenReturn(4 * LINE_BYTES);
+        when(parser.parse(eq(SPOOLED), eq(0L), eq(1), any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            Consumer<ParsedLine> sink = invocation.getArgument(4);
+                            lines.forEach(sink);
+                            return new ParseResult(
+                                    List.of(),
+                                    List.of(),
+                                    ErrorSummary.builder().totalErrors(0).build(),
+                                    4,
+                                    4 * LINE_BYTES,
+                                    4);
+                        });
+        when(aggregator.aggregate(anyList()))
+                .thenAnswer(invocation -> realAggregator.aggregate(invocation.getArgument(0)));
+
+        ProcessingResult result = useCase.execute(file);
+
+        List<User> users = realAggregator.aggregate(lines);
+        verify(batchWriter).commit(1L, users.subList(0, 2), 2, new ResumePoint(LINE_BYTES, 2));
+        verify(batchWriter).commit(1L, users.subList(2, 3), 3, new ResumePoint(4 * LINE_BYTES, 5));
+        verify(parser, never()).parse(any(Path.class), anyLong(), anyInt(), any());
+        assertThat(result.getProcessedLines()).isEqualTo(4);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar usuários em fluxo quando o arquivo grande já vem ordenado")
+    void shouldStreamUsersWhenLargeFileIsSortedByUser() {
+        properties.setCommitBatchSize(2);
+        properties.getAggregation().setHeapBudget(DataSize.ofBytes(512));
+        List<ParsedLine> lines =
+                List.of(
+                        createParsedLine(1L, 1),
+                        createParsedLine(1L, 2),
+                        createParsedLine(2L, 3),
+                        createParsedLine(3L, 4));
+        DataAggregatorService realAggregator = new DataAggregatorService();
+
+        mockUpload(1L);
+        when(spool.size(SPOOLED)).thenReturn(4 * LINE_BYTES);
+        when(parser.parse(eq(SPOOLED), eq(0L), eq(1), any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            Consumer<ParsedLine> sink = invocation.getArgument(4);
+                            lines.forEach(sink);
+                            return new ParseResult(
+                                    List.of(),
+                                    List.of(),
+                                    ErrorSummary.builder().totalErrors(0).build(),
+                                    4,
+                                    4 * LINE_BYTES,
+                                    4);
+                        });
+        when(aggregator.aggregate(anyList()))
+                .thenAnswer(invocation -> realAggregator.aggregate(invocation.getArgument(0)));
+
+        ProcessingResult result = useCase.execute(file);
+
+        List<User> users = realAggregator.aggregate(lines);
+        verify(aggregator, times(3)).aggregate(anyList());
+        verify(batchWriter)
+                .commit(
+                        eq(1L),
+                        eq(users.subList(0, 2)),
+                        eq(2),
+                        eq(new ResumePoint(3 * LINE_BYTES, 4)),
+                        argThat(
+                                counts ->
+                                        counts.totalLines() == 3
+                                                && counts.processedLines() == 3));
+        verify(batchWriter)
+                .commit(
+                        eq(1L),
+                        eq(users.subList(2, 3)),
+                        eq(3),
+                        eq(new ResumePoint(4 * LINE_BYTES, 5)),
+                        argThat(
+                                counts ->
+                                        counts.totalLines() == 4
+                                                && counts.processedLines() == 4));
+        verify(parser, never()).parse(any(Path.class), anyLong(), anyInt(), any());
+        verify(parser, never()).replay(any(), anyLong(), anyInt(), anyLong(), any());
+        assertThat(result.getProcessedLines()).isEqualTo(4);
+        assertThat(result.getData()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve voltar à agregação em disco na primeira linha fora de ordem")
+    void shouldFallBackToDiskOnFirstLineOutOfUserOrder(@TempDir Path dir) throws IOException {
+        properties.setCommitBatchSize(1);
+        properties.setSpoolDir(dir.toString());
+        properties.getAggregation().setHeapBudget(DataSize.ofBytes(512));
+        List<ParsedLine> lines =
+                List.of(createParsedLine(1L, 1), createParsedLine(2L, 2), createParsedLine(1L, 3));
+        DataAggregatorService realAggregator = new DataAggregatorService();
+
+        mockUpload(1L);
+        when(spool.size(SPOOLED)).thenReturn(4 * LINE_BYTES);
+        when(parser.parse(eq(SPOOLED), eq(0L), eq(1), any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            Consumer<ParsedLine> sink = invocation.getArgument(4);
+                            lines.forEach(sink);
+                            return new ParseResult(
+                                    List.of(),
+                                    List.of(),
+                                    ErrorSummary.builder().totalErrors(0).build(),
+                                    3,
+                                    3 * LINE_BYTES,
+                                    3);
+                        });
+        doAnswer(
+                        invocation -> {
+                            Consumer<ParsedLine> sink = invocation.getArgument(4);
+                            lines.subList(0, 2).forEach(sink);
+                            return null;
+                        })
+                .when(parser)
+                .replay(eq(SPOOLED), eq(0L), eq(1), eq(2 * LINE_BYTES), any());
+        when(aggregator.aggregate(anyList()))
+                .thenAnswer(invocation -> realAggregator.aggregate(invocation.getArgument(0)));
+
+        ProcessingResult result = useCase.execute(file);
+
+        List<User> users = realAggregator.aggregate(lines);
+        InOrder inOrder = inOrder(batchWriter, parser);
+        inOrder.verify(batchWriter)
+                .commit(eq(1L), anyList(), eq(1), eq(new ResumePoint(LINE_BYTES, 2)), any());
+        inOrder.verify(batchWriter).rewind(1L, 0, null, ResumePoint.START);
+        inOrder.verify(parser).replay(eq(SPOOLED), eq(0L), eq(1), eq(2 * LINE_BYTES), any());
+        inOrder.verify(batchWriter).commit(eq(1L), eq(users.subList(0, 1)), eq(1), any());
+        inOrder.verify(batchWriter).commit(eq(1L), eq(users.subList(1, 2)), eq(2), any());
+        assertThat(result.getProcessedLines()).isEqualTo(3);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retomar checkpoint gravado em fluxo somando as contagens já gravadas")
+    void shouldResumeStreamedCheckpointAddingStoredCounts() {
+        ErrorSummary stored =
+                ErrorSummary.builder()
+                        .totalErrors(1)
+                        .detailedErrors(1)
+                        .truncated(false)
+                        .byCode(Map.of(LineErrorCode.INVALID_LENGTH.name(), 1))
+                        .build();
+        IngestCheckpoint streamed =
+                new IngestCheckpoint(
+                        7L,
+                        "test.txt",
+                        ProcessingStatus.PROCESSING,
+                        3,
+                        2,
+                        1,
+                        stored,
+                        1,
+                        1L,
+                        new ResumePoint(3 * LINE_BYTES, 4),
+                        SPOOLED.toString());
+        List<ParsedLine> tail = List.of(createParsedLine(2L, 4), createParsedLine(3L, 5));
+        DataAggregatorService realAggregator = new DataAggregatorService();
+
+        when(logData.findCheckpoint(7L)).thenReturn(Optional.of(streamed));
+        when(spool.exists(SPOOLED.toString())).thenReturn(true);
+        when(lease.isHeld(7L)).thenReturn(true);
+        when(spool.size(SPOOLED)).thenReturn(5 * LINE_BYTES);
+        when(parser.parse(eq(SPOOLED), eq(3 * LINE_BYTES), eq(4), any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            LineErrorCollector errors = invocation.getArgument(3);
+                            Consumer<ParsedLine> sink = invocation.getArgument(4);
+                            tail.forEach(sink);
+                            errors.finish();
+                            return new ParseResult(
+                                    List.of(),
+                                    errors.details(),
+                                    errors.summary(),
+                                    5,
+                                    5 * LINE_BYTES,
+                                    2);
+                        });
+        when(aggregator.aggregate(anyList()))
+                .thenAnswer(invocation -> realAggregator.aggregate(invocation.getArgument(0)));
+
+        ProcessingResult result = useCase.recover(7L);
+
+        assertThat(result.getTotalLines()).isEqualTo(5);
+        assertThat(result.getProcessedLines()).isEqualTo(4);
+        assertThat(result.getErrorLines()).isEqualTo(1);
+        assertThat(result.getErrorSummary().getByCode())
+                .containsEntry(LineErrorCode.INVALID_LENGTH.name(), 1);
+        verify(lineErrorData, never()).deleteByLogId(anyLong());
+        verify(batchWriter)
+                .commit(
+                        eq(7L),
+                        eq(realAggregator.aggregate(tail)),
+                        eq(3),
+                        eq(new ResumePoint(5 * LINE_BYTES, 6)),
+                        argThat(
+                                counts ->
+                                        counts.processedLines() == 4
+                                                && counts.errorLines() == 1));
+        verify(batchWriter, never()).rewind(anyLong(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve marcar o log como falha quando um lote não é gravado")
+    void shouldMarkLogAsFailedWhenBatchFails() {
+        mockUpload(1L);
+        when(parser.parse(eq(SPOOLED), eq(0L), eq(1), any()))
+                .thenReturn(
+                        parseResult(
+                                List.of(createParsedLine(1L, 1)), List.of(), 1, LINE_BYTES));
+        when(aggregator.aggregate(anyList())).thenReturn(List.of(createUser(1L)));
+        doThrow(new FileProcessingException("Erro ao gravar"))
+                .when(batchWriter)
+                .commit(anyLong(), anyList(), anyInt(), any());
+
+        assertThatThrownBy(() -> useCase.execute(file))
+                .isInstanceOf(FileProcessingException.class);
+
+        verify(logData).updateStatus(1L, ProcessingStatus.FAILED);
+        verify(batchWriter).publish(1L);
+        verify(spool).delete(SPOOLED);
+        verify(logData, never())
+                .updateLog(
+                        anyLong(),
+                        eq(ProcessingStatus.SUCCESS),
+                        anyInt(),
+                        anyInt(),
+                        anyInt(),
+                        any());
+    }
+
+    @Test
+    @DisplayName("Deve interromper sem marcar falha nem apagar o spool quando perde o lease")
+    void shouldStopWithoutFailingWhenLeaseIsLost() {
+        mockUpload(1L);
+        when(parser.parse(eq(SPOOLED), eq(0L), eq(1), any()))
+                .thenReturn(
+                        parseResult(
+                                List.of(createParsedLine(1L, 1)), List.of(), 1, LINE_BYTES));
+        when(aggregator.aggregate(anyList())).thenReturn(List.of(createUser(1L)));
+        doThrow(new InvalidProcessingStateException("Log ID 1 não pertence mais ao nó node-a"))
+                .when(batchWriter)
+                .commit(anyLong(), anyList(), anyInt(), any());
+
+        assertThatThrownBy(() -> useCase.execute(file))
+                .isInstanceOf(InvalidProcessingStateException.class);
+
+        verify(logData, never()).updateStatus(anyLong(), any());
+        verify(spool, never()).delete(any());
+        verify(lease).release(1L);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar retomada de log cujo lease pertence a outro nó")
+    void shouldRejectResumeWhenAnotherNodeHoldsLease() {
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("test.txt");
+        when(logData.findCheckpoint(7L))
+                .thenReturn(
+                        Optional.of(
+                                checkpoint(ProcessingStatus.FAILED, ResumePoint.START, null)));
+        when(lease.acquire(7L)).thenReturn(false);
+
+        assertThatThrownBy(() -> useCase.resume(7L, file))
+                .isInstanceOf(InvalidProcessingStateException.class)
+                .hasMessageContaining("outro nó");
+
+        verify(logData, never()).updateStatus(anyLong(), any());
+        verify(spool, never()).store(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Deve retomar a partir do offset do checkpoint ignorando usuários gravados")
+    void shouldResumeFromCheckpointOffset() {
+        List<ParsedLine> tail =
+                List.of(createParsedLine(3L, 2), createParsedLine(2L, 3), createParsedLine(1L, 4));
+        User remaining = createUser(3L);
+
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("test.txt");
+
+        when(logData.findCheckpoint(7L))
+                .thenReturn(
+                        Optional.of(
+                                checkpoint(
+                                        ProcessingStatus.FAILED,
+                                        new ResumePoint(LINE_BYTES, 2),
+                                        null)));
+        when(lease.acquire(7L)).thenReturn(true);
+        when(spool.store(7L, file)).thenReturn(SPOOLED);
+        when(spool.size(SPOOLED)).thenReturn(4 * LINE_BYTES);
+        when(parser.parse(eq(SPOOLED), eq(LINE_BYTES), eq(2), any()))
+                .thenReturn(parseResult(tail, List.of(), 4, 4 * LINE_BYTES));
+        when(aggregator.aggregate(List.of(tail.get(0)))).thenReturn(List.of(remaining));
+
+        ProcessingResult result = useCase.resume(7L, file);
+
+        assertThat(result.getLogId()).isEqualTo(7L);
+        assertThat(result.getProcessedLines()).isEqualTo(4);
+        verify(logData).updateStatus(7L, ProcessingStatus.PROCESSING);
+        verify(batchWriter).commit(7L, List.of(remaining), 3, new ResumePoint(4 * LINE_BYTES, 5));
+        verify(batchWriter).publish(7L);
+        verify(logData)
+                .updateLog(eq(7L), eq(ProcessingStatus.SUCCESS), eq(4), eq(4), eq(0), any());
+        verify(logData, never())
+                .updateLog(
+                        anyLong(),
+                        eq(ProcessingStatus.PROCESSING),
+                        anyInt(),
+                        anyInt(),
+                        anyInt(),
+                        any());
+        verifyNoMoreInteractions(batchWriter);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar retomada de log que não falhou")
+    void shouldRejectResumeOfLogThatDidNotFail() {
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("test.txt");
+
+        when(logData.findCheckpoint(7L))
+                .thenReturn(
+                        Optional.of(
+                                checkpoint(ProcessingStatus.SUCCESS, ResumePoint.START, null)));
+
+        assertThatThrownBy(() -> useCase.resume(7L, file))
+                .isInstanceOf(InvalidProcessingStateException.class);
+
+        verify(parser, never()).parse(any(Path.class), anyLong(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar retomada com arquivo menor que o checkpoint")
+    void shouldRejectResumeWithFileShorterThanCheckpoint() {
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("test.txt");
+
+        when(logData.findCheckpoint(7L))
+                .thenReturn(
+                        Optional.of(
+                                checkpoint(
+                                        ProcessingStatus.FAILED,
+                                        new ResumePoint(LINE_BYTES, 2),
+                                        null)));
+        when(lease.acquire(7L)).thenReturn(true);
+        when(spool.store(7L, file)).thenReturn(SPOOLED);
+        when(spool.size(SPOOLED)).thenReturn(10L);
+
+        assertThatThrownBy(() -> useCase.resume(7L, file))
+                .isInstanceOf(InvalidFileFormatException.class);
+
+        verify(parser, never()).parse(any(Path.class), anyLong(), anyInt(), any());
+        verify(logData).updateStatus(7L, ProcessingStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("Deve recuperar processamento interrompido a partir do spool")
+    void shouldRecoverInterruptedProcessingFromSpool() {
+        when(logData.findCheckpoint(7L))
+                .thenReturn(
+                        Optional.of(
+                                checkpoint(
+                                        ProcessingStatus.PROCESSING,
+                                        new ResumePoint(4 * LINE_BYTES, 5),
+                                        SPOOLED.toString())));
+        when(spool.exists(SPOOLED.toString())).thenReturn(true);
+        when(lease.isHeld(7L)).thenReturn(true);
+        when(spool.size(SPOOLED)).thenReturn(4 * LINE_BYTES);
+        when(parser.parse(eq(SPOOLED), eq(4 * LINE_BYTES), eq(5), any()))
+                .thenReturn(parseResult(List.of(), List.of(), 4, 4 * LINE_BYTES));
+
+        ProcessingResult result = useCase.recover(7L);
+
+        assertThat(result.getStatus()).isEqualTo(ProcessingStatus.SUCCESS);
+        verify(spool, never()).store(anyLong(), any());
+        verify(batchWriter, never()).commit(anyLong(), anyList(), anyInt(), any());
+        verify(spool).delete(SPOOLED);
+        verify(logData).updateSpoolPath(7L, null);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar recuperação de log que não está em processamento")
+    void shouldRejectRecoveryOfLogNotProcessing() {
+        when(logData.findCheckpoint(7L))
+                .thenReturn(
+                        Optional.of(
+                                checkpoint(
+                                        ProcessingStatus.FAILED,
+                                        ResumePoint.START,
+                                        SPOOLED.toString())));
+
+        assertThatThrownBy(() -> useCase.recover(7L))
+                .isInstanceOf(InvalidProcessingStateException.class);
+
+        verify(parser, never()).parse(any(Path.class), anyLong(), anyInt(), any());
+    }
+
+    private ParseResult parseResult(
+            List<ParsedLine> lines, List<LineError> errors, int totalLines, long endOffset) {
+        ErrorSummary summary =
+                ErrorSummary.builder()
+                        .totalErrors(errors.size())
+                        .detailedErrors(errors.size())
+                        .truncated(false)
+                        .build();
+        return new ParseResult(lines, errors, summary, totalLines, endOffset);
+    }
+
+    private void mockUpload(Long logId) {
+        when(file.isEmpty()).thenReturn(false);
+        when(file.getOriginalFilename()).thenReturn("test.txt");
+
+        when(lease.nodeId()).thenReturn("node-a");
+        when(logData.createLog(eq("test.txt"), any(), eq("node-a"))).thenReturn(logId);
+        when(spool.store(logId, file)).thenReturn(SPOOLED);
+    }
+
+    private IngestCheckpoint checkpoint(
+            ProcessingStatus status, ResumePoint resumePoint, String spoolPath) {
+        return new IngestCheckpoint(
+                7L, "test.txt", status, 4, 4, 0, null, 2, 2L, resumePoint, spoolPath);
+    }
+
+    private User createUser(Long userId) {
+        return User.builder().userId(userId).name("Test").build();
     }
 
-    private ParsedLine createParsedLine() {
+    private ParsedLine createParsedLine(Long userId, int lineNumber) {
         return ParsedLine.builder()
-                .userId(1L)
+                .userId(userId)
                 .userName("Test")
                 .orderId(123L)
                 .productId(111L)
-                .value(new BigDecimal("100.00"))
+                .valueCents(10000L)
                 .date(LocalDate.now())
+                .lineNumber(lineNumber)
+                .offset((lineNumber - 1) * LINE_BYTES)
                 .build();
     }
 }
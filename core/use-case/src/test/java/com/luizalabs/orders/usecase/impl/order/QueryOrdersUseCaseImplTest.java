@@ -4,10 +4,31 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.luizalabs.orders.domain.dto.UserOrderResponseDTO;
+import com.luizalabs.orders.domain.entity.Order;
 import com.luizalabs.orders.domain.entity.User;
+import com.luizalabs.orders.domain.exception.InvalidRequestException;
+import com.luizalabs.orders.domain.exception.NotFoundException;
+import com.luizalabs.orders.usecase.config.OrderIndexProperties;
+import com.luizalabs.orders.usecase.port.QueryOrdersUseCase.Versioned;
 import com.luizalabs.orders.usecase.port.data.OrderDataPort;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort.DataVersion;
+import com.luizalabs.orders.usecase.port.data.OrderDataPort.OrderKey;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,26 +40,24 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("QueryOrdersUseCaseImpl - Testes Unitários")
 class QueryOrdersUseCaseImplTest {
 
+    private static final DataVersion VERSION = new DataVersion(7L, 1_615_161_600_000_000L);
+
     @Mock private OrderDataPort orderData;
 
+    private OrderIdIndex orderIndex;
+
+    private PoolOfOne pool;
+
     private QueryOrdersUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new QueryOrdersUseCaseImpl(orderData);
-    }
-
-    @Test
-    @DisplayName("Deve buscar todos os pedidos")
-    void shouldFindAllOrders() {
-        List<User> users = List.of(mock(User.class));
-
-        when(orderData.findAll()).thenReturn(users);
-
-        List<UserOrderResponseDTO> result = useCase.findAll();
-
-        assertThat(result).isNotEmpty();
-        verify(orderData).findAll();
+        OrderIndexProperties indexProperties = new OrderIndexProperties();
+        indexProperties.setEnabled(true);
+        orderIndex = new OrderIdIndex(orderData, indexProperties);
+        pool = new PoolOfOne();
+        useCase = new QueryOrdersUseCaseImpl(orderData, orderIndex, pool);
+        lenient().when(orderData.currentVersion()).thenReturn(VERSION);
     }
 
     @Test
@@ -49,60 +68,514 @@ class QueryOrdersUseCaseImplTest {
 
         when(orderData.findByOrderId(orderId)).thenReturn(users);
 
-        List<UserOrderResponseDTO> result = useCase.findByOrderId(orderId);
+        Versioned<List<UserOrderResponseDTO>> result = useCase.findByOrderId(orderId);
 
-        assertThat(result).isNotEmpty();
+        assertThat(result.value()).isNotEmpty();
+        assertThat(result.version()).isEqualTo("7-5bcfb1d6c4000");
         verify(orderData).findByOrderId(orderId);
     }
 
     @Test
-    @DisplayName("Deve buscar pedidos por intervalo de datas")
-    void shouldFindByDateRange() {
+    @DisplayName("Deve transmitir pedidos por intervalo de datas")
+    void shouldStreamByDateRange() {
         LocalDate start = LocalDate.of(2021, 1, 1);
         LocalDate end = LocalDate.of(2021, 12, 31);
-        List<User> users = List.of(mock(User.class));
+        when(orderData.streamByOrderDateBetween(start, end))
+                .thenReturn(Stream.of(createUser(1L), createUser(2L)));
+        List<UserOrderResponseDTO> received = new ArrayList<>();
+        List<String> versions = new ArrayList<>();
+
+        useCase.streamByDateRange(
+                start,
+                end,
+                rows -> {
+                    versions.add(rows.version());
+                    rows.value().forEach(received::add);
+                });
+
+        assertThat(received).extracting(UserOrderResponseDTO::getUserId).containsExactly(1L, 2L);
+        assertThat(versions).containsExactly("7-5bcfb1d6c4000");
+        verify(orderData).streamByOrderDateBetween(start, end);
+    }
 
-        when(orderData.findByOrderDateBetween(start, end)).thenReturn(users);
+    @Test
+    @DisplayName("Deve escrever o resultado compartilhado por datas fora da transação")
+    void shouldWriteSharedDateRangeOutsideTransaction() {
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        LocalDate end = LocalDate.of(2021, 12, 31);
+        when(orderData.streamByOrderDateBetween(start, end))
+                .thenReturn(Stream.of(createUser(1L), createUser(2L)));
+        List<Boolean> writtenInTransaction = new ArrayList<>();
 
-        List<UserOrderResponseDTO> result = useCase.findByDateRange(start, end);
+        useCase.streamByDateRange(
+                start,
+                end,
+                into(user -> writtenInTransaction.add(pool.inTransaction())));
 
-        assertThat(result).isNotEmpty();
-        verify(orderData).findByOrderDateBetween(start, end);
+        assertThat(writtenInTransaction).containsExactly(false, false);
     }
 
     @Test
-    @DisplayName("Deve buscar pedidos por data de início")
-    void shouldFindByStartDate() {
-        LocalDate startDate = LocalDate.of(2021, 6, 1);
-        List<User> users = List.of(mock(User.class));
+    @DisplayName("Deve transmitir nada quando não encontrar pedidos")
+    void shouldStreamNothingWhenNoOrdersFound() {
+        when(orderData.streamAll()).thenReturn(Stream.empty());
+        List<UserOrderResponseDTO> received = new ArrayList<>();
+
+        useCase.streamAll(into(received::add));
+
+        assertThat(received).isEmpty();
+    }
 
-        when(orderData.findByOrderStartDate(startDate)).thenReturn(users);
+    @Test
+    @DisplayName("Deve buscar usuário pela chave primária")
+    void shouldFindByUserId() {
+        when(orderData.findByUserId(70L)).thenReturn(Optional.of(createUser(70L)));
 
-        List<UserOrderResponseDTO> result = useCase.findByStartDate(startDate);
+        UserOrderResponseDTO result = useCase.findByUserId(70L);
 
-        assertThat(result).isNotEmpty();
-        verify(orderData).findByOrderStartDate(startDate);
+        assertThat(result.getUserId()).isEqualTo(70L);
+        verify(orderData, never()).streamAll();
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não encontrar pedidos")
-    void shouldReturnEmptyListWhenNoOrdersFound() {
-        when(orderData.findAll()).thenReturn(List.of());
+    @DisplayName("Deve lançar exceção quando o usuário não existe")
+    void shouldThrowWhenUserNotFound() {
+        when(orderData.findByUserId(70L)).thenReturn(Optional.empty());
 
-        List<UserOrderResponseDTO> result = useCase.findAll();
+        assertThatThrownBy(() -> useCase.findByUserId(70L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("70");
+    }
 
-        assertThat(result).isEmpty();
+    @Test
+    @DisplayName("Deve buscar vários usuários em uma consulta mantendo a ordem pedida")
+    void shouldBatchGetUsersInRequestedOrder() {
+        when(orderData.findByUserIds(Set.of(3L, 1L, 2L)))
+                .thenReturn(List.of(createUser(1L), createUser(3L)));
+
+        List<UserOrderResponseDTO> result = useCase.findByUserIds(List.of(3L, 1L, 3L, 2L));
+
+        assertThat(result).extracting(UserOrderResponseDTO::getUserId).containsExactly(3L, 1L);
+        verify(orderData).findByUserIds(Set.of(3L, 1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar consulta em lote vazia, com nulos ou acima do limite")
+    void shouldRejectInvalidBatchGet() {
+        List<Long> withNull = new ArrayList<>(List.of(1L));
+        withNull.add(null);
+        List<Long> tooMany = new ArrayList<>();
+        for (long id = 0; id <= QueryOrdersUseCaseImpl.MAX_BATCH_GET_SIZE; id++) {
+            tooMany.add(id);
+        }
+
+        assertThatThrownBy(() -> useCase.findByUserIds(List.of()))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> useCase.findByUserIds(null))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> useCase.findByUserIds(withNull))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> useCase.findByUserIds(tooMany))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("101");
+        verifyNoInteractions(orderData);
     }
 
     @Test
-    @DisplayName("Deve retornar lista vazia quando não encontrar pedidos por data de início")
-    void shouldReturnEmptyListWhenNoOrdersFoundByStartDate() {
-        LocalDate startDate = LocalDate.of(2021, 1, 1);
-        when(orderData.findByOrderStartDate(startDate)).thenReturn(List.of());
+    @DisplayName("Deve responder order_id ausente do índice sem consultar o banco")
+    void shouldAnswerIndexMissWithoutQueryingDatabase() {
+        loadIndex(new OrderKey(70L, 753L));
 
-        List<UserOrderResponseDTO> result = useCase.findByStartDate(startDate);
+        List<UserOrderResponseDTO> result = useCase.findByOrderId(999L).value();
 
         assertThat(result).isEmpty();
-        verify(orderData).findByOrderStartDate(startDate);
+        verify(orderData, never()).findByOrderId(any());
+        verify(orderData, never()).findByUserId(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar só o pedido do dono pela chave primária quando está no índice")
+    void shouldFetchSingleOrderByPrimaryKeyOnIndexHit() {
+        loadIndex(new OrderKey(70L, 753L));
+        User owner =
+                User.builder()
+                        .userId(70L)
+                        .name("Palmer Prosacco")
+                        .orders(List.of(createOrder(753L)))
+                        .build();
+        when(orderData.findUserOrder(70L, 753L)).thenReturn(Optional.of(owner));
+
+        List<UserOrderResponseDTO> result = useCase.findByOrderId(753L).value();
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getOrders()).hasSize(1);
+        assertThat(result.get(0).getOrders().get(0).getOrderId()).isEqualTo(753L);
+        verify(orderData, never()).findByOrderId(any());
+        verify(orderData, never()).findByUserId(any());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando o dono do índice não tem mais o pedido")
+    void shouldQueryDatabaseWhenIndexedOwnerNoLongerHasOrder() {
+        loadIndex(new OrderKey(70L, 753L));
+        when(orderData.findUserOrder(70L, 753L)).thenReturn(Optional.empty());
+        when(orderData.findByOrderId(753L)).thenReturn(List.of(createUser(71L)));
+
+        List<UserOrderResponseDTO> result = useCase.findByOrderId(753L).value();
+
+        assertThat(result).extracting(UserOrderResponseDTO::getUserId).containsExactly(71L);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando o order_id pertence a mais de um usuário")
+    void shouldQueryDatabaseWhenOrderIdIsShared() {
+        loadIndex(new OrderKey(70L, 753L), new OrderKey(71L, 753L));
+        when(orderData.findByOrderId(753L)).thenReturn(List.of(createUser(70L)));
+
+        useCase.findByOrderId(753L);
+
+        verify(orderData).findByOrderId(753L);
+        verify(orderData, never()).findByUserId(any());
+    }
+
+    @Test
+    @DisplayName("Deve transmitir todos os usuários ao consumidor e fechar o cursor")
+    void shouldStreamAllUsersAndCloseCursor() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<User> users =
+                Stream.of(createUser(1L), createUser(2L)).onClose(() -> closed.set(true));
+        when(orderData.streamAll()).thenReturn(users);
+        List<UserOrderResponseDTO> received = new ArrayList<>();
+
+        useCase.streamAll(into(received::add));
+
+        assertThat(received).extracting(UserOrderResponseDTO::getUserId).containsExactly(1L, 2L);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve fechar o cursor mesmo quando o consumidor falha")
+    void shouldCloseCursorWhenSinkFails() {
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        LocalDate end = LocalDate.of(2021, 12, 31);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(orderData.streamByOrderDateBetween(start, end))
+                .thenReturn(Stream.of(createUser(1L)).onClose(() -> closed.set(true)));
+
+        assertThatThrownBy(
+                        () ->
+                                useCase.streamByDateRange(
+                                        start,
+                                        end,
+                                        into(
+                                                user -> {
+                                                    throw new IllegalStateException(
+                                                            "cliente desconectou");
+                                                })))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve compartilhar a consulta por datas entre chamadas simultâneas")
+    void shouldShareConcurrentDateRangeQuery() throws Exception {
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        LocalDate end = LocalDate.of(2021, 12, 31);
+        CountDownLatch release = blockDateRangeQuery(start, end);
+        List<UserOrderResponseDTO> leaderRows = new CopyOnWriteArrayList<>();
+        List<UserOrderResponseDTO> followerRows = new CopyOnWriteArrayList<>();
+
+        Thread leader = streamInBackground(start, end, leaderRows::add);
+        awaitUntil(() -> dateRangeQueries() == 1);
+        Thread follower = streamInBackground(start, end, followerRows::add);
+        awaitUntil(() -> follower.getState() == Thread.State.WAITING);
+        release.countDown();
+        leader.join(5000);
+        follower.join(5000);
+
+        verify(orderData, times(1)).streamByOrderDateBetween(start, end);
+        assertThat(leaderRows).extracting(UserOrderResponseDTO::getUserId).containsExactly(1L, 2L);
+        assertThat(followerRows).isEqualTo(leaderRows);
+    }
+
+    @Test
+    @DisplayName("Não deve prender o seguidor à escrita do cliente que lidera a consulta")
+    void shouldServeFollowerWhenLeadingClientFails() throws Exception {
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        LocalDate end = LocalDate.of(2021, 12, 31);
+        CountDownLatch release = blockDateRangeQuery(start, end);
+        List<UserOrderResponseDTO> followerRows = new CopyOnWriteArrayList<>();
+
+        Thread leader =
+                streamInBackground(
+                        start,
+                        end,
+                        user -> {
+                            throw new IllegalStateException("cliente desconectou");
+                        });
+        awaitUntil(() -> dateRangeQueries() == 1);
+        Thread follower = streamInBackground(start, end, followerRows::add);
+        awaitUntil(() -> follower.getState() == Thread.State.WAITING);
+        release.countDown();
+        leader.join(5000);
+        follower.join(5000);
+
+        verify(orderData, times(1)).streamByOrderDateBetween(start, end);
+        assertThat(followerRows)
+                .extracting(UserOrderResponseDTO::getUserId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve entregar ao seguidor a versão lida junto com as linhas compartilhadas")
+    void shouldHandFollowerTheVersionReadWithSharedRows() throws Exception {
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        LocalDate end = LocalDate.of(2021, 12, 31);
+        when(orderData.currentVersion())
+                .thenReturn(VERSION)
+                .thenReturn(new DataVersion(8L, 1_615_161_600_000_000L));
+        CountDownLatch release = blockDateRangeQuery(start, end);
+        List<String> followerVersions = new CopyOnWriteArrayList<>();
+
+        Thread leader = streamInBackground(start, end, user -> {});
+        awaitUntil(() -> dateRangeQueries() == 1);
+        Thread follower =
+                Thread.ofPlatform()
+                        .start(
+                                () ->
+                                        useCase.streamByDateRange(
+                                                start,
+                                                end,
+                                                rows -> followerVersions.add(rows.version())));
+        awaitUntil(() -> follower.getState() == Thread.State.WAITING);
+        release.countDown();
+        leader.join(5000);
+        follower.join(5000);
+
+        verify(orderData, times(1)).currentVersion();
+        verify(orderData, times(1)).streamByOrderDateBetween(start, end);
+        assertThat(followerVersions).containsExactly("7-5bcfb1d6c4000");
+    }
+
+    @Test
+    @DisplayName("Não deve ocupar conexão do pool nos seguidores da consulta por datas")
+    void shouldNotTakeConnectionForDateRangeFollowers() throws Exception {
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        LocalDate end = LocalDate.of(2021, 12, 31);
+        CountDownLatch release = blockDateRangeQuery(start, end);
+        List<UserOrderResponseDTO> followerRows = new CopyOnWriteArrayList<>();
+
+        Thread leader = streamInBackground(start, end, user -> {});
+        awaitUntil(() -> dateRangeQueries() == 1);
+        Thread first = streamInBackground(start, end, followerRows::add);
+        Thread second = streamInBackground(start, end, followerRows::add);
+        awaitUntil(
+                () ->
+                        first.getState() == Thread.State.WAITING
+                                && second.getState() == Thread.State.WAITING);
+        release.countDown();
+        leader.join(5000);
+        first.join(5000);
+        second.join(5000);
+
+        assertThat(pool.checkouts()).isEqualTo(1);
+        assertThat(pool.exhausted()).isZero();
+        assertThat(followerRows).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Não deve ocupar conexão do pool nos seguidores da busca por orderId")
+    void shouldNotTakeConnectionForOrderIdFollowers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderData.findByOrderId(753L))
+                .thenAnswer(
+                        invocation -> {
+                            release.await(5, TimeUnit.SECONDS);
+                            return List.of(createUser(70L));
+                        });
+        List<Versioned<List<UserOrderResponseDTO>>> results = new CopyOnWriteArrayList<>();
+
+        Thread leader = Thread.ofPlatform().start(() -> results.add(useCase.findByOrderId(753L)));
+        awaitUntil(() -> pool.inUse());
+        Thread follower =
+                Thread.ofPlatform().start(() -> results.add(useCase.findByOrderId(753L)));
+        awaitUntil(() -> follower.getState() == Thread.State.WAITING);
+        release.countDown();
+        leader.join(5000);
+        follower.join(5000);
+
+        verify(orderData, times(1)).findByOrderId(753L);
+        assertThat(pool.checkouts()).isEqualTo(1);
+        assertThat(pool.exhausted()).isZero();
+        assertThat(results).hasSize(2).allMatch(result -> result.value().size() == 1);
+    }
+
+    @Test
+    @DisplayName("Deve transmitir em cursor próprio, na transação, o que excede o compartilhável")
+    void shouldStreamOwnCursorWhenResultIsTooLargeToShare() {
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        LocalDate end = LocalDate.of(2021, 12, 31);
+        int total = QueryOrdersUseCaseImpl.MAX_SHARED_ROWS + 5;
+        AtomicInteger closed = new AtomicInteger();
+        when(orderData.streamByOrderDateBetween(start, end))
+                .thenAnswer(
+                        invocation ->
+                                LongStream.rangeClosed(1, total)
+                                        .mapToObj(this::createUser)
+                                        .onClose(closed::incrementAndGet));
+        List<UserOrderResponseDTO> received = new ArrayList<>();
+        AtomicBoolean writtenInTransaction = new AtomicBoolean(true);
+
+        useCase.streamByDateRange(
+                start,
+                end,
+                into(
+                        user -> {
+                            received.add(user);
+                            writtenInTransaction.compareAndSet(true, pool.inTransaction());
+                        }));
+
+        assertThat(received).hasSize(total);
+        assertThat(received.get(total - 1).getUserId()).isEqualTo((long) total);
+        assertThat(writtenInTransaction).isTrue();
+        assertThat(closed).hasValue(2);
+        verify(orderData, times(2)).streamByOrderDateBetween(start, end);
+    }
+
+    @Test
+    @DisplayName("Deve mudar a versão dos dados a cada geração gravada")
+    void shouldChangeVersionWithEachGeneration() {
+        when(orderData.currentVersion())
+                .thenReturn(new DataVersion(7L, 1_615_161_600_000_000L))
+                .thenReturn(new DataVersion(7L, 1_615_161_600_000_000L))
+                .thenReturn(new DataVersion(8L, 1_615_161_600_000_000L));
+
+        String first = useCase.currentVersion();
+
+        assertThat(useCase.currentVersion()).isEqualTo(first);
+        assertThat(useCase.currentVersion()).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Deve entregar a versão lida na mesma transação da consulta")
+    void shouldReadWithinCurrentVersion() {
+        when(orderData.findByUserId(70L)).thenReturn(Optional.of(createUser(70L)));
+
+        String read =
+                useCase.atCurrentVersion(
+                        version -> version + "/" + useCase.findByUserId(70L).getUserId());
+
+        assertThat(read).isEqualTo("7-5bcfb1d6c4000/70");
+    }
+
+    private CountDownLatch blockDateRangeQuery(LocalDate start, LocalDate end) {
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderData.streamByOrderDateBetween(start, end))
+                .thenAnswer(
+                        invocation -> {
+                            release.await(5, TimeUnit.SECONDS);
+                            return Stream.of(createUser(1L), createUser(2L));
+                        });
+        return release;
+    }
+
+    private Thread streamInBackground(
+            LocalDate start, LocalDate end, Consumer<UserOrderResponseDTO> sink) {
+        return Thread.ofPlatform()
+                .start(
+                        () -> {
+                            try {
+                                useCase.streamByDateRange(start, end, into(sink));
+                            } catch (IllegalStateException e) {
+                                // falha esperada do consumidor que lidera a consulta
+                            }
+                        });
+    }
+
+    private static Consumer<Versioned<Stream<UserOrderResponseDTO>>> into(
+            Consumer<UserOrderResponseDTO> sink) {
+        return rows -> rows.value().forEach(sink);
+    }
+
+    private long dateRangeQueries() {
+        return mockingDetails(orderData).getInvocations().stream()
+                .filter(call -> call.getMethod().getName().equals("streamByOrderDateBetween"))
+                .count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("tempo de espera esgotado").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private void loadIndex(OrderKey... keys) {
+        when(orderData.findOrderKeys(anyLong(), anyInt()))
+                .thenReturn(List.of(keys))
+                .thenReturn(List.of());
+        orderIndex.load();
+    }
+
+    private Order createOrder(Long orderId) {
+        return Order.builder()
+                .orderId(orderId)
+                .date(LocalDate.of(2021, 3, 8))
+                .products(List.of())
+                .build();
+    }
+
+    private User createUser(Long userId) {
+        return User.builder().userId(userId).name("User " + userId).orders(List.of()).build();
+    }
+
+    private static final class PoolOfOne extends ReadOnlyTransaction {
+
+        private final Semaphore connection = new Semaphore(1);
+        private final AtomicInteger checkouts = new AtomicInteger();
+        private final AtomicInteger exhausted = new AtomicInteger();
+        private final ThreadLocal<Boolean> open = ThreadLocal.withInitial(() -> false);
+
+        @Override
+        public void run(Runnable work) {
+            call(
+                    () -> {
+                        work.run();
+                        return null;
+                    });
+        }
+
+        @Override
+        public <T> T call(Supplier<T> work) {
+            if (!connection.tryAcquire()) {
+                exhausted.incrementAndGet();
+                throw new IllegalStateException("Pool de conexões esgotado");
+            }
+            checkouts.incrementAndGet();
+            open.set(true);
+            try {
+                return super.call(work);
+            } finally {
+                open.set(false);
+                connection.release();
+            }
+        }
+
+        boolean inTransaction() {
+            return open.get();
+        }
+
+        boolean inUse() {
+            return connection.availablePermits() == 0;
+        }
+
+        int checkouts() {
+            return checkouts.get();
+        }
+
+        int exhausted() {
+            return exhausted.get();
+        }
     }
 }
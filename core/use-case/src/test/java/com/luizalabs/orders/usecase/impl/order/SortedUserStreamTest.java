@@ -0,0 +1,130 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.luizalabs.orders.domain.dto.ParsedLine;
+import com.luizalabs.orders.domain.entity.User;
+import com.luizalabs.orders.usecase.port.data.FileProcessingLogPort.ResumePoint;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SortedUserStream - Testes Unitários")
+class SortedUserStreamTest {
+
+    private static final ResumePoint END = new ResumePoint(10 * 96L, 11);
+
+    private final DataAggregatorService aggregator = new DataAggregatorService();
+
+    private final List<List<User>> batches = new ArrayList<>();
+    private final List<Integer> committed = new ArrayList<>();
+    private final List<ResumePoint> resumePoints = new ArrayList<>();
+    private final List<Integer> lineCounts = new ArrayList<>();
+    private final List<ParsedLine> unsorted = new ArrayList<>();
+    private boolean committedBeforeFallback;
+
+    @Test
+    @DisplayName("Deve gravar cada usuário assim que o user_id muda")
+    void shouldCommitUsersAsSoonAsTheyComplete() {
+        List<ParsedLine> lines =
+                List.of(line(1L, 10L, 1), line(1L, 11L, 2), line(2L, 20L, 3), line(4L, 40L, 4));
+        SortedUserStream stream = stream(1, 0);
+
+        stream.accept(lines.get(0));
+        stream.accept(lines.get(1));
+        assertThat(batches).isEmpty();
+
+        stream.accept(lines.get(2));
+        assertThat(batches).hasSize(1);
+
+        stream.accept(lines.get(3));
+        stream.finish(END);
+
+        assertThat(batches.stream().flatMap(List::stream).toList())
+                .isEqualTo(aggregator.aggregate(lines));
+        assertThat(committed).containsExactly(1, 2, 3);
+        assertThat(resumePoints)
+                .containsExactly(new ResumePoint(2 * 96L, 3), new ResumePoint(3 * 96L, 4), END);
+        assertThat(lineCounts).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar usuários em lotes e continuar a contagem do checkpoint")
+    void shouldBatchUsersContinuingFromCheckpoint() {
+        SortedUserStream stream = stream(2, 5);
+
+        for (long userId = 6; userId <= 10; userId++) {
+            stream.accept(line(userId, userId * 10, (int) userId));
+        }
+        stream.finish(END);
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(committed).containsExactly(7, 9, 10);
+    }
+
+    @Test
+    @DisplayName("Deve desviar para o fallback a partir da primeira linha fora de ordem")
+    void shouldFallBackOnFirstLineOutOfUserOrder() {
+        SortedUserStream stream = stream(1, 0);
+        stream.accept(line(1L, 10L, 1));
+        stream.accept(line(2L, 20L, 2));
+        stream.accept(line(3L, 30L, 3));
+
+        stream.accept(line(1L, 11L, 4));
+        stream.accept(line(4L, 40L, 5));
+        stream.finish(END);
+
+        assertThat(stream.isSorted()).isFalse();
+        assertThat(committed).containsExactly(1, 2);
+        assertThat(committedBeforeFallback).isTrue();
+        assertThat(unsorted).extracting(ParsedLine::getLineNumber).containsExactly(4, 5);
+    }
+
+    @Test
+    @DisplayName("Deve tratar como fora de ordem usuário já gravado antes da retomada")
+    void shouldFallBackWhenUserWasCommittedBeforeResume() {
+        SortedUserStream stream =
+                new SortedUserStream(aggregator, 10, 3, 3L, this::commit, this::fallBack);
+
+        stream.accept(line(3L, 31L, 7));
+        stream.finish(END);
+
+        assertThat(stream.isSorted()).isFalse();
+        assertThat(batches).isEmpty();
+        assertThat(committedBeforeFallback).isFalse();
+        assertThat(unsorted).extracting(ParsedLine::getLineNumber).containsExactly(7);
+    }
+
+    private SortedUserStream stream(int batchSize, int committedBefore) {
+        return new SortedUserStream(
+                aggregator, batchSize, committedBefore, null, this::commit, this::fallBack);
+    }
+
+    private void commit(List<User> batch, int count, ResumePoint resumePoint, int lines) {
+        batches.add(batch);
+        committed.add(count);
+        resumePoints.add(resumePoint);
+        lineCounts.add(lines);
+    }
+
+    private Consumer<ParsedLine> fallBack(ParsedLine line, boolean committedAny) {
+        committedBeforeFallback = committedAny;
+        return unsorted::add;
+    }
+
+    private ParsedLine line(Long userId, Long orderId, int lineNumber) {
+        return ParsedLine.builder()
+                .userId(userId)
+                .userName("User " + userId)
+                .orderId(orderId)
+                .productId((long) lineNumber)
+                .valueCents(1000L * lineNumber)
+                .date(LocalDate.of(2021, 3, 8))
+                .lineNumber(lineNumber)
+                .offset((lineNumber - 1) * 96L)
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.luizalabs.orders.domain.exception.UploadRejectedException;
+import com.luizalabs.orders.usecase.config.IngestProperties;
+import com.luizalabs.orders.usecase.port.UploadAdmission.Permit;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+@DisplayName("UploadAdmissionControl - Testes Unitários")
+class UploadAdmissionControlTest {
+
+    private IngestProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IngestProperties();
+        properties.getAdmission().setMaxConcurrentUploads(1);
+        properties.getAdmission().setMaxInFlightSize(DataSize.ofBytes(1000));
+        properties.getAdmission().setMaxQueueDepth(1);
+        properties.getAdmission().setQueueTimeout(Duration.ofMillis(50));
+        properties.getAdmission().setRetryAfter(Duration.ofSeconds(15));
+    }
+
+    @Test
+    @DisplayName("Deve admitir upload dentro da capacidade")
+    void shouldAdmitUploadWithinCapacity() {
+        UploadAdmissionControl admission = new UploadAdmissionControl(properties);
+
+        try (Permit permit = admission.acquire(500)) {
+            assertThat(admission.activeUploads()).isEqualTo(1);
+            assertThat(admission.inFlightBytes()).isEqualTo(500);
+        }
+
+        assertThat(admission.activeUploads()).isZero();
+        assertThat(admission.inFlightBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar com Retry-After quando o limite de concorrência esgota o timeout")
+    void shouldRejectWhenConcurrencyLimitTimesOut() {
+        UploadAdmissionControl admission = new UploadAdmissionControl(properties);
+
+        try (Permit permit = admission.acquire(100)) {
+            assertThatThrownBy(() -> admission.acquire(100))
+                    .isInstanceOf(UploadRejectedException.class)
+                    .extracting("retryAfterSeconds")
+                    .isEqualTo(15L);
+        }
+
+        assertThat(admission.queueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o orçamento de bytes em processamento")
+    void shouldRespectInFlightByteBudget() {
+        properties.getAdmission().setMaxConcurrentUploads(5);
+        UploadAdmissionControl admission = new UploadAdmissionControl(properties);
+
+        try (Permit permit = admission.acquire(800)) {
+            assertThatThrownBy(() -> admission.acquire(300))
+                    .isInstanceOf(UploadRejectedException.class);
+
+            try (Permit small = admission.acquire(200)) {
+                assertThat(admission.inFlightBytes()).isEqualTo(1000);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve admitir arquivo maior que o orçamento quando estiver sozinho")
+    void shouldAdmitOversizedFileWhenAlone() {
+        UploadAdmissionControl admission = new UploadAdmissionControl(properties);
+
+        try (Permit permit = admission.acquire(5000)) {
+            assertThat(admission.inFlightBytes()).isEqualTo(1000);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve liberar upload enfileirado quando a capacidade é devolvida")
+    void shouldAdmitQueuedUploadWhenCapacityIsReleased() throws Exception {
+        properties.getAdmission().setQueueTimeout(Duration.ofSeconds(5));
+        UploadAdmissionControl admission = new UploadAdmissionControl(properties);
+        Permit first = admission.acquire(100);
+
+        CompletableFuture<Permit> queued =
+                CompletableFuture.supplyAsync(() -> admission.acquire(100));
+
+        while (admission.queueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+        first.close();
+
+        try (Permit permit = queued.get(5, TimeUnit.SECONDS)) {
+            assertThat(admission.activeUploads()).isEqualTo(1);
+            assertThat(admission.queueDepth()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar imediatamente quando a fila está cheia")
+    void shouldRejectImmediatelyWhenQueueIsFull() throws Exception {
+        properties.getAdmission().setQueueTimeout(Duration.ofSeconds(5));
+        UploadAdmissionControl admission = new UploadAdmissionControl(properties);
+        Permit first = admission.acquire(100);
+
+        CompletableFuture<Permit> queued =
+                CompletableFuture.supplyAsync(() -> admission.acquire(100));
+        while (admission.queueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> admission.acquire(100))
+                .isInstanceOf(UploadRejectedException.class)
+                .hasMessageContaining("Fila de uploads cheia");
+
+        first.close();
+        queued.get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    @DisplayName("Deve admitir uploads enfileirados em ordem de chegada")
+    void shouldAdmitQueuedUploadsInArrivalOrder() throws Exception {
+        properties.getAdmission().setMaxConcurrentUploads(5);
+        properties.getAdmission().setMaxQueueDepth(2);
+        properties.getAdmission().setQueueTimeout(Duration.ofSeconds(5));
+        UploadAdmissionControl admission = new UploadAdmissionControl(properties);
+        Permit first = admission.acquire(600);
+
+        CompletableFuture<Permit> large =
+                CompletableFuture.supplyAsync(() -> admission.acquire(800));
+        while (admission.queueDepth() < 1) {
+            Thread.onSpinWait();
+        }
+        CompletableFuture<Permit> small =
+                CompletableFuture.supplyAsync(() -> admission.acquire(100));
+        while (admission.queueDepth() < 2) {
+            Thread.onSpinWait();
+        }
+
+        assertThat(admission.activeUploads()).isEqualTo(1);
+        assertThat(small).isNotDone();
+
+        first.close();
+
+        try (Permit largePermit = large.get(5, TimeUnit.SECONDS);
+                Permit smallPermit = small.get(5, TimeUnit.SECONDS)) {
+            assertThat(admission.inFlightBytes()).isEqualTo(900);
+            assertThat(admission.queueDepth()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ignorar fechamento duplicado da permissão")
+    void shouldIgnoreDuplicatedClose() {
+        UploadAdmissionControl admission = new UploadAdmissionControl(properties);
+
+        Permit permit = admission.acquire(100);
+        permit.close();
+        permit.close();
+
+        assertThat(admission.activeUploads()).isZero();
+        assertThat(admission.inFlightBytes()).isZero();
+    }
+}
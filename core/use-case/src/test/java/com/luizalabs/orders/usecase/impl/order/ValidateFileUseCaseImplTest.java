@@ -0,0 +1,118 @@
+package com.luizalabs.orders.usecase.impl.order;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.luizalabs.orders.domain.dto.LineError;
+import com.luizalabs.orders.domain.dto.ValidationResult;
+import com.luizalabs.orders.domain.exception.InvalidFileFormatException;
+import com.luizalabs.orders.usecase.config.IngestProperties;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+@DisplayName("ValidateFileUseCaseImpl - Testes Unitários")
+class ValidateFileUseCaseImplTest {
+
+    private static final String VALID_LINE =
+            "0000000070                              Palmer"
+                    + " Prosacco0000000753000000000300000018367420210308";
+    private static final String INVALID_DATE_LINE = VALID_LINE.substring(0, 87) + "20211308";
+
+    private IngestProperties properties;
+    private ValidateFileUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IngestProperties();
+        useCase = new ValidateFileUseCaseImpl(properties);
+    }
+
+    @Test
+    @DisplayName("Deve validar arquivo sem erros")
+    void shouldValidateFileWithoutErrors() throws IOException {
+        ValidationResult result = useCase.validate(createFile(VALID_LINE + "\n" + VALID_LINE));
+
+        assertThat(result.getFileName()).isEqualTo("test.txt");
+        assertThat(result.getTotalLines()).isEqualTo(2);
+        assertThat(result.getValidLines()).isEqualTo(2);
+        assertThat(result.getErrorLines()).isZero();
+        assertThat(result.getHasErrors()).isFalse();
+        assertThat(result.getErrors()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado do parser independente do particionamento")
+    void shouldMatchParserRegardlessOfChunking() throws IOException {
+        String content =
+                VALID_LINE
+                        + "\r\n"
+                        + "invalid"
+                        + "\n\n"
+                        + VALID_LINE
+                        + "\n"
+                        + "x".repeat(250)
+                        + "\n"
+                        + INVALID_DATE_LINE
+                        + "\n"
+                        + VALID_LINE;
+        FileParserService.ParseResult expected = new FileParserService().parse(createFile(content));
+
+        int[][] configurations = {{1, 1}, {100, 4}, {150, 2}, {4096, 8}};
+        for (int[] configuration : configurations) {
+            properties.getValidation().setChunkSize(DataSize.ofBytes(configuration[0]));
+            properties.getValidation().setParallelism(configuration[1]);
+
+            ValidationResult result = useCase.validate(createFile(content));
+
+            assertThat(result.getTotalLines()).isEqualTo(expected.totalLines()).isEqualTo(7);
+            assertThat(result.getValidLines()).isEqualTo(expected.validLines().size()).isEqualTo(3);
+            assertThat(result.getErrorLines()).isEqualTo(expected.errorCount()).isEqualTo(3);
+            assertThat(result.getErrors())
+                    .extracting(LineError::getLineNumber)
+                    .containsExactly(2, 5, 6);
+            assertThat(result.getErrorSummary().getByCode())
+                    .containsExactly(Map.entry("INVALID_LENGTH", 2), Map.entry("INVALID_DATE", 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve limitar a amostra de erros e contar todos")
+    void shouldCapErrorSampleAndCountAll() throws IOException {
+        properties.getErrors().setMaxDetailed(2);
+        properties.getValidation().setChunkSize(DataSize.ofBytes(64));
+        properties.getValidation().setParallelism(3);
+
+        ValidationResult result = useCase.validate(createFile("a\nb\nc\nd\ne\n"));
+
+        assertThat(result.getErrorLines()).isEqualTo(5);
+        assertThat(result.getErrors()).extracting(LineError::getLineNumber).containsExactly(1, 2);
+        assertThat(result.getErrorSummary().getTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivo com extensão inválida antes de ler")
+    void shouldRejectInvalidExtension() throws IOException {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.getOriginalFilename()).thenReturn("test.csv");
+
+        assertThatThrownBy(() -> useCase.validate(file))
+                .isInstanceOf(InvalidFileFormatException.class);
+
+        verify(file, never()).getInputStream();
+    }
+
+    private MultipartFile createFile(String content) throws IOException {
+        byte[] bytes = content.getBytes();
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(bytes));
+        when(file.getOriginalFilename()).thenReturn("test.txt");
+        when(file.getSize()).thenReturn((long) bytes.length);
+        return file;
+    }
+}
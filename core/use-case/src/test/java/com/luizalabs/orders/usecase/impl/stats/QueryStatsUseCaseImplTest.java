@@ -0,0 +1,66 @@
+package com.luizalabs.orders.usecase.impl.stats;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.luizalabs.orders.domain.dto.DailyOrderStats;
+import com.luizalabs.orders.domain.dto.DailyOrderStatsDTO;
+import com.luizalabs.orders.usecase.port.data.DailyOrderStatsPort;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueryStatsUseCaseImpl - Testes Unitários")
+class QueryStatsUseCaseImplTest {
+
+    @Mock private DailyOrderStatsPort statsData;
+
+    private QueryStatsUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new QueryStatsUseCaseImpl(statsData);
+    }
+
+    @Test
+    @DisplayName("Deve retornar estatísticas diárias formatadas")
+    void shouldReturnFormattedDailyStats() {
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        LocalDate end = LocalDate.of(2021, 12, 31);
+        DailyOrderStats stats =
+                DailyOrderStats.builder()
+                        .date(LocalDate.of(2021, 3, 8))
+                        .orderCount(12L)
+                        .productCount(30L)
+                        .revenueCents(1836740L)
+                        .build();
+
+        when(statsData.findBetween(start, end)).thenReturn(List.of(stats));
+
+        List<DailyOrderStatsDTO> result = useCase.findDailyStats(start, end);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getDate()).isEqualTo("2021-03-08");
+        assertThat(result.get(0).getOrderCount()).isEqualTo(12L);
+        assertThat(result.get(0).getProductCount()).isEqualTo(30L);
+        assertThat(result.get(0).getRevenue()).isEqualTo("18367.40");
+        verify(statsData).findBetween(start, end);
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia quando não houver estatísticas no intervalo")
+    void shouldReturnEmptyListWhenNoStats() {
+        LocalDate start = LocalDate.of(2021, 1, 1);
+        LocalDate end = LocalDate.of(2021, 1, 31);
+
+        when(statsData.findBetween(start, end)).thenReturn(List.of());
+
+        assertThat(useCase.findDailyStats(start, end)).isEmpty();
+    }
+}
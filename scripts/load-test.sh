@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+#
+# Teste de carga simples para comparar a API com e sem virtual threads.
+#
+# Uso:
+#   scripts/load-test.sh query  [concorrência] [requisições]
+#   scripts/load-test.sh upload [concorrência] [requisições] [arquivo]
+#
+# Variáveis:
+#   BASE_URL    URL base da API (default: http://localhost:8080/api)
+#   LIMIT_RATE  limita a banda de cada cliente no upload, simulando clientes lentos (ex.: 32k)
+#
+# Comparação:
+#   VIRTUAL_THREADS_ENABLED=false make run   ->  scripts/load-test.sh upload 200 400
+#   VIRTUAL_THREADS_ENABLED=true  make run   ->  scripts/load-test.sh upload 200 400
+
+set -euo pipefail
+
+MODE=${1:-query}
+CONCURRENCY=${2:-200}
+REQUESTS=${3:-2000}
+FILE=${4:-}
+BASE_URL=${BASE_URL:-http://localhost:8080/api}
+LIMIT_RATE=${LIMIT_RATE:-}
+
+RESULTS=$(mktemp)
+trap 'rm -f "$RESULTS" "${GENERATED_FILE:-}"' EXIT
+
+if [[ "$MODE" == "upload" && -z "$FILE" ]]; then
+    GENERATED_FILE=$(mktemp --suffix=.txt)
+    for i in $(seq 1 2000); do
+        printf '%010d%45s%010d%010d%12s%s\n' "$i" "Cliente $i" "$i" 1 "100.00" 20210308
+    done > "$GENERATED_FILE"
+    FILE=$GENERATED_FILE
+fi
+
+run_request() {
+    case "$MODE" in
+        query)
+            curl -s -o /dev/null -w '%{http_code} %{time_total}\n' \
+                "$BASE_URL/v1/orders?startDate=2021-01-01&endDate=2021-12-31"
+            ;;
+        upload)
+            curl -s -o /dev/null -w '%{http_code} %{time_total}\n' \
+                ${LIMIT_RATE:+--limit-rate "$LIMIT_RATE"} \
+                -F "file=@$FILE;filename=load-test.txt" \
+                "$BASE_URL/v1/orders/upload"
+            ;;
+        *)
+            echo "Modo inválido: $MODE (use query ou upload)" >&2
+            exit 1
+            ;;
+    esac
+}
+
+export -f run_request
+export MODE BASE_URL FILE LIMIT_RATE
+
+echo "Modo: $MODE | Concorrência: $CONCURRENCY | Requisições: $REQUESTS"
+
+START=$(date +%s.%N)
+seq "$REQUESTS" | xargs -P "$CONCURRENCY" -I{} bash -c run_request >> "$RESULTS"
+END=$(date +%s.%N)
+
+sort -k2 -n "$RESULTS" | awk -v start="$START" -v end="$END" '
+    { codes[$1]++; times[NR] = $2 }
+    END {
+        elapsed = end - start
+        printf "Tempo total: %.2fs | Throughput: %.1f req/s\n", elapsed, NR / elapsed
+        printf "Latência p50: %.3fs | p95: %.3fs | p99: %.3fs\n",
+            times[int(NR * 0.50)], times[int(NR * 0.95)], times[int(NR * 0.99)]
+        for (code in codes) printf "HTTP %s: %d\n", code, codes[code]
+    }'